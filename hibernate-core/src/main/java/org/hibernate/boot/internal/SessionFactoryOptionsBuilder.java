@@ -69,6 +69,7 @@ import static org.hibernate.cfg.AvailableSettings.ALLOW_ENHANCEMENT_AS_PROXY;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_JTA_TRANSACTION_ACCESS;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_REFRESH_DETACHED_ENTITY;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_UPDATE_OUTSIDE_TRANSACTION;
+import static org.hibernate.cfg.AvailableSettings.APPEND_ONLY_INVERSE_ONE_TO_MANY;
 import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
@@ -91,6 +92,7 @@ import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
 import static org.hibernate.cfg.AvailableSettings.HQL_BULK_ID_STRATEGY;
 import static org.hibernate.cfg.AvailableSettings.IMMUTABLE_ENTITY_UPDATE_QUERY_HANDLING_MODE;
 import static org.hibernate.cfg.AvailableSettings.INTERCEPTOR;
+import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_ARRAY_BINDING;
 import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_PADDING;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TIME_ZONE;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TYLE_PARAMS_ZERO_BASE;
@@ -101,11 +103,14 @@ import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLV
 import static org.hibernate.cfg.AvailableSettings.NATIVE_EXCEPTION_HANDLING_51_COMPLIANCE;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.JPA_CALLBACKS_ENABLED;
+import static org.hibernate.cfg.AvailableSettings.LAZY_GROUP_BATCH_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
+import static org.hibernate.cfg.AvailableSettings.PARALLEL_PERSISTER_CREATION;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.PROCEDURE_NULL_PARAM_PASSING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
+import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING_PARALLEL;
 import static org.hibernate.cfg.AvailableSettings.QUERY_SUBSTITUTIONS;
 import static org.hibernate.cfg.AvailableSettings.RELEASE_CONNECTIONS;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
@@ -190,6 +195,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private TempTableDdlTransactionHandling tempTableDdlTransactionHandling;
 	private BatchFetchStyle batchFetchStyle;
 	private boolean delayBatchFetchLoaderCreations;
+	private boolean parallelPersisterCreation;
+	private boolean appendOnlyInverseOneToMany;
+	private int lazyGroupBatchFetchSize;
 	private int defaultBatchFetchSize;
 	private Integer maximumFetchDepth;
 	private NullPrecedence defaultNullPrecedence;
@@ -208,6 +216,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	// Queries
 	private Map querySubstitutions;
 	private boolean namedQueryStartupCheckingEnabled;
+	private boolean parallelNamedQueryStartupChecking;
 	private boolean conventionalJavaConstants;
 	private final boolean procedureParameterNullPassingEnabled;
 	private final boolean collectionJoinSubqueryRewriteEnabled;
@@ -235,6 +244,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean commentsEnabled;
 	private PhysicalConnectionHandlingMode connectionHandlingMode;
 	private boolean connectionProviderDisablesAutoCommit;
+	private int preparedStatementCacheSize;
 	private boolean wrapResultSetsEnabled;
 	private TimeZone jdbcTimeZone;
 	private boolean queryParametersValidationEnabled;
@@ -247,6 +257,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	private boolean failOnPaginationOverCollectionFetchEnabled;
 	private boolean inClauseParameterPaddingEnabled;
+	private boolean inClauseParameterArrayBindingEnabled;
 
 	private boolean nativeExceptionHandling51Compliance;
 	private int queryStatisticsMaxSize;
@@ -340,6 +351,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 		this.batchFetchStyle = BatchFetchStyle.interpret( configurationSettings.get( BATCH_FETCH_STYLE ) );
 		this.delayBatchFetchLoaderCreations = cfgService.getSetting( DELAY_ENTITY_LOADER_CREATIONS, BOOLEAN, true );
+		this.parallelPersisterCreation = cfgService.getSetting( PARALLEL_PERSISTER_CREATION, BOOLEAN, false );
+		this.appendOnlyInverseOneToMany = cfgService.getSetting( APPEND_ONLY_INVERSE_ONE_TO_MANY, BOOLEAN, false );
+		this.lazyGroupBatchFetchSize = ConfigurationHelper.getInt( LAZY_GROUP_BATCH_FETCH_SIZE, configurationSettings, 1 );
 		this.defaultBatchFetchSize = ConfigurationHelper.getInt( DEFAULT_BATCH_FETCH_SIZE, configurationSettings, -1 );
 		this.maximumFetchDepth = ConfigurationHelper.getInteger( MAX_FETCH_DEPTH, configurationSettings );
 		final String defaultNullPrecedence = ConfigurationHelper.getString(
@@ -356,6 +370,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 		this.querySubstitutions = ConfigurationHelper.toMap( QUERY_SUBSTITUTIONS, " ,=;:\n\t\r\f", configurationSettings );
 		this.namedQueryStartupCheckingEnabled = cfgService.getSetting( QUERY_STARTUP_CHECKING, BOOLEAN, true );
+		this.parallelNamedQueryStartupChecking = cfgService.getSetting( QUERY_STARTUP_CHECKING_PARALLEL, BOOLEAN, false );
 		this.conventionalJavaConstants = cfgService.getSetting(
 				CONVENTIONAL_JAVA_CONSTANTS, BOOLEAN, true );
 		this.procedureParameterNullPassingEnabled = cfgService.getSetting( PROCEDURE_NULL_PARAM_PASSING, BOOLEAN, false );
@@ -447,6 +462,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				configurationSettings,
 				false
 		);
+		this.preparedStatementCacheSize = ConfigurationHelper.getInt(
+				AvailableSettings.STATEMENT_CACHE_SIZE,
+				configurationSettings,
+				0
+		);
 
 		this.commentsEnabled = ConfigurationHelper.getBoolean( USE_SQL_COMMENTS, configurationSettings );
 
@@ -515,6 +535,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				false
 		);
 
+		this.inClauseParameterArrayBindingEnabled = ConfigurationHelper.getBoolean(
+				IN_CLAUSE_PARAMETER_ARRAY_BINDING,
+				configurationSettings,
+				false
+		);
+
 		this.nativeExceptionHandling51Compliance = ConfigurationHelper.getBoolean(
 				NATIVE_EXCEPTION_HANDLING_51_COMPLIANCE,
 				configurationSettings,
@@ -814,6 +840,21 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return delayBatchFetchLoaderCreations;
 	}
 
+	@Override
+	public boolean isParallelPersisterCreationEnabled() {
+		return parallelPersisterCreation;
+	}
+
+	@Override
+	public boolean isAppendOnlyInverseOneToManyEnabled() {
+		return appendOnlyInverseOneToMany;
+	}
+
+	@Override
+	public int getLazyGroupBatchFetchSize() {
+		return lazyGroupBatchFetchSize;
+	}
+
 	@Override
 	public int getDefaultBatchFetchSize() {
 		return defaultBatchFetchSize;
@@ -864,6 +905,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return namedQueryStartupCheckingEnabled;
 	}
 
+	@Override
+	public boolean isParallelNamedQueryStartupCheckingEnabled() {
+		return parallelNamedQueryStartupChecking;
+	}
+
 	@Override
 	public boolean isConventionalJavaConstants() {
 		return conventionalJavaConstants;
@@ -974,6 +1020,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return connectionProviderDisablesAutoCommit;
 	}
 
+	@Override
+	public int getPreparedStatementCacheSize() {
+		return preparedStatementCacheSize;
+	}
+
 	@Override
 	public boolean isCommentsEnabled() {
 		return commentsEnabled;
@@ -1039,6 +1090,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return this.inClauseParameterPaddingEnabled;
 	}
 
+	@Override
+	public boolean inClauseParameterArrayBindingEnabled() {
+		return this.inClauseParameterArrayBindingEnabled;
+	}
+
 	@Override
 	public JpaCompliance getJpaCompliance() {
 		return jpaCompliance;
@@ -177,6 +177,21 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isDelayBatchFetchLoaderCreationsEnabled();
 	}
 
+	@Override
+	public boolean isParallelPersisterCreationEnabled() {
+		return delegate.isParallelPersisterCreationEnabled();
+	}
+
+	@Override
+	public boolean isAppendOnlyInverseOneToManyEnabled() {
+		return delegate.isAppendOnlyInverseOneToManyEnabled();
+	}
+
+	@Override
+	public int getLazyGroupBatchFetchSize() {
+		return delegate.getLazyGroupBatchFetchSize();
+	}
+
 	@Override
 	public int getDefaultBatchFetchSize() {
 		return delegate.getDefaultBatchFetchSize();
@@ -227,6 +242,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isNamedQueryStartupCheckingEnabled();
 	}
 
+	@Override
+	public boolean isParallelNamedQueryStartupCheckingEnabled() {
+		return delegate.isParallelNamedQueryStartupCheckingEnabled();
+	}
+
 	@Override
 	public boolean isConventionalJavaConstants() {
 		return delegate.isConventionalJavaConstants();
@@ -337,6 +357,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.doesConnectionProviderDisableAutoCommit();
 	}
 
+	@Override
+	public int getPreparedStatementCacheSize() {
+		return delegate.getPreparedStatementCacheSize();
+	}
+
 	@Override
 	@SuppressWarnings("deprecation")
 	public ConnectionReleaseMode getConnectionReleaseMode() {
@@ -428,6 +453,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.inClauseParameterPaddingEnabled();
 	}
 
+	@Override
+	public boolean inClauseParameterArrayBindingEnabled() {
+		return delegate.inClauseParameterArrayBindingEnabled();
+	}
+
 	@Override
 	public boolean nativeExceptionHandling51Compliance() {
 		return delegate.nativeExceptionHandling51Compliance();
@@ -164,6 +164,18 @@ public interface SessionFactoryOptions {
 
 	boolean isDelayBatchFetchLoaderCreationsEnabled();
 
+	default boolean isParallelPersisterCreationEnabled() {
+		return false;
+	}
+
+	default boolean isAppendOnlyInverseOneToManyEnabled() {
+		return false;
+	}
+
+	default int getLazyGroupBatchFetchSize() {
+		return 1;
+	}
+
 	int getDefaultBatchFetchSize();
 
 	Integer getMaximumFetchDepth();
@@ -193,6 +205,10 @@ public interface SessionFactoryOptions {
 
 	boolean isNamedQueryStartupCheckingEnabled();
 
+	default boolean isParallelNamedQueryStartupCheckingEnabled() {
+		return false;
+	}
+
 	boolean isConventionalJavaConstants();
 
 	boolean isSecondLevelCacheEnabled();
@@ -231,6 +247,10 @@ public interface SessionFactoryOptions {
 		return false;
 	}
 
+	default int getPreparedStatementCacheSize() {
+		return 0;
+	}
+
 	/**
 	 * @deprecated Use {@link #getPhysicalConnectionHandlingMode()} instead
 	 */
@@ -288,6 +308,10 @@ public interface SessionFactoryOptions {
 		return false;
 	}
 
+	default boolean inClauseParameterArrayBindingEnabled() {
+		return false;
+	}
+
 	default boolean nativeExceptionHandling51Compliance() {
 		return false;
 	}
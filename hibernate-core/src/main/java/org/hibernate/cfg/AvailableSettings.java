@@ -781,6 +781,17 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * Maximum number of JDBC <tt>PreparedStatement</tt>s to keep open and reuse for each physical
+	 * Connection a Session acquires.  Only useful when neither the connection pool nor the JDBC driver
+	 * caches prepared statements.  Cached statements are closed when the Session releases the Connection.
+	 * <p/>
+	 * Default is {@code 0}, which disables the cache.
+	 *
+	 * @since 5.4
+	 */
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
 	/**
 	 * Maximum JDBC batch size. A nonzero value enables batch updates.
 	 */
@@ -906,6 +917,17 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String QUERY_STARTUP_CHECKING = "hibernate.query.startup_check";
 
+	/**
+	 * Should the named HQL queries checked during startup (see {@link #QUERY_STARTUP_CHECKING}) be
+	 * translated concurrently?  The translated plans are kept in the query plan cache, so applications
+	 * with many named queries trade a shorter bootstrap for the translation work saved on first use.
+	 *
+	 * Default is {@code false}.
+	 *
+	 * @since 5.4
+	 */
+	String QUERY_STARTUP_CHECKING_PARALLEL = "hibernate.query.startup_check_parallel";
+
 	/**
 	 * Setting which indicates whether or not Java constant follow the Java Naming conventions.
 	 * <p/>
@@ -1647,17 +1669,54 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	/**
 	 * Controls how the individual Loaders for an entity are created.
 	 *
-	 * When `true` (the default), only the minimal set of Loaders are
-	 * created.  These include the handling for {@link org.hibernate.LockMode#READ}
-	 * and {@link org.hibernate.LockMode#NONE} as well as specialized Loaders for
-	 * merge and refresh handling.
+	 * When `true` (the default), Loaders are only created on first use, including
+	 * the handling for {@link org.hibernate.LockMode#READ} and {@link org.hibernate.LockMode#NONE}
+	 * as well as specialized Loaders for merge and refresh handling.  The same applies
+	 * to the entity's snapshot, version, lazy attribute and generated values select SQL.
 	 *
-	 * `false` indicates that all loaders should be created up front
+	 * `false` indicates that all loaders and SQL should be created up front
 	 *
 	 * @since 5.3
 	 */
 	String DELAY_ENTITY_LOADER_CREATIONS = "hibernate.loader.delay_entity_loader_creations";
 
+	/**
+	 * Should the entity and collection persisters be created concurrently while building
+	 * the SessionFactory?  Applications with a large number of mappings may see a shorter
+	 * bootstrap; the persisters are still registered in mapping order.
+	 *
+	 * Default is {@code false}.
+	 *
+	 * @since 5.4
+	 */
+	String PARALLEL_PERSISTER_CREATION = "hibernate.bootstrap.parallel_persister_creation";
+
+	/**
+	 * Should elements added to an uninitialized set mapping the inverse end of a one-to-many
+	 * association be queued without loading the set?  The set then no longer checks whether it
+	 * already contains the element: {@code add} and {@code addAll} always return {@code true}, and
+	 * duplicates are discarded when the set is eventually loaded.  Bags mapping the inverse end of an
+	 * association always queue added elements, so they are not affected by this setting.
+	 *
+	 * Default is {@code false}.
+	 *
+	 * @since 5.4
+	 */
+	String APPEND_ONLY_INVERSE_ONE_TO_MANY = "hibernate.collection.append_only_inverse_one_to_many";
+
+	/**
+	 * The maximum number of entities whose lazy attribute group is loaded by a single select.  When greater than
+	 * {@code 1}, reading a lazy attribute of a bytecode enhanced entity also loads its group for the other entities
+	 * of the same type, loaded by the session since it was last flushed, whose group is not initialized yet.  Only
+	 * applies to entities with a single column identifier.  Independent of the entity batch size (see
+	 * {@link #DEFAULT_BATCH_FETCH_SIZE}).
+	 *
+	 * Default is {@code 1}, which disables batch loading of lazy attribute groups.
+	 *
+	 * @since 5.4
+	 */
+	String LAZY_GROUP_BATCH_FETCH_SIZE = "hibernate.bytecode.lazy_group_batch_fetch_size";
+
 	/**
 	 * A transaction can be rolled back by another thread ("tracking by thread")
 	 * -- not the original application. Examples of this include a JTA
@@ -1731,6 +1790,17 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String LOG_SLOW_QUERY = "hibernate.session.events.log.LOG_QUERIES_SLOWER_THAN_MS";
 
+	/**
+	 * Setting that defines how many of the most recent slow queries (see {@link #LOG_SLOW_QUERY}) are retained
+	 * in memory, so that they can be inspected through {@link org.hibernate.stat.Statistics#getSlowQueries()}
+	 * (and thus JMX) without enabling full SQL logging.  Each entry holds the SQL, the string form of the JDBC
+	 * statement (which carries the bound values on most drivers), the execution time and, for updates, the row
+	 * count; see {@link org.hibernate.engine.jdbc.spi.SlowQueryRecord}.  Default is 0 (disabled).
+	 *
+	 * @since 5.4
+	 */
+	String LOG_SLOW_QUERY_CAPTURE_SIZE = "hibernate.session.events.log.slow_query_capture_size";
+
 	/**
 	 * Defines a default {@link org.hibernate.SessionEventListener} to be applied to opened Sessions.
 	 */
@@ -1870,6 +1940,8 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 * However, to increase the likelihood of JDBC statement caching,
 	 * you might want to use bind parameters for numeric values too.
 	 * The {@link org.hibernate.query.criteria.LiteralHandlingMode#BIND} mode will use bind variables for any literal value.
+	 * Criteria queries which only differ by their literal values then render the same JPQL, and so share its
+	 * translation through the query plan cache.
 	 *
 	 * The {@link org.hibernate.query.criteria.LiteralHandlingMode#INLINE} mode will inline literal values as-is.
 	 * To prevent SQL injection, never use {@link org.hibernate.query.criteria.LiteralHandlingMode#INLINE} with String variables.
@@ -2035,6 +2107,21 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String IN_CLAUSE_PARAMETER_PADDING = "hibernate.query.in_clause_parameter_padding";
 
+	/**
+	 * Should the values of a list-valued parameter of an HQL or JPQL {@code in} predicate be bound as
+	 * a single {@link java.sql.Array} rather than expanded to one bind parameter per value?  The query
+	 * then has one SQL string, and one execution plan, whatever the number of values, and is not
+	 * subject to {@link org.hibernate.dialect.Dialect#getInExpressionCountLimit()}.
+	 * <p/>
+	 * Only applies to Dialects registering the {@link org.hibernate.dialect.Dialect#ARRAY_ELEMENTS_FUNCTION}
+	 * function, and to parameters whose values are of a basic type; other parameters are still expanded.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.4
+	 */
+	String IN_CLAUSE_PARAMETER_ARRAY_BINDING = "hibernate.query.in_clause_parameter_array_binding";
+
 	/**
 	 * This setting controls the number of {@link org.hibernate.stat.QueryStatistics} entries
 	 * that will be stored by the Hibernate {@link org.hibernate.stat.Statistics} object.
@@ -445,6 +445,29 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 				&& isInverseCollectionNoOrphanDelete();
 	}
 
+	/**
+	 * Is this collection in a state that would allow us to
+	 * "queue" additions without checking whether the collection
+	 * already contains the added elements?  This is only the case
+	 * of the "inverse" end of a bidirectional one-to-many, whose
+	 * elements are not written through the collection, when the
+	 * append-only mode is enabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#APPEND_ONLY_INVERSE_ONE_TO_MANY
+	 */
+	protected boolean isAppendQueueEnabled() {
+		if ( initialized || !isConnectedToSession()
+				|| !session.getFactory().getSessionFactoryOptions().isAppendOnlyInverseOneToManyEnabled() ) {
+			return false;
+		}
+		final CollectionEntry ce = session.getPersistenceContextInternal().getCollectionEntry( this );
+		if ( ce == null ) {
+			return false;
+		}
+		final CollectionPersister loadedPersister = ce.getLoadedPersister();
+		return loadedPersister.isInverse() && loadedPersister.isOneToMany();
+	}
+
 	/**
 	 * Is this the "inverse" end of a bidirectional association?
 	 */
@@ -9,6 +9,7 @@ package org.hibernate.collection.internal;
 import java.io.Serializable;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -39,6 +40,17 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	// The Collection provided to a PersistentBag constructor,
 	private Collection providedCollection;
 
+	/**
+	 * Whether the backing list was instantiated by this wrapper, rather than handed over by the application
+	 */
+	private boolean bagOwned;
+
+	/**
+	 * Whether the backing list is also the snapshot, and must be copied before being mutated.  Not transient:
+	 * the stored snapshot is serialized along with the backing list, and still is the same list once deserialized.
+	 */
+	private boolean sharedWithSnapshot;
+
 	/**
 	 * Constructs a PersistentBag.  Needed for SOAP libraries, etc
 	 */
@@ -136,6 +148,26 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@Override
 	public void beforeInitialize(CollectionPersister persister, int anticipatedSize) {
 		this.bag = (List) persister.getCollectionType().instantiate( anticipatedSize );
+		bagOwned = true;
+		sharedWithSnapshot = false;
+	}
+
+	/**
+	 * Copy the backing list if it is shared with the snapshot, before mutating it.
+	 */
+	private void copySharedBag() {
+		if ( sharedWithSnapshot ) {
+			bag = new ArrayList( bag );
+			sharedWithSnapshot = false;
+		}
+	}
+
+	/**
+	 * The list to be wrapped by iterators and sub lists, which copies the backing list before the first mutation
+	 * if it is shared with the snapshot.
+	 */
+	private List iterableBag() {
+		return sharedWithSnapshot ? new CopyOnWriteBag() : bag;
 	}
 
 	@Override
@@ -143,6 +175,9 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	public boolean equalsSnapshot(CollectionPersister persister) throws HibernateException {
 		final Type elementType = persister.getElementType();
 		final List<Object> sn = (List<Object>) getSnapshot();
+		if ( sn == bag ) {
+			return true;
+		}
 		if ( sn.size() != bag.size() ) {
 			return false;
 		}
@@ -227,6 +262,11 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@SuppressWarnings("unchecked")
 	public Serializable getSnapshot(CollectionPersister persister)
 			throws HibernateException {
+		if ( bagOwned && bag instanceof ArrayList && !persister.getElementType().isMutable() ) {
+			// the elements are their own copies: share the backing list until it is mutated
+			sharedWithSnapshot = true;
+			return (Serializable) bag;
+		}
 		final ArrayList clonedList = new ArrayList( bag.size() );
 		for ( Object item : bag ) {
 			clonedList.add( persister.getElementType().deepCopy( item, persister.getFactory() ) );
@@ -361,7 +401,7 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@Override
 	public Iterator iterator() {
 		read();
-		return new IteratorProxy( bag.iterator() );
+		return new IteratorProxy( iterableBag().iterator() );
 	}
 
 	@Override
@@ -381,6 +421,7 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	public boolean add(Object object) {
 		if ( !isOperationQueueEnabled() ) {
 			write();
+			copySharedBag();
 			return bag.add( object );
 		}
 		else {
@@ -392,6 +433,7 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@Override
 	public boolean remove(Object o) {
 		initialize( true );
+		copySharedBag();
 		if ( bag.remove( o ) ) {
 			elementRemoved = true;
 			dirty();
@@ -417,6 +459,7 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 		}
 		if ( !isOperationQueueEnabled() ) {
 			write();
+			copySharedBag();
 			return bag.addAll( values );
 		}
 		else {
@@ -432,6 +475,7 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	public boolean removeAll(Collection c) {
 		if ( c.size()>0 ) {
 			initialize( true );
+			copySharedBag();
 			if ( bag.removeAll( c ) ) {
 				elementRemoved = true;
 				dirty();
@@ -450,6 +494,7 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@SuppressWarnings("unchecked")
 	public boolean retainAll(Collection c) {
 		initialize( true );
+		copySharedBag();
 		if ( bag.retainAll( c ) ) {
 			dirty();
 			return true;
@@ -467,6 +512,7 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 		}
 		else {
 			initialize( true );
+			copySharedBag();
 			if ( ! bag.isEmpty() ) {
 				bag.clear();
 				dirty();
@@ -516,6 +562,7 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@SuppressWarnings("unchecked")
 	public void add(int i, Object o) {
 		write();
+		copySharedBag();
 		bag.add( i, o );
 	}
 
@@ -524,6 +571,7 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	public boolean addAll(int i, Collection c) {
 		if ( c.size() > 0 ) {
 			write();
+			copySharedBag();
 			return bag.addAll( i, c );
 		}
 		else {
@@ -556,20 +604,21 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@SuppressWarnings("unchecked")
 	public ListIterator listIterator() {
 		read();
-		return new ListIteratorProxy( bag.listIterator() );
+		return new ListIteratorProxy( iterableBag().listIterator() );
 	}
 
 	@Override
 	@SuppressWarnings("unchecked")
 	public ListIterator listIterator(int i) {
 		read();
-		return new ListIteratorProxy( bag.listIterator( i ) );
+		return new ListIteratorProxy( iterableBag().listIterator( i ) );
 	}
 
 	@Override
 	@SuppressWarnings("unchecked")
 	public Object remove(int i) {
 		write();
+		copySharedBag();
 		return bag.remove( i );
 	}
 
@@ -577,6 +626,7 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@SuppressWarnings("unchecked")
 	public Object set(int i, Object o) {
 		write();
+		copySharedBag();
 		return bag.set( i, o );
 	}
 
@@ -584,7 +634,7 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@SuppressWarnings("unchecked")
 	public List subList(int start, int end) {
 		read();
-		return new ListProxy( bag.subList( start, end ) );
+		return new ListProxy( iterableBag().subList( start, end ) );
 	}
 
 	@Override
@@ -617,9 +667,47 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 		return super.hashCode();
 	}
 
+	/**
+	 * A view of the current backing list, copying it before the first mutation if it is shared with the snapshot.
+	 */
+	private final class CopyOnWriteBag extends AbstractList {
+		@Override
+		public Object get(int index) {
+			return bag.get( index );
+		}
+
+		@Override
+		public int size() {
+			return bag.size();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Object set(int index, Object element) {
+			copySharedBag();
+			return bag.set( index, element );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void add(int index, Object element) {
+			copySharedBag();
+			bag.add( index, element );
+			modCount++;
+		}
+
+		@Override
+		public Object remove(int index) {
+			copySharedBag();
+			modCount++;
+			return bag.remove( index );
+		}
+	}
+
 	final class Clear implements DelayedOperation {
 		@Override
 		public void operate() {
+			copySharedBag();
 			bag.clear();
 		}
 
@@ -643,6 +731,7 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 		@Override
 		@SuppressWarnings("unchecked")
 		public void operate() {
+			copySharedBag();
 			bag.add( getAddedInstance() );
 		}
 	}
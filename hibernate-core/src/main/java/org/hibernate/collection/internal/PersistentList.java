@@ -9,6 +9,7 @@ package org.hibernate.collection.internal;
 import java.io.Serializable;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -32,6 +33,17 @@ import org.hibernate.type.Type;
 public class PersistentList extends AbstractPersistentCollection implements List {
 	protected List list;
 
+	/**
+	 * Whether the backing list was instantiated by this wrapper, rather than handed over by the application
+	 */
+	private boolean listOwned;
+
+	/**
+	 * Whether the backing list is also the snapshot, and must be copied before being mutated.  Not transient:
+	 * the stored snapshot is serialized along with the backing list, and still is the same list once deserialized.
+	 */
+	private boolean sharedWithSnapshot;
+
 	/**
 	 * Constructs a PersistentList.  This form needed for SOAP libraries, etc
 	 */
@@ -86,6 +98,11 @@ public class PersistentList extends AbstractPersistentCollection implements List
 	@Override
 	@SuppressWarnings( {"unchecked"})
 	public Serializable getSnapshot(CollectionPersister persister) throws HibernateException {
+		if ( listOwned && list instanceof ArrayList && !persister.getElementType().isMutable() ) {
+			// the elements are their own copies: share the backing list until it is mutated
+			sharedWithSnapshot = true;
+			return (Serializable) list;
+		}
 		final ArrayList clonedList = new ArrayList( list.size() );
 		for ( Object element : list ) {
 			final Object deepCopy = persister.getElementType().deepCopy( element, persister.getFactory() );
@@ -104,6 +121,9 @@ public class PersistentList extends AbstractPersistentCollection implements List
 	public boolean equalsSnapshot(CollectionPersister persister) throws HibernateException {
 		final Type elementType = persister.getElementType();
 		final List sn = (List) getSnapshot();
+		if ( sn == list ) {
+			return true;
+		}
 		if ( sn.size() != this.list.size() ) {
 			return false;
 		}
@@ -125,6 +145,26 @@ public class PersistentList extends AbstractPersistentCollection implements List
 	@Override
 	public void beforeInitialize(CollectionPersister persister, int anticipatedSize) {
 		this.list = (List) persister.getCollectionType().instantiate( anticipatedSize );
+		listOwned = true;
+		sharedWithSnapshot = false;
+	}
+
+	/**
+	 * Copy the backing list if it is shared with the snapshot, before mutating it.
+	 */
+	private void copySharedList() {
+		if ( sharedWithSnapshot ) {
+			list = new ArrayList( list );
+			sharedWithSnapshot = false;
+		}
+	}
+
+	/**
+	 * The list to be wrapped by iterators and sub lists, which copies the backing list before the first mutation
+	 * if it is shared with the snapshot.
+	 */
+	private List iterableList() {
+		return sharedWithSnapshot ? new CopyOnWriteList() : list;
 	}
 
 	@Override
@@ -153,7 +193,7 @@ public class PersistentList extends AbstractPersistentCollection implements List
 	@Override
 	public Iterator iterator() {
 		read();
-		return new IteratorProxy( list.iterator() );
+		return new IteratorProxy( iterableList().iterator() );
 	}
 
 	@Override
@@ -173,6 +213,7 @@ public class PersistentList extends AbstractPersistentCollection implements List
 	public boolean add(Object object) {
 		if ( !isOperationQueueEnabled() ) {
 			write();
+			copySharedList();
 			return list.add( object );
 		}
 		else {
@@ -186,6 +227,7 @@ public class PersistentList extends AbstractPersistentCollection implements List
 		final Boolean exists = isPutQueueEnabled() ? readElementExistence( value ) : null;
 		if ( exists == null ) {
 			initialize( true );
+			copySharedList();
 			if ( list.remove( value ) ) {
 				elementRemoved = true;
 				dirty();
@@ -220,6 +262,7 @@ public class PersistentList extends AbstractPersistentCollection implements List
 		}
 		if ( !isOperationQueueEnabled() ) {
 			write();
+			copySharedList();
 			return list.addAll( values );
 		}
 		else {
@@ -235,6 +278,7 @@ public class PersistentList extends AbstractPersistentCollection implements List
 	public boolean addAll(int index, Collection coll) {
 		if ( coll.size() > 0 ) {
 			write();
+			copySharedList();
 			return list.addAll( index,  coll );
 		}
 		else {
@@ -247,6 +291,7 @@ public class PersistentList extends AbstractPersistentCollection implements List
 	public boolean removeAll(Collection coll) {
 		if ( coll.size() > 0 ) {
 			initialize( true );
+			copySharedList();
 			if ( list.removeAll( coll ) ) {
 				elementRemoved = true;
 				dirty();
@@ -265,6 +310,7 @@ public class PersistentList extends AbstractPersistentCollection implements List
 	@SuppressWarnings("unchecked")
 	public boolean retainAll(Collection coll) {
 		initialize( true );
+		copySharedList();
 		if ( list.retainAll( coll ) ) {
 			dirty();
 			return true;
@@ -282,6 +328,7 @@ public class PersistentList extends AbstractPersistentCollection implements List
 		}
 		else {
 			initialize( true );
+			copySharedList();
 			if ( ! list.isEmpty() ) {
 				list.clear();
 				dirty();
@@ -310,6 +357,7 @@ public class PersistentList extends AbstractPersistentCollection implements List
 
 		if ( old==UNKNOWN ) {
 			write();
+			copySharedList();
 			return list.set( index, value );
 		}
 		else {
@@ -328,6 +376,7 @@ public class PersistentList extends AbstractPersistentCollection implements List
 		elementRemoved = true;
 		if ( old == UNKNOWN ) {
 			write();
+			copySharedList();
 			dirty();
 			return list.remove( index );
 		}
@@ -344,6 +393,7 @@ public class PersistentList extends AbstractPersistentCollection implements List
 			throw new ArrayIndexOutOfBoundsException( "negative index" );
 		}
 		write();
+		copySharedList();
 		list.add( index, value );
 	}
 
@@ -365,21 +415,21 @@ public class PersistentList extends AbstractPersistentCollection implements List
 	@SuppressWarnings("unchecked")
 	public ListIterator listIterator() {
 		read();
-		return new ListIteratorProxy( list.listIterator() );
+		return new ListIteratorProxy( iterableList().listIterator() );
 	}
 
 	@Override
 	@SuppressWarnings("unchecked")
 	public ListIterator listIterator(int index) {
 		read();
-		return new ListIteratorProxy( list.listIterator( index ) );
+		return new ListIteratorProxy( iterableList().listIterator( index ) );
 	}
 
 	@Override
 	@SuppressWarnings("unchecked")
 	public java.util.List subList(int from, int to) {
 		read();
-		return new ListProxy( list.subList( from, to ) );
+		return new ListProxy( iterableList().subList( from, to ) );
 	}
 
 	@Override
@@ -512,9 +562,47 @@ public class PersistentList extends AbstractPersistentCollection implements List
 		return entry!=null;
 	}
 
+	/**
+	 * A view of the current backing list, copying it before the first mutation if it is shared with the snapshot.
+	 */
+	private final class CopyOnWriteList extends AbstractList {
+		@Override
+		public Object get(int index) {
+			return list.get( index );
+		}
+
+		@Override
+		public int size() {
+			return list.size();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Object set(int index, Object element) {
+			copySharedList();
+			return list.set( index, element );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void add(int index, Object element) {
+			copySharedList();
+			list.add( index, element );
+			modCount++;
+		}
+
+		@Override
+		public Object remove(int index) {
+			copySharedList();
+			modCount++;
+			return list.remove( index );
+		}
+	}
+
 	final class Clear implements DelayedOperation {
 		@Override
 		public void operate() {
+			copySharedList();
 			list.clear();
 		}
 
@@ -538,6 +626,7 @@ public class PersistentList extends AbstractPersistentCollection implements List
 		@Override
 		@SuppressWarnings("unchecked")
 		public void operate() {
+			copySharedList();
 			list.add( getAddedInstance() );
 		}
 	}
@@ -564,6 +653,7 @@ public class PersistentList extends AbstractPersistentCollection implements List
 		@Override
 		@SuppressWarnings("unchecked")
 		public void operate() {
+			copySharedList();
 			list.add( getIndex(), getAddedInstance() );
 		}
 	}
@@ -577,6 +667,7 @@ public class PersistentList extends AbstractPersistentCollection implements List
 		@Override
 		@SuppressWarnings("unchecked")
 		public void operate() {
+			copySharedList();
 			list.set( getIndex(), getAddedInstance() );
 		}
 	}
@@ -590,6 +681,7 @@ public class PersistentList extends AbstractPersistentCollection implements List
 		@Override
 		@SuppressWarnings("unchecked")
 		public void operate() {
+			copySharedList();
 			list.remove( getIndex() );
 		}
 	}
@@ -603,6 +695,7 @@ public class PersistentList extends AbstractPersistentCollection implements List
 		@Override
 		@SuppressWarnings("unchecked")
 		public void operate() {
+			copySharedList();
 			list.remove( getOrphan() );
 		}
 	}
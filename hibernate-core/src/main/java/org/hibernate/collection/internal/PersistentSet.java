@@ -205,6 +205,10 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 
 	@Override
 	public boolean add(Object value) {
+		if ( isAppendQueueEnabled() ) {
+			queueOperation( new SimpleAdd( value ) );
+			return true;
+		}
 		final Boolean exists = isOperationQueueEnabled() ? readElementExistence( value ) : null;
 		if ( exists == null ) {
 			initialize( true );
@@ -260,6 +264,12 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	@SuppressWarnings("unchecked")
 	public boolean addAll(Collection coll) {
 		if ( coll.size() > 0 ) {
+			if ( isAppendQueueEnabled() ) {
+				for ( Object element : coll ) {
+					queueOperation( new SimpleAdd( element ) );
+				}
+				return true;
+			}
 			initialize( true );
 			if ( set.addAll( coll ) ) {
 				dirty();
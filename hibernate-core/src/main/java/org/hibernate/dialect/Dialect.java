@@ -149,6 +149,14 @@ public abstract class Dialect implements ConversionContext {
 	 * Characters used as closing for quoting SQL identifiers
 	 */
 	public static final String CLOSED_QUOTE = "`\"]";
+
+	/**
+	 * Name of the function rendering a subquery which selects the elements of an array bound as its argument.
+	 * Dialects registering it support binding the values of a list-valued parameter of an {@code in} predicate
+	 * as a single array; see {@link org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_ARRAY_BINDING}.
+	 */
+	public static final String ARRAY_ELEMENTS_FUNCTION = "array_elements";
+
 	private static final Pattern SINGLE_QUOTE_PATTERN = Pattern.compile(
 			"'",
 			Pattern.LITERAL
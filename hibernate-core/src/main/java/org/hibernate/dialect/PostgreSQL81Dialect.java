@@ -172,6 +172,8 @@ public class PostgreSQL81Dialect extends Dialect {
 
 		registerFunction( "str", new SQLFunctionTemplate(StandardBasicTypes.STRING, "cast(?1 as varchar)") );
 
+		registerFunction( ARRAY_ELEMENTS_FUNCTION, new SQLFunctionTemplate( null, "select unnest(?1)" ) );
+
 		getDefaultProperties().setProperty( Environment.STATEMENT_BATCH_SIZE, DEFAULT_BATCH_SIZE );
 		getDefaultProperties().setProperty( Environment.NON_CONTEXTUAL_LOB_CREATION, "true" );
 	}
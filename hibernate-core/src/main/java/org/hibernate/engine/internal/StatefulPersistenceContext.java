@@ -418,6 +418,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		nullifiableEntityKeys.remove( key );
 		if( batchFetchQueue != null ) {
 			getBatchFetchQueue().removeBatchLoadableEntityKey(key);
+			getBatchFetchQueue().removeLazyGroupBatchLoadableEntityKey(key);
 			getBatchFetchQueue().removeSubselect(key);
 		}
 		return entity;
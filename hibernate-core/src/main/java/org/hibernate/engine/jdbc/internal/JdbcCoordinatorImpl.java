@@ -38,9 +38,9 @@ import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.jdbc.WorkExecutor;
 import org.hibernate.jdbc.WorkExecutorVisitable;
-import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionManagedImpl;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionProvidedImpl;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
@@ -70,6 +70,8 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	private Statement lastQuery;
 	private final boolean isUserSuppliedConnection;
 
+	private final transient PreparedStatementCache statementCache;
+
 	/**
 	 * If true, manually (and temporarily) circumvent aggressive release processing.
 	 */
@@ -85,17 +87,21 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			JdbcSessionOwner owner) {
 		this.isUserSuppliedConnection = userSuppliedConnection != null;
 
-		final ResourceRegistry resourceRegistry = new ResourceRegistryStandardImpl(
-				owner.getJdbcSessionContext().getObserver()
-		);
 		if ( isUserSuppliedConnection ) {
-			this.logicalConnection = new LogicalConnectionProvidedImpl( userSuppliedConnection, resourceRegistry );
+			this.statementCache = null;
+			this.logicalConnection = new LogicalConnectionProvidedImpl(
+					userSuppliedConnection,
+					new ResourceRegistryStandardImpl( owner.getJdbcSessionContext().getObserver() )
+			);
 		}
 		else {
+			final int statementCacheSize = owner.getJdbcSessionContext().getPreparedStatementCacheSize();
+			this.statementCache = statementCacheSize > 0 ? new PreparedStatementCache( statementCacheSize ) : null;
 			this.logicalConnection = new LogicalConnectionManagedImpl(
 					owner.getJdbcConnectionAccess(),
 					owner.getJdbcSessionContext(),
-					resourceRegistry
+					new ResourceRegistryStandardImpl( owner.getJdbcSessionContext().getObserver(), statementCache ),
+					statementCache
 			);
 		}
 		this.owner = owner;
@@ -110,6 +116,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			JdbcSessionOwner owner) {
 		this.logicalConnection = logicalConnection;
 		this.isUserSuppliedConnection = isUserSuppliedConnection;
+		this.statementCache = null;
 		this.owner = owner;
 		this.jdbcServices = owner.getJdbcSessionContext()
 				.getServiceRegistry()
@@ -121,6 +128,15 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		return logicalConnection;
 	}
 
+	/**
+	 * The cache of statements prepared against the current physical Connection.
+	 *
+	 * @return The statement cache, or {@code null} if statement caching is disabled
+	 */
+	PreparedStatementCache getStatementCache() {
+		return statementCache;
+	}
+
 	protected SessionFactoryImplementor sessionFactory() {
 		return this.owner.getJdbcSessionContext().getSessionFactory();
 	}
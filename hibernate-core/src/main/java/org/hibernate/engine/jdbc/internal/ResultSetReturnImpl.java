@@ -16,6 +16,7 @@ import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.ResultSetReturn;
+import org.hibernate.engine.jdbc.spi.SlowQueryRecord;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 
@@ -192,16 +193,18 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStart = System.currentTimeMillis();
 		}
+		int rowCount = SlowQueryRecord.UNKNOWN_ROW_COUNT;
 		try {
 			jdbcExecuteStatementStart();
-			return statement.executeUpdate();
+			rowCount = statement.executeUpdate();
+			return rowCount;
 		}
 		catch (SQLException e) {
 			throw sqlExceptionHelper.convert( e, "could not execute statement" );
 		}
 		finally {
 			jdbcExecuteStatementEnd();
-			sqlStatementLogger.logSlowQuery( statement, executeStart );
+			sqlStatementLogger.logSlowQuery( statement, executeStart, rowCount );
 		}
 	}
 
@@ -212,16 +215,18 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStart = System.currentTimeMillis();
 		}
+		int rowCount = SlowQueryRecord.UNKNOWN_ROW_COUNT;
 		try {
 			jdbcExecuteStatementStart();
-			return statement.executeUpdate( sql );
+			rowCount = statement.executeUpdate( sql );
+			return rowCount;
 		}
 		catch (SQLException e) {
 			throw sqlExceptionHelper.convert( e, "could not execute statement" );
 		}
 		finally {
 			jdbcExecuteStatementEnd();
-			sqlStatementLogger.logSlowQuery( statement, executeStart );
+			sqlStatementLogger.logSlowQuery( statement, executeStart, rowCount );
 		}
 	}
 
@@ -18,6 +18,7 @@ import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 
@@ -89,6 +90,11 @@ class StatementPreparerImpl implements StatementPreparer {
 						? connection().prepareCall( sql )
 						: connection().prepareStatement( sql );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return isCallable ? null : new PreparedStatementCache.Key( sql );
+			}
 		};
 	}
 
@@ -108,6 +114,11 @@ class StatementPreparerImpl implements StatementPreparer {
 			public PreparedStatement doPrepare() throws SQLException {
 				return connection().prepareStatement( sql, autoGeneratedKeys );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return new PreparedStatementCache.Key( sql, autoGeneratedKeys );
+			}
 		}.prepareStatement();
 	}
 
@@ -119,6 +130,11 @@ class StatementPreparerImpl implements StatementPreparer {
 			public PreparedStatement doPrepare() throws SQLException {
 				return connection().prepareStatement( sql, columnNames );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return new PreparedStatementCache.Key( sql, columnNames );
+			}
 		}.prepareStatement();
 	}
 
@@ -137,6 +153,13 @@ class StatementPreparerImpl implements StatementPreparer {
 								? connection().prepareCall( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY )
 								: connection().prepareStatement( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY );
 				}
+
+				@Override
+				protected PreparedStatementCache.Key cacheKey() {
+					return isCallable
+							? null
+							: new PreparedStatementCache.Key( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY );
+				}
 			}.prepareStatement();
 			jdbcCoordinator.registerLastQuery( ps );
 			return ps;
@@ -148,6 +171,11 @@ class StatementPreparerImpl implements StatementPreparer {
 								? connection().prepareCall( sql )
 								: connection().prepareStatement( sql );
 				}
+
+				@Override
+				protected PreparedStatementCache.Key cacheKey() {
+					return isCallable ? null : new PreparedStatementCache.Key( sql );
+				}
 			}.prepareStatement();
 			jdbcCoordinator.registerLastQuery( ps );
 			return ps;
@@ -169,11 +197,26 @@ class StatementPreparerImpl implements StatementPreparer {
 			try {
 				jdbcServices.getSqlStatementLogger().logStatement( sql );
 
-				final PreparedStatement preparedStatement;
 				final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+				final PreparedStatementCache statementCache = jdbcCoordinator.getStatementCache();
+				final PreparedStatementCache.Key cacheKey = statementCache == null ? null : cacheKey();
+				if ( cacheKey != null ) {
+					final PreparedStatement cachedStatement = statementCache.checkOut( cacheKey );
+					if ( cachedStatement != null ) {
+						observer.jdbcPrepareStatementCacheHit();
+						setStatementTimeout( cachedStatement );
+						postProcess( cachedStatement );
+						return cachedStatement;
+					}
+				}
+
+				final PreparedStatement preparedStatement;
 				try {
 					observer.jdbcPrepareStatementStart();
 					preparedStatement = doPrepare();
+					if ( cacheKey != null ) {
+						statementCache.track( preparedStatement, cacheKey );
+					}
 					setStatementTimeout( preparedStatement );
 				}
 				finally {
@@ -189,6 +232,14 @@ class StatementPreparerImpl implements StatementPreparer {
 
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
+		/**
+		 * The key under which the prepared statement may be cached, or {@code null} if it
+		 * must not be cached (callable statements, for instance).
+		 */
+		protected PreparedStatementCache.Key cacheKey() {
+			return null;
+		}
+
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
 			jdbcCoordinator.getResourceRegistry().register( preparedStatement, true );
 //			logicalConnection().notifyObserversStatementPrepared();
@@ -0,0 +1,93 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.spi;
+
+/**
+ * Immutable description of a single SQL statement whose execution exceeded the
+ * {@link org.hibernate.cfg.AvailableSettings#LOG_SLOW_QUERY} threshold, as captured by
+ * {@link SqlStatementLogger}.
+ * <p/>
+ * Only what is known where the statement is executed is recorded.  The execution time is the time until the JDBC
+ * execution returns, so it does not include reading the rows of a result set; the row count is only known for
+ * updates; and the HQL query or entity operation the statement originates from is not recorded.
+ */
+public class SlowQueryRecord {
+	/**
+	 * Marker for {@link #getRowCount()} when the number of affected rows is not known,
+	 * e.g. for queries returning a {@link java.sql.ResultSet}.
+	 */
+	public static final int UNKNOWN_ROW_COUNT = -1;
+
+	private final String sql;
+	private final String statement;
+	private final long executionTime;
+	private final int rowCount;
+	private final long timestamp;
+
+	public SlowQueryRecord(String sql, String statement, long executionTime, int rowCount, long timestamp) {
+		this.sql = sql;
+		this.statement = statement;
+		this.executionTime = executionTime;
+		this.rowCount = rowCount;
+		this.timestamp = timestamp;
+	}
+
+	/**
+	 * The SQL string, if it was known to the caller; otherwise the
+	 * {@link java.sql.Statement#toString()} representation.
+	 */
+	public String getSql() {
+		return sql;
+	}
+
+	/**
+	 * The {@link java.sql.Statement#toString()} representation of the executed statement.  Most
+	 * drivers (H2, PostgreSQL, MySQL, ...) include the bound parameter values here, which makes
+	 * it possible to diagnose a slow execution without enabling full SQL and binding logging.
+	 * {@code null} if no JDBC statement was available.
+	 */
+	public String getStatement() {
+		return statement;
+	}
+
+	/**
+	 * The time spent executing the statement, in milliseconds.
+	 */
+	public long getExecutionTime() {
+		return executionTime;
+	}
+
+	/**
+	 * The number of rows affected by an update, or {@link #UNKNOWN_ROW_COUNT}.
+	 */
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * The time (JVM standard {@link System#currentTimeMillis()}) at which the execution completed.
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder buffer = new StringBuilder( "SlowQuery: " )
+				.append( executionTime )
+				.append( " milliseconds. SQL: '" )
+				.append( sql )
+				.append( '\'' );
+		if ( rowCount != UNKNOWN_ROW_COUNT ) {
+			buffer.append( " rows: " ).append( rowCount );
+		}
+		if ( statement != null && !statement.equals( sql ) ) {
+			buffer.append( " statement: '" ).append( statement ).append( '\'' );
+		}
+		return buffer.toString();
+	}
+}
@@ -7,6 +7,10 @@
 package org.hibernate.engine.jdbc.spi;
 
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 import org.hibernate.engine.jdbc.internal.Formatter;
@@ -32,6 +36,13 @@ public class SqlStatementLogger {
 	 */
 	private final long logSlowQuery;
 
+	/**
+	 * Bounded ring buffer of the most recent slow queries, or {@code null} if capturing is disabled.  Slow
+	 * queries are expected to be rare, so the buffer and its count are simply guarded by the buffer's monitor.
+	 */
+	private final SlowQueryRecord[] slowQueries;
+	private long slowQueryCount;
+
 	/**
 	 * Constructs a new SqlStatementLogger instance.
 	 */
@@ -57,9 +68,25 @@ public class SqlStatementLogger {
 	 * @param logSlowQuery Should we logs query which executed slower than specified milliseconds. 0 - disabled.
 	 */
 	public SqlStatementLogger(boolean logToStdout, boolean format, long logSlowQuery) {
+		this( logToStdout, format, logSlowQuery, 0 );
+	}
+
+	/**
+	 * Constructs a new SqlStatementLogger instance.
+	 *
+	 * @param logToStdout Should we log to STDOUT in addition to our internal logger.
+	 * @param format Should we format the statements prior to logging
+	 * @param logSlowQuery Should we logs query which executed slower than specified milliseconds. 0 - disabled.
+	 * @param slowQueryCaptureSize How many of the most recent slow queries should be retained
+	 * for later inspection. 0 - disabled.
+	 */
+	public SqlStatementLogger(boolean logToStdout, boolean format, long logSlowQuery, int slowQueryCaptureSize) {
 		this.logToStdout = logToStdout;
 		this.format = format;
 		this.logSlowQuery = logSlowQuery;
+		this.slowQueries = logSlowQuery > 0 && slowQueryCaptureSize > 0
+				? new SlowQueryRecord[slowQueryCaptureSize]
+				: null;
 	}
 
 	/**
@@ -137,10 +164,22 @@ public class SqlStatementLogger {
 	 * @param startTime Start time in milliseconds.
 	 */
 	public void logSlowQuery(Statement statement, long startTime) {
+		logSlowQuery( statement, startTime, SlowQueryRecord.UNKNOWN_ROW_COUNT );
+	}
+
+	/**
+	 * Log a slow SQL query
+	 *
+	 * @param statement SQL statement.
+	 * @param startTime Start time in milliseconds.
+	 * @param rowCount The number of affected rows, or {@link SlowQueryRecord#UNKNOWN_ROW_COUNT}.
+	 */
+	public void logSlowQuery(Statement statement, long startTime, int rowCount) {
 		if ( logSlowQuery < 1 ) {
 			return;
 		}
-		logSlowQuery( statement.toString(), startTime );
+		final String statementString = statement.toString();
+		logSlowQuery( statementString, statementString, startTime, rowCount );
 	}
 
 	/**
@@ -149,23 +188,77 @@ public class SqlStatementLogger {
 	 * @param sql The SQL query.
 	 * @param startTime Start time in milliseconds.
 	 */
-	@AllowSysOut
 	public void logSlowQuery(String sql, long startTime) {
+		logSlowQuery( sql, null, startTime, SlowQueryRecord.UNKNOWN_ROW_COUNT );
+	}
+
+	@AllowSysOut
+	private void logSlowQuery(String sql, String statement, long startTime, int rowCount) {
 		if ( logSlowQuery < 1 ) {
 			return;
 		}
 		assert startTime > 0 : "startTime is invalid!";
 
-		long spent = System.currentTimeMillis() - startTime;
+		final long now = System.currentTimeMillis();
+		long spent = now - startTime;
 
 		assert spent >= 0 : "startTime is invalid!";
 
 		if ( spent > logSlowQuery ) {
-			String logData = "SlowQuery: " + spent + " milliseconds. SQL: '" + sql + "'";
+			final SlowQueryRecord record = new SlowQueryRecord( sql, statement, spent, rowCount, now );
+			if ( slowQueries != null ) {
+				synchronized ( slowQueries ) {
+					slowQueries[(int) ( slowQueryCount++ % slowQueries.length )] = record;
+				}
+			}
+			String logData = record.toString();
 			LOG_SLOW.info( logData );
 			if ( logToStdout ) {
 				System.out.println( logData );
 			}
 		}
 	}
+
+	/**
+	 * Is capturing of slow queries for later inspection enabled?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#LOG_SLOW_QUERY_CAPTURE_SIZE
+	 */
+	public boolean isCapturingSlowQueries() {
+		return slowQueries != null;
+	}
+
+	/**
+	 * The most recently captured slow queries, oldest first.  At most
+	 * {@link org.hibernate.cfg.AvailableSettings#LOG_SLOW_QUERY_CAPTURE_SIZE} entries are retained.
+	 *
+	 * @return The captured slow queries; an empty list if capturing is disabled.
+	 */
+	public List<SlowQueryRecord> getSlowQueries() {
+		if ( slowQueries == null ) {
+			return Collections.emptyList();
+		}
+		synchronized ( slowQueries ) {
+			final int capacity = slowQueries.length;
+			final long first = Math.max( 0, slowQueryCount - capacity );
+			final List<SlowQueryRecord> records = new ArrayList<>( (int) ( slowQueryCount - first ) );
+			for ( long i = first; i < slowQueryCount; i++ ) {
+				records.add( slowQueries[(int) ( i % capacity )] );
+			}
+			return records;
+		}
+	}
+
+	/**
+	 * Discard all captured slow queries.
+	 */
+	public void clearSlowQueries() {
+		if ( slowQueries == null ) {
+			return;
+		}
+		synchronized ( slowQueries ) {
+			Arrays.fill( slowQueries, null );
+			slowQueryCount = 0;
+		}
+	}
 }
@@ -7,11 +7,13 @@
 package org.hibernate.engine.spi;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.hibernate.EntityMode;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
@@ -59,6 +61,15 @@ public class BatchFetchQueue {
 	 */
 	private Map<String, LinkedHashMap<CollectionEntry, PersistentCollection>> batchLoadableCollections;
 
+	/**
+	 * Used to hold information about the entities whose lazy attribute groups may not be initialized yet.  Used by
+	 * the entity persisters to build lazy attribute group load batches.
+	 * <p/>
+	 * The keys are segmented by entity type and then by fetch group, since a group can only be loaded for a
+	 * particular entity type at a time.
+	 */
+	private Map<String, Map<String, LinkedHashSet<EntityKey>>> lazyGroupBatchLoadableEntityKeys;
+
 	/**
 	 * Constructs a queue for the given context.
 	 *
@@ -76,6 +87,7 @@ public class BatchFetchQueue {
 	public void clear() {
 		batchLoadableEntityKeys = null;
 		batchLoadableCollections = null;
+		lazyGroupBatchLoadableEntityKeys = null;
 		subselectsByEntityKey = null;
 	}
 
@@ -246,6 +258,65 @@ public class BatchFetchQueue {
 	}
 	
 
+	// lazy attribute group batch support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * Add the key of a loaded entity whose lazy attribute groups are not initialized yet.
+	 *
+	 * @param key The key of the entity.
+	 * @param fetchGroups The names of the lazy attribute groups of the entity.
+	 */
+	public void addLazyGroupBatchLoadableEntityKey(EntityKey key, Iterable<String> fetchGroups) {
+		if ( lazyGroupBatchLoadableEntityKeys == null ) {
+			lazyGroupBatchLoadableEntityKeys = new HashMap<>( 12 );
+		}
+		final Map<String, LinkedHashSet<EntityKey>> keysByFetchGroup = lazyGroupBatchLoadableEntityKeys.computeIfAbsent(
+				key.getEntityName(),
+				k -> new HashMap<>( 4 )
+		);
+		for ( String fetchGroup : fetchGroups ) {
+			keysByFetchGroup.computeIfAbsent( fetchGroup, k -> new LinkedHashSet<>( 8 ) ).add( key );
+		}
+	}
+
+	/**
+	 * After evicting or deleting an entity, we don't need to
+	 * batch load its lazy attribute groups anymore, remove it
+	 * from the queue if necessary
+	 */
+	public void removeLazyGroupBatchLoadableEntityKey(EntityKey key) {
+		if ( lazyGroupBatchLoadableEntityKeys != null ) {
+			final Map<String, LinkedHashSet<EntityKey>> keysByFetchGroup =
+					lazyGroupBatchLoadableEntityKeys.get( key.getEntityName() );
+			if ( keysByFetchGroup != null ) {
+				for ( LinkedHashSet<EntityKey> keys : keysByFetchGroup.values() ) {
+					keys.remove( key );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Get the keys of the entities of the given type whose given lazy attribute group may not be initialized
+	 * yet, in the order they were added.  The caller removes the keys it loads, or finds already initialized,
+	 * through the returned set.
+	 *
+	 * @param entityName The name of the entity type.
+	 * @param fetchGroup The name of the lazy attribute group.
+	 * @return The (modifiable) set of keys, possibly empty.
+	 */
+	public Set<EntityKey> getLazyGroupBatchLoadableEntityKeys(String entityName, String fetchGroup) {
+		if ( lazyGroupBatchLoadableEntityKeys != null ) {
+			final Map<String, LinkedHashSet<EntityKey>> keysByFetchGroup =
+					lazyGroupBatchLoadableEntityKeys.get( entityName );
+			if ( keysByFetchGroup != null && keysByFetchGroup.containsKey( fetchGroup ) ) {
+				return keysByFetchGroup.get( fetchGroup );
+			}
+		}
+		return Collections.emptySet();
+	}
+
+
 	// collection batch support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	/**
@@ -9,6 +9,7 @@ package org.hibernate.hql.internal.ast;
 import org.hibernate.hql.internal.ast.tree.Node;
 
 import antlr.ASTFactory;
+import antlr.collections.AST;
 
 /**
  * User: Joshua Davis<br>
@@ -26,4 +27,15 @@ public class HqlASTFactory extends ASTFactory {
 	public Class getASTNodeType(int tokenType) {
 		return Node.class;
 	}
+
+	/**
+	 * Instantiates the AST node, without reflection for {@link Node}.
+	 *
+	 * @param c The class to instantiate.
+	 * @return AST - The instantiated node.
+	 */
+	@Override
+	protected AST create(Class c) {
+		return c == Node.class ? new Node() : super.create( c );
+	}
 }
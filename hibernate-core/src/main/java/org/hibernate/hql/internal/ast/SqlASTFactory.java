@@ -7,6 +7,9 @@
 package org.hibernate.hql.internal.ast;
 
 import java.lang.reflect.Constructor;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import org.hibernate.hql.internal.antlr.HqlSqlTokenTypes;
 import org.hibernate.hql.internal.ast.tree.AggregateNode;
@@ -65,6 +68,56 @@ import antlr.collections.AST;
  * @author Joshua
  */
 public class SqlASTFactory extends ASTFactory implements HqlSqlTokenTypes {
+	/**
+	 * Constructors of the node classes returned by {@link #getASTNodeType}, so that these nodes are
+	 * created without reflection.
+	 */
+	private static final Map<Class, Supplier<AST>> NODE_FACTORIES = new IdentityHashMap<>();
+
+	static {
+		NODE_FACTORIES.put( QueryNode.class, QueryNode::new );
+		NODE_FACTORIES.put( UpdateStatement.class, UpdateStatement::new );
+		NODE_FACTORIES.put( DeleteStatement.class, DeleteStatement::new );
+		NODE_FACTORIES.put( InsertStatement.class, InsertStatement::new );
+		NODE_FACTORIES.put( IntoClause.class, IntoClause::new );
+		NODE_FACTORIES.put( FromClause.class, FromClause::new );
+		NODE_FACTORIES.put( FromElement.class, FromElement::new );
+		NODE_FACTORIES.put( ImpliedFromElement.class, ImpliedFromElement::new );
+		NODE_FACTORIES.put( DotNode.class, DotNode::new );
+		NODE_FACTORIES.put( IndexNode.class, IndexNode::new );
+		NODE_FACTORIES.put( IdentNode.class, IdentNode::new );
+		NODE_FACTORIES.put( ResultVariableRefNode.class, ResultVariableRefNode::new );
+		NODE_FACTORIES.put( SqlFragment.class, SqlFragment::new );
+		NODE_FACTORIES.put( MethodNode.class, MethodNode::new );
+		NODE_FACTORIES.put( CastFunctionNode.class, CastFunctionNode::new );
+		NODE_FACTORIES.put( CollectionFunction.class, CollectionFunction::new );
+		NODE_FACTORIES.put( SelectClause.class, SelectClause::new );
+		NODE_FACTORIES.put( SelectExpressionImpl.class, SelectExpressionImpl::new );
+		NODE_FACTORIES.put( AggregateNode.class, AggregateNode::new );
+		NODE_FACTORIES.put( CountNode.class, CountNode::new );
+		NODE_FACTORIES.put( ConstructorNode.class, ConstructorNode::new );
+		NODE_FACTORIES.put( LiteralNode.class, LiteralNode::new );
+		NODE_FACTORIES.put( BooleanLiteralNode.class, BooleanLiteralNode::new );
+		NODE_FACTORIES.put( JavaConstantNode.class, JavaConstantNode::new );
+		NODE_FACTORIES.put( OrderByClause.class, OrderByClause::new );
+		NODE_FACTORIES.put( BinaryArithmeticOperatorNode.class, BinaryArithmeticOperatorNode::new );
+		NODE_FACTORIES.put( UnaryArithmeticNode.class, UnaryArithmeticNode::new );
+		NODE_FACTORIES.put( SimpleCaseNode.class, SimpleCaseNode::new );
+		NODE_FACTORIES.put( SearchedCaseNode.class, SearchedCaseNode::new );
+		NODE_FACTORIES.put( ParameterNode.class, ParameterNode::new );
+		NODE_FACTORIES.put( BinaryLogicOperatorNode.class, BinaryLogicOperatorNode::new );
+		NODE_FACTORIES.put( InLogicOperatorNode.class, InLogicOperatorNode::new );
+		NODE_FACTORIES.put( BetweenOperatorNode.class, BetweenOperatorNode::new );
+		NODE_FACTORIES.put( IsNullLogicOperatorNode.class, IsNullLogicOperatorNode::new );
+		NODE_FACTORIES.put( IsNotNullLogicOperatorNode.class, IsNotNullLogicOperatorNode::new );
+		NODE_FACTORIES.put( UnaryLogicOperatorNode.class, UnaryLogicOperatorNode::new );
+		NODE_FACTORIES.put( MapKeyNode.class, MapKeyNode::new );
+		NODE_FACTORIES.put( MapValueNode.class, MapValueNode::new );
+		NODE_FACTORIES.put( MapEntryNode.class, MapEntryNode::new );
+		NODE_FACTORIES.put( NullNode.class, NullNode::new );
+		NODE_FACTORIES.put( SqlNode.class, SqlNode::new );
+	}
+
 	private HqlSqlWalker walker;
 
 	/**
@@ -246,7 +299,8 @@ public class SqlASTFactory extends ASTFactory implements HqlSqlTokenTypes {
 	protected AST create(Class c) {
 		AST t;
 		try {
-			t = (AST) c.newInstance();
+			final Supplier<AST> nodeFactory = NODE_FACTORIES.get( c );
+			t = nodeFactory == null ? (AST) c.newInstance() : nodeFactory.get();
 			initializeSqlNode( t );
 		}
 		catch (Exception e) {
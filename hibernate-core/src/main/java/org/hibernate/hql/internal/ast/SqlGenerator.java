@@ -242,15 +242,15 @@ public class SqlGenerator extends SqlGeneratorBase implements ErrorReporter {
 	 */
 	static class StandardFunctionArguments implements FunctionArgumentsCollectingWriter {
 		private int argInd;
-		private final List<String> args = new ArrayList<String>( 3 );
+		private final List<StringBuilder> args = new ArrayList<StringBuilder>( 3 );
 
 		@Override
 		public void clause(String clause) {
 			if ( argInd == args.size() ) {
-				args.add( clause );
+				args.add( new StringBuilder( clause ) );
 			}
 			else {
-				args.set( argInd, args.get( argInd ) + clause );
+				args.get( argInd ).append( clause );
 			}
 		}
 
@@ -260,7 +260,11 @@ public class SqlGenerator extends SqlGeneratorBase implements ErrorReporter {
 		}
 
 		public List getArgs() {
-			return args;
+			List<String> rtn = CollectionHelper.arrayList( args.size() );
+			for ( StringBuilder arg : args ) {
+				rtn.add( arg.toString() );
+			}
+			return rtn;
 		}
 	}
 
@@ -269,8 +273,8 @@ public class SqlGenerator extends SqlGeneratorBase implements ErrorReporter {
 	 * which catches function arguments.
 	 */
 	static class CastFunctionArguments implements FunctionArgumentsCollectingWriter {
-		private String castExpression;
-		private String castTargetType;
+		private StringBuilder castExpression;
+		private StringBuilder castTargetType;
 
 		private boolean startedType;
 
@@ -278,18 +282,18 @@ public class SqlGenerator extends SqlGeneratorBase implements ErrorReporter {
 		public void clause(String clause) {
 			if ( startedType ) {
 				if ( castTargetType == null ) {
-					castTargetType = clause;
+					castTargetType = new StringBuilder( clause );
 				}
 				else {
-					castTargetType += clause;
+					castTargetType.append( clause );
 				}
 			}
 			else {
 				if ( castExpression == null ) {
-					castExpression = clause;
+					castExpression = new StringBuilder( clause );
 				}
 				else {
-					castExpression += clause;
+					castExpression.append( clause );
 				}
 			}
 		}
@@ -304,8 +308,8 @@ public class SqlGenerator extends SqlGeneratorBase implements ErrorReporter {
 
 		public List getArgs() {
 			List<String> rtn = CollectionHelper.arrayList( 2 );
-			rtn.add( castExpression );
-			rtn.add( castTargetType );
+			rtn.add( castExpression == null ? null : castExpression.toString() );
+			rtn.add( castTargetType == null ? null : castTargetType.toString() );
 			return rtn;
 		}
 	}
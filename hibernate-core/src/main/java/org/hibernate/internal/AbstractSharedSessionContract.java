@@ -51,6 +51,7 @@ import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.query.spi.HQLQueryPlan;
 import org.hibernate.engine.query.spi.NativeSQLQueryPlan;
+import org.hibernate.engine.query.spi.ReturnMetadata;
 import org.hibernate.engine.query.spi.sql.NativeSQLQueryConstructorReturn;
 import org.hibernate.engine.query.spi.sql.NativeSQLQueryReturn;
 import org.hibernate.engine.query.spi.sql.NativeSQLQueryRootReturn;
@@ -725,14 +726,7 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		delayedAfterCompletion();
 
 		try {
-			final QueryImpl query = new QueryImpl(
-					this,
-					getQueryPlan( queryString, false ).getParameterMetadata(),
-					queryString
-			);
-			query.setComment( queryString );
-			applyQuerySettingsAndHints( query );
-			return query;
+			return createQuery( queryString, getQueryPlan( queryString, false ) );
 		}
 		catch (RuntimeException e) {
 			markForRollbackOnly();
@@ -740,6 +734,13 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		}
 	}
 
+	private QueryImplementor createQuery(String queryString, HQLQueryPlan queryPlan) {
+		final QueryImpl query = new QueryImpl( this, queryPlan.getParameterMetadata(), queryString );
+		query.setComment( queryString );
+		applyQuerySettingsAndHints( query );
+		return query;
+	}
+
 	@SuppressWarnings("WeakerAccess")
 	protected CriteriaCompiler criteriaCompiler() {
 		if ( criteriaCompiler == null ) {
@@ -789,12 +790,29 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 			Class<T> resultClass,
 			Selection selection,
 			HibernateEntityManagerImplementor.QueryOptions queryOptions) {
+		checkOpen();
+		pulseTransactionCoordinator();
+		delayedAfterCompletion();
+
 		try {
-			final QueryImplementor query = createQuery( jpaqlString );
+			// resolve the plan once: validating the return types through the query would look the plan up again,
+			// and translate the query a second time when filters are enabled
+			final HQLQueryPlan queryPlan;
+			try {
+				queryPlan = getQueryPlan( jpaqlString, false );
+			}
+			catch (RuntimeException e) {
+				markForRollbackOnly();
+				throw e;
+			}
+			final QueryImplementor query = createQuery( jpaqlString, queryPlan );
 
 			if ( queryOptions.getValueHandlers() == null ) {
 				if ( queryOptions.getResultMetadataValidator() != null ) {
-					queryOptions.getResultMetadataValidator().validate( query.getReturnTypes() );
+					final ReturnMetadata returnMetadata = queryPlan.getReturnMetadata();
+					queryOptions.getResultMetadataValidator().validate(
+							returnMetadata == null ? null : returnMetadata.getReturnTypes()
+					);
 				}
 			}
 
@@ -13,6 +13,7 @@ import java.util.List;
 import org.hibernate.engine.jdbc.spi.ConnectionObserver;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * @author Steve Ebersole
@@ -64,6 +65,14 @@ public class JdbcObserverImpl implements JdbcObserver {
 		session.getEventListenerManager().jdbcPrepareStatementEnd();
 	}
 
+	@Override
+	public void jdbcPrepareStatementCacheHit() {
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.prepareStatementCacheHit();
+		}
+	}
+
 	@Override
 	public void jdbcExecuteStatementStart() {
 		session.getEventListenerManager().jdbcExecuteStatementStart();
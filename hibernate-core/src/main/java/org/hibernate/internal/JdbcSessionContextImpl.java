@@ -65,6 +65,11 @@ public class JdbcSessionContextImpl implements JdbcSessionContext {
 		return settings().doesConnectionProviderDisableAutoCommit();
 	}
 
+	@Override
+	public int getPreparedStatementCacheSize() {
+		return settings().getPreparedStatementCacheSize();
+	}
+
 	@Override
 	public ConnectionReleaseMode getConnectionReleaseMode() {
 		return connectionHandlingMode.getReleaseMode();
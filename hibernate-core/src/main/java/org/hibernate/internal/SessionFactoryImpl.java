@@ -573,7 +573,10 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 	}
 
 	private Map<String,HibernateException> checkNamedQueries() throws HibernateException {
-		return namedQueryRepository.checkNamedQueries( queryPlanCache );
+		return namedQueryRepository.checkNamedQueries(
+				queryPlanCache,
+				sessionFactoryOptions.isParallelNamedQueryStartupCheckingEnabled()
+		);
 	}
 
 	@Override
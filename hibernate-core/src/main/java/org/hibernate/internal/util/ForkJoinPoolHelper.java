@@ -0,0 +1,40 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Helper for the dedicated {@link ForkJoinPool}s used to run bootstrap work concurrently.
+ */
+public final class ForkJoinPoolHelper {
+
+	private ForkJoinPoolHelper() { /* static methods only - hide constructor */
+	}
+
+	/**
+	 * Create a pool with one worker per available processor, whose threads use the context class loader of the
+	 * calling thread, so that the work sees the same classes as when run by the calling thread.  The caller is
+	 * responsible for shutting the pool down.
+	 *
+	 * @return The new pool
+	 */
+	public static ForkJoinPool newContextClassLoaderPropagatingPool() {
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		return new ForkJoinPool(
+				Runtime.getRuntime().availableProcessors(),
+				pool -> {
+					final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( pool );
+					thread.setContextClassLoader( contextClassLoader );
+					return thread;
+				},
+				null,
+				false
+		);
+	}
+}
@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -18,6 +19,10 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.persistence.EntityGraph;
 import javax.persistence.NamedAttributeNode;
 import javax.persistence.NamedEntityGraph;
@@ -50,12 +55,16 @@ import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.graph.spi.SubGraphImplementor;
 import org.hibernate.internal.EntityManagerMessageLogger;
 import org.hibernate.internal.HEMLogging;
+import org.hibernate.internal.util.ForkJoinPoolHelper;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.mapping.Collection;
+import org.hibernate.mapping.IdentifierCollection;
+import org.hibernate.mapping.IndexedCollection;
 import org.hibernate.mapping.MappedSuperclass;
 import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
 import org.hibernate.mapping.RootClass;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.model.domain.internal.EntityTypeImpl;
@@ -173,17 +182,34 @@ public class MetamodelImpl implements MetamodelImplementor, Serializable {
 
 		final PersisterFactory persisterFactory = sessionFactory.getServiceRegistry().getService( PersisterFactory.class );
 
-		for ( final PersistentClass model : mappingMetadata.getEntityBindings() ) {
-			final NavigableRole rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
-			final EntityDataAccess accessStrategy = sessionFactory.getCache().getEntityRegionAccess( rootEntityRole );
-			final NaturalIdDataAccess naturalIdAccessStrategy = sessionFactory.getCache().getNaturalIdCacheRegionAccessStrategy( rootEntityRole );
+		// when enabled the persisters are created concurrently, once the lazily resolved parts of the boot
+		// model have been resolved up front - registering them is always done sequentially, in binding order
+		final boolean parallelPersisterCreation = sessionFactory.getSessionFactoryOptions().isParallelPersisterCreationEnabled();
+		if ( parallelPersisterCreation ) {
+			resolveBootModel( mappingMetadata );
+		}
+
+		final List<PersistentClass> entityBindings = new ArrayList<>( mappingMetadata.getEntityBindings() );
+		final List<EntityPersister> entityPersisters = createPersisters(
+				entityBindings,
+				model -> {
+					final NavigableRole rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
+					final EntityDataAccess accessStrategy = sessionFactory.getCache().getEntityRegionAccess( rootEntityRole );
+					final NaturalIdDataAccess naturalIdAccessStrategy = sessionFactory.getCache().getNaturalIdCacheRegionAccessStrategy( rootEntityRole );
+
+					return persisterFactory.createEntityPersister(
+							model,
+							accessStrategy,
+							naturalIdAccessStrategy,
+							persisterCreationContext
+					);
+				},
+				parallelPersisterCreation
+		);
 
-			final EntityPersister cp = persisterFactory.createEntityPersister(
-					model,
-					accessStrategy,
-					naturalIdAccessStrategy,
-					persisterCreationContext
-			);
+		for ( int i = 0; i < entityBindings.size(); i++ ) {
+			final PersistentClass model = entityBindings.get( i );
+			final EntityPersister cp = entityPersisters.get( i );
 			entityPersisterMap.put( model.getEntityName(), cp );
 
 			if ( cp.getConcreteProxyClass() != null
@@ -216,17 +242,29 @@ public class MetamodelImpl implements MetamodelImplementor, Serializable {
 			}
 		}
 
-		for ( final Collection model : mappingMetadata.getCollectionBindings() ) {
-			final NavigableRole navigableRole = new NavigableRole( model.getRole() );
-
-			final CollectionDataAccess accessStrategy = sessionFactory.getCache().getCollectionRegionAccess(
-					navigableRole );
+		// collection persisters resolve the entity persisters they refer to, so they are only
+		// created once all entity persisters have been registered
+		final List<Collection> collectionBindings = new ArrayList<>( mappingMetadata.getCollectionBindings() );
+		final List<CollectionPersister> collectionPersisters = createPersisters(
+				collectionBindings,
+				model -> {
+					final NavigableRole navigableRole = new NavigableRole( model.getRole() );
+
+					final CollectionDataAccess accessStrategy = sessionFactory.getCache().getCollectionRegionAccess(
+							navigableRole );
+
+					return persisterFactory.createCollectionPersister(
+							model,
+							accessStrategy,
+							persisterCreationContext
+					);
+				},
+				parallelPersisterCreation
+		);
 
-			final CollectionPersister persister = persisterFactory.createCollectionPersister(
-					model,
-					accessStrategy,
-					persisterCreationContext
-			);
+		for ( int i = 0; i < collectionBindings.size(); i++ ) {
+			final Collection model = collectionBindings.get( i );
+			final CollectionPersister persister = collectionPersisters.get( i );
 			collectionPersisterMap.put( model.getRole(), persister );
 			Type indexType = persister.getIndexType();
 			if ( indexType != null && indexType.isAssociationType() && !indexType.isAnyType() ) {
@@ -286,6 +324,74 @@ public class MetamodelImpl implements MetamodelImplementor, Serializable {
 
 	}
 
+	/**
+	 * Resolve the boot model state that is lazily resolved, and possibly cached, when read by the persisters -
+	 * the mapped classes and the value types - so that creating the persisters concurrently does not race
+	 * on it.
+	 */
+	private static void resolveBootModel(MetadataImplementor mappingMetadata) {
+		for ( PersistentClass model : mappingMetadata.getEntityBindings() ) {
+			model.getMappedClass();
+			model.getProxyInterface();
+			if ( model.getIdentifier() != null ) {
+				model.getIdentifier().getType();
+			}
+			if ( model.getIdentifierMapper() != null ) {
+				model.getIdentifierMapper().getType();
+			}
+			final Iterator properties = model.getPropertyIterator();
+			while ( properties.hasNext() ) {
+				( (Property) properties.next() ).getType();
+			}
+		}
+
+		for ( Collection model : mappingMetadata.getCollectionBindings() ) {
+			model.getType();
+			model.getKey().getType();
+			model.getElement().getType();
+			if ( model instanceof IndexedCollection ) {
+				( (IndexedCollection) model ).getIndex().getType();
+			}
+			if ( model instanceof IdentifierCollection ) {
+				( (IdentifierCollection) model ).getIdentifier().getType();
+			}
+		}
+	}
+
+	/**
+	 * Create the persisters for the given boot models, returned in the same order as the models.  When
+	 * {@code parallel} is requested the persisters are created concurrently on a dedicated pool, whose threads
+	 * use the context class loader of the calling thread.
+	 */
+	private static <M, P> List<P> createPersisters(
+			List<M> models,
+			Function<M, P> persisterCreator,
+			boolean parallel) {
+		if ( !parallel || models.size() < 2 ) {
+			return models.stream().map( persisterCreator ).collect( Collectors.toList() );
+		}
+
+		final ForkJoinPool persisterCreationPool = ForkJoinPoolHelper.newContextClassLoaderPropagatingPool();
+		try {
+			return persisterCreationPool.submit(
+					() -> models.parallelStream().map( persisterCreator ).collect( Collectors.toList() )
+			).get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while creating persisters", e );
+		}
+		catch (ExecutionException e) {
+			if ( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new HibernateException( "Unable to create persisters", e.getCause() );
+		}
+		finally {
+			persisterCreationPool.shutdown();
+		}
+	}
+
 	private void primeSecondLevelCacheRegions(MetadataImplementor mappingMetadata) {
 		final Map<String, DomainDataRegionConfigImpl.Builder> regionConfigBuilders = new ConcurrentHashMap<>();
 
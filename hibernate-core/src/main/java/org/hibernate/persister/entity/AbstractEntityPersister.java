@@ -24,6 +24,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.EntityMode;
@@ -82,6 +83,7 @@ import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
 import org.hibernate.engine.spi.ValueInclusion;
 import org.hibernate.id.IdentifierGenerator;
 import org.hibernate.id.PostInsertIdentifierGenerator;
@@ -93,6 +95,7 @@ import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.FilterHelper;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.jdbc.Expectations;
 import org.hibernate.jdbc.TooManyRowsAffectedException;
@@ -184,6 +187,7 @@ public abstract class AbstractEntityPersister
 	private final String versionColumnName;
 	private final boolean hasFormulaProperties;
 	protected final int batchSize;
+	private final int lazyGroupBatchSize;
 	private final boolean hasSubselectLoadableCollections;
 	protected final String rowIdName;
 
@@ -247,14 +251,16 @@ public abstract class AbstractEntityPersister
 
 	private final Map uniqueKeyLoaders = new HashMap();
 	private final Map lockers = new HashMap();
-	private UniqueEntityLoader noneLockLoader;
-	private UniqueEntityLoader readLockLoader;
+	private volatile UniqueEntityLoader noneLockLoader;
+	private volatile UniqueEntityLoader readLockLoader;
 	private final Map<Object, UniqueEntityLoader> loaders = new ConcurrentHashMap<>();
 
 	// SQL strings
-	private String sqlVersionSelectString;
-	private String sqlSnapshotSelectString;
-	private Map<String,String> sqlLazySelectStringsByFetchGroup;
+	// select SQL is generated on first use, see #doLateInit
+	private volatile String sqlVersionSelectString;
+	private volatile String sqlSnapshotSelectString;
+	private volatile Map<String,String> sqlLazySelectStringsByFetchGroup;
+	private final ConcurrentMap<String,String> sqlLazyBatchSelectStrings = new ConcurrentHashMap<>();
 
 	private String sqlIdentityInsertString;
 	private String sqlUpdateByRowIdString;
@@ -265,8 +271,15 @@ public abstract class AbstractEntityPersister
 	private String[] sqlUpdateStrings;
 	private String[] sqlLazyUpdateStrings;
 
-	private String sqlInsertGeneratedValuesSelectString;
-	private String sqlUpdateGeneratedValuesSelectString;
+	/**
+	 * Dynamic-update SQL, keyed by the set of updated properties (the "dirty signature").
+	 * Only used when the SQL does not depend on the old property values.
+	 */
+	private final ConcurrentMap<DynamicUpdateKey,String> sqlDynamicUpdateStrings =
+			new BoundedConcurrentHashMap<>( DYNAMIC_UPDATE_STRING_CACHE_SIZE );
+
+	private volatile String sqlInsertGeneratedValuesSelectString;
+	private volatile String sqlUpdateGeneratedValuesSelectString;
 
 	//Custom SQL (would be better if these were private)
 	protected boolean[] insertCallable;
@@ -416,11 +429,39 @@ public abstract class AbstractEntityPersister
 	}
 
 	protected String getSQLSnapshotSelectString() {
-		return sqlSnapshotSelectString;
+		String sql = sqlSnapshotSelectString;
+		if ( sql == null ) {
+			sql = generateSnapshotSelectString();
+			sqlSnapshotSelectString = sql;
+		}
+		return sql;
 	}
 
 	protected String getSQLLazySelectString(String fetchGroup) {
-		return sqlLazySelectStringsByFetchGroup.get( fetchGroup );
+		return getSQLLazySelectStringsByFetchGroup().get( fetchGroup );
+	}
+
+	/**
+	 * The select of the attributes of a fetch group of several entities, which also selects the identifier.
+	 */
+	protected String getSQLLazyBatchSelectString(String fetchGroup, int batchSize) {
+		return sqlLazyBatchSelectStrings.computeIfAbsent(
+				fetchGroup + '#' + batchSize,
+				key -> generateLazySelectString(
+						entityMetamodel.getBytecodeEnhancementMetadata().getLazyAttributesMetadata(),
+						fetchGroup,
+						batchSize
+				)
+		);
+	}
+
+	private Map<String,String> getSQLLazySelectStringsByFetchGroup() {
+		Map<String,String> sqlByFetchGroup = sqlLazySelectStringsByFetchGroup;
+		if ( sqlByFetchGroup == null ) {
+			sqlByFetchGroup = generateLazySelectStringsByFetchGroup();
+			sqlLazySelectStringsByFetchGroup = sqlByFetchGroup;
+		}
+		return sqlByFetchGroup;
 	}
 
 	protected String[] getSQLDeleteStrings() {
@@ -449,7 +490,30 @@ public abstract class AbstractEntityPersister
 	}
 
 	protected String getVersionSelectString() {
-		return sqlVersionSelectString;
+		String sql = sqlVersionSelectString;
+		if ( sql == null ) {
+			sql = generateSelectVersionString();
+			sqlVersionSelectString = sql;
+		}
+		return sql;
+	}
+
+	private String getSQLInsertGeneratedValuesSelectString() {
+		String sql = sqlInsertGeneratedValuesSelectString;
+		if ( sql == null ) {
+			sql = generateInsertGeneratedValuesSelectString();
+			sqlInsertGeneratedValuesSelectString = sql;
+		}
+		return sql;
+	}
+
+	private String getSQLUpdateGeneratedValuesSelectString() {
+		String sql = sqlUpdateGeneratedValuesSelectString;
+		if ( sql == null ) {
+			sql = generateUpdateGeneratedValuesSelectString();
+			sqlUpdateGeneratedValuesSelectString = sql;
+		}
+		return sql;
 	}
 
 	protected boolean isInsertCallable(int j) {
@@ -579,6 +643,7 @@ public abstract class AbstractEntityPersister
 			batch = factory.getSessionFactoryOptions().getDefaultBatchFetchSize();
 		}
 		batchSize = batch;
+		lazyGroupBatchSize = factory.getSessionFactoryOptions().getLazyGroupBatchFetchSize();
 		hasSubselectLoadableCollections = persistentClass.hasSubselectLoadableCollections();
 
 		propertyMapping = new BasicEntityPropertyMapping( this );
@@ -1009,51 +1074,75 @@ public abstract class AbstractEntityPersister
 
 		final LazyAttributesMetadata lazyAttributesMetadata = enhancementMetadata.getLazyAttributesMetadata();
 		for ( String groupName : lazyAttributesMetadata.getFetchGroupNames() ) {
-			HashSet tableNumbers = new HashSet();
-			ArrayList columnNumbers = new ArrayList();
-			ArrayList formulaNumbers = new ArrayList();
-
-			for ( LazyAttributeDescriptor lazyAttributeDescriptor :
-					lazyAttributesMetadata.getFetchGroupAttributeDescriptors( groupName ) ) {
-				// all this only really needs to consider properties
-				// of this class, not its subclasses, but since we
-				// are reusing code used for sequential selects, we
-				// use the subclass closure
-				int propertyNumber = getSubclassPropertyIndex( lazyAttributeDescriptor.getName() );
-
-				int tableNumber = getSubclassPropertyTableNumber( propertyNumber );
-				tableNumbers.add( tableNumber );
-
-				int[] colNumbers = subclassPropertyColumnNumberClosure[propertyNumber];
-				for ( int colNumber : colNumbers ) {
-					if ( colNumber != -1 ) {
-						columnNumbers.add( colNumber );
-					}
+			final String lazySelect = generateLazySelectString( lazyAttributesMetadata, groupName, 1 );
+			if ( lazySelect != null ) {
+				result.put( groupName, lazySelect );
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Generate the select of the attributes of a fetch group.
+	 *
+	 * @param lazyAttributesMetadata The metadata of the lazy attributes
+	 * @param groupName The name of the fetch group
+	 * @param batchSize The number of entities whose fetch group is selected
+	 *
+	 * @return The select, or null if the only attributes of the fetch group are one-to-one associations
+	 */
+	private String generateLazySelectString(
+			LazyAttributesMetadata lazyAttributesMetadata,
+			String groupName,
+			int batchSize) {
+		HashSet tableNumbers = new HashSet();
+		ArrayList columnNumbers = new ArrayList();
+		ArrayList formulaNumbers = new ArrayList();
+
+		for ( LazyAttributeDescriptor lazyAttributeDescriptor :
+				lazyAttributesMetadata.getFetchGroupAttributeDescriptors( groupName ) ) {
+			// all this only really needs to consider properties
+			// of this class, not its subclasses, but since we
+			// are reusing code used for sequential selects, we
+			// use the subclass closure
+			int propertyNumber = getSubclassPropertyIndex( lazyAttributeDescriptor.getName() );
+
+			int tableNumber = getSubclassPropertyTableNumber( propertyNumber );
+			tableNumbers.add( tableNumber );
+
+			int[] colNumbers = subclassPropertyColumnNumberClosure[propertyNumber];
+			for ( int colNumber : colNumbers ) {
+				if ( colNumber != -1 ) {
+					columnNumbers.add( colNumber );
 				}
-				int[] formNumbers = subclassPropertyFormulaNumberClosure[propertyNumber];
-				for ( int formNumber : formNumbers ) {
-					if ( formNumber != -1 ) {
-						formulaNumbers.add( formNumber );
-					}
+			}
+			int[] formNumbers = subclassPropertyFormulaNumberClosure[propertyNumber];
+			for ( int formNumber : formNumbers ) {
+				if ( formNumber != -1 ) {
+					formulaNumbers.add( formNumber );
 				}
 			}
+		}
 
-			if ( columnNumbers.size() == 0 && formulaNumbers.size() == 0 ) {
-				// only one-to-one is lazy fetched
-				continue;
-			}
+		if ( columnNumbers.size() == 0 && formulaNumbers.size() == 0 ) {
+			// only one-to-one is lazy fetched
+			return null;
+		}
 
-			result.put(
-					groupName,
-					renderSelect(
-							ArrayHelper.toIntArray( tableNumbers ),
-							ArrayHelper.toIntArray( columnNumbers ),
-							ArrayHelper.toIntArray( formulaNumbers )
-					)
+		if ( batchSize == 1 ) {
+			return renderSelect(
+					ArrayHelper.toIntArray( tableNumbers ),
+					ArrayHelper.toIntArray( columnNumbers ),
+					ArrayHelper.toIntArray( formulaNumbers )
 			);
 		}
-
-		return result;
+		return renderBatchSelect(
+				ArrayHelper.toIntArray( tableNumbers ),
+				ArrayHelper.toIntArray( columnNumbers ),
+				ArrayHelper.toIntArray( formulaNumbers ),
+				batchSize
+		);
 	}
 
 	public Object initializeLazyProperty(String fieldName, Object entity, SharedSessionContractImplementor session) {
@@ -1180,9 +1269,6 @@ public abstract class AbstractEntityPersister
 			throw new AssertionFailure( "no lazy properties" );
 		}
 
-		final PersistentAttributeInterceptor interceptor = ( (PersistentAttributeInterceptable) entity ).$$_hibernate_getInterceptor();
-		assert interceptor != null : "Expecting bytecode interceptor to be non-null";
-
 		LOG.tracef( "Initializing lazy properties from datastore (triggered for `%s`)", fieldName );
 
 		final String fetchGroup = getEntityMetamodel().getBytecodeEnhancementMetadata()
@@ -1192,10 +1278,22 @@ public abstract class AbstractEntityPersister
 				.getLazyAttributesMetadata()
 				.getFetchGroupAttributeDescriptors( fetchGroup );
 
-		final Set<String> initializedLazyAttributeNames = interceptor.getInitializedLazyAttributeNames();
-
 		final String lazySelect = getSQLLazySelectString( fetchGroup );
 
+		if ( lazySelect != null && isLazyGroupBatchLoadable() ) {
+			final Map<Serializable, Object> batch = getLazyFetchGroupBatch( fieldName, fetchGroup, entity, id, session );
+			if ( batch.size() > 1 ) {
+				return initializeLazyPropertiesFromDatastore(
+						fieldName,
+						entity,
+						session,
+						batch,
+						fetchGroup,
+						fetchGroupAttributeDescriptors
+				);
+			}
+		}
+
 		try {
 			Object result = null;
 			PreparedStatement ps = null;
@@ -1213,45 +1311,135 @@ public abstract class AbstractEntityPersister
 						rs = session.getJdbcCoordinator().getResultSetReturn().extract( ps );
 						rs.next();
 					}
-					for ( LazyAttributeDescriptor fetchGroupAttributeDescriptor : fetchGroupAttributeDescriptors ) {
-						final boolean previousInitialized = initializedLazyAttributeNames.contains( fetchGroupAttributeDescriptor.getName() );
-
-						if ( previousInitialized ) {
-							// todo : one thing we should consider here is potentially un-marking an attribute as dirty based on the selected value
-							// 		we know the current value - getPropertyValue( entity, fetchGroupAttributeDescriptor.getAttributeIndex() );
-							// 		we know the selected value (see selectedValue below)
-							//		we can use the attribute Type to tell us if they are the same
-							//
-							//		assuming entity is a SelfDirtinessTracker we can also know if the attribute is
-							//			currently considered dirty, and if really not dirty we would do the un-marking
-							//
-							//		of course that would mean a new method on SelfDirtinessTracker to allow un-marking
-
-							// its already been initialized (e.g. by a write) so we don't want to overwrite
-							continue;
-						}
+					result = initializeLazyProperties( fieldName, entity, session, entry, rs, fetchGroupAttributeDescriptors );
+				}
+				finally {
+					if ( rs != null ) {
+						session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( rs, ps );
+					}
+				}
+			}
+			finally {
+				if ( ps != null ) {
+					session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( ps );
+					session.getJdbcCoordinator().afterStatementExecution();
+				}
+			}
+
+			LOG.trace( "Done initializing lazy properties" );
+
+			return result;
+
+		}
+		catch (SQLException sqle) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					sqle,
+					"could not initialize lazy properties: " + MessageHelper.infoString( this, id, getFactory() ),
+					lazySelect
+			);
+		}
+	}
+
+	/**
+	 * Can the lazy attribute groups of several entities of this persister be loaded together?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#LAZY_GROUP_BATCH_FETCH_SIZE
+	 */
+	private boolean isLazyGroupBatchLoadable() {
+		return lazyGroupBatchSize > 1
+				&& hasLazyProperties()
+				&& entityMetamodel.getBytecodeEnhancementMetadata().isEnhancedForLazyLoading()
+				&& getIdentifierColumnSpan() == 1;
+	}
+
+	/**
+	 * Collect the entities of this persister in the persistence context whose lazy attribute is not initialized yet,
+	 * up to the batch size, starting with the given entity.  The candidates are the entities queued for the fetch
+	 * group in the {@link org.hibernate.engine.spi.BatchFetchQueue} when they were loaded; each queued entity is
+	 * either added to the batch or no longer needs to be loaded, so it is dequeued in both cases.
+	 */
+	private Map<Serializable, Object> getLazyFetchGroupBatch(
+			final String fieldName,
+			final String fetchGroup,
+			final Object entity,
+			final Serializable id,
+			final SharedSessionContractImplementor session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Map<Serializable, Object> batch = new LinkedHashMap<>();
+		batch.put( id, entity );
+
+		final Iterator<EntityKey> keys = persistenceContext.getBatchFetchQueue()
+				.getLazyGroupBatchLoadableEntityKeys( getEntityName(), fetchGroup )
+				.iterator();
+		while ( batch.size() < lazyGroupBatchSize && keys.hasNext() ) {
+			final EntityKey key = keys.next();
+			keys.remove();
+			final Object candidateEntity = persistenceContext.getEntity( key );
+			if ( candidateEntity == entity || !( candidateEntity instanceof PersistentAttributeInterceptable ) ) {
+				continue;
+			}
+			final PersistentAttributeInterceptor interceptor =
+					( (PersistentAttributeInterceptable) candidateEntity ).$$_hibernate_getInterceptor();
+			if ( !( interceptor instanceof LazyAttributeLoadingInterceptor )
+					|| ( (LazyAttributeLoadingInterceptor) interceptor ).isAttributeLoaded( fieldName ) ) {
+				continue;
+			}
+			final EntityEntry candidateEntry = persistenceContext.getEntry( candidateEntity );
+			if ( candidateEntry != null
+					&& ( candidateEntry.getStatus() == Status.MANAGED || candidateEntry.getStatus() == Status.READ_ONLY ) ) {
+				batch.put( key.getIdentifier(), candidateEntity );
+			}
+		}
+		return batch;
+	}
 
+	private Object initializeLazyPropertiesFromDatastore(
+			final String fieldName,
+			final Object entity,
+			final SharedSessionContractImplementor session,
+			final Map<Serializable, Object> batch,
+			final String fetchGroup,
+			final List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors) {
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final String lazySelect = getSQLLazyBatchSelectString( fetchGroup, batch.size() );
 
-						final Object selectedValue = fetchGroupAttributeDescriptor.getType().nullSafeGet(
+		try {
+			Object result = null;
+			PreparedStatement ps = null;
+			try {
+				ResultSet rs = null;
+				try {
+					ps = session.getJdbcCoordinator()
+							.getStatementPreparer()
+							.prepareStatement( lazySelect );
+					int position = 1;
+					for ( Serializable id : batch.keySet() ) {
+						getIdentifierType().nullSafeSet( ps, id, position++, session );
+					}
+					rs = session.getJdbcCoordinator().getResultSetReturn().extract( ps );
+					while ( rs.next() ) {
+						final Serializable id = (Serializable) getIdentifierType().nullSafeGet(
 								rs,
-								lazyPropertyColumnAliases[fetchGroupAttributeDescriptor.getLazyIndex()],
+								getIdentifierAliases(),
 								session,
-								entity
+								null
 						);
-
-						final boolean set = initializeLazyProperty(
+						final Object rowEntity = batch.get( id );
+						if ( rowEntity == null ) {
+							continue;
+						}
+						final Object value = initializeLazyProperties(
 								fieldName,
-								entity,
+								rowEntity,
 								session,
-								entry,
-								fetchGroupAttributeDescriptor.getLazyIndex(),
-								selectedValue
+								persistenceContext.getEntry( rowEntity ),
+								rs,
+								fetchGroupAttributeDescriptors
 						);
-						if ( set ) {
-							result = selectedValue;
-							interceptor.attributeInitialized( fetchGroupAttributeDescriptor.getName() );
+						if ( rowEntity == entity ) {
+							result = value;
 						}
-
 					}
 				}
 				finally {
@@ -1267,20 +1455,84 @@ public abstract class AbstractEntityPersister
 				}
 			}
 
-			LOG.trace( "Done initializing lazy properties" );
+			LOG.tracef( "Done initializing lazy properties of %s entities", batch.size() );
 
 			return result;
-
 		}
 		catch (SQLException sqle) {
 			throw session.getJdbcServices().getSqlExceptionHelper().convert(
 					sqle,
-					"could not initialize lazy properties: " + MessageHelper.infoString( this, id, getFactory() ),
+					"could not initialize lazy properties: " + MessageHelper.infoString(
+							this,
+							batch.keySet().toArray( new Serializable[0] ),
+							getFactory()
+					),
 					lazySelect
 			);
 		}
 	}
 
+	/**
+	 * Initialize the attributes of a fetch group of an entity from the current row of the result set.
+	 *
+	 * @return The value of the attribute triggering the initialization, if initialized.
+	 */
+	private Object initializeLazyProperties(
+			final String fieldName,
+			final Object entity,
+			final SharedSessionContractImplementor session,
+			final EntityEntry entry,
+			final ResultSet rs,
+			final List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors) throws SQLException {
+		final PersistentAttributeInterceptor interceptor = ( (PersistentAttributeInterceptable) entity ).$$_hibernate_getInterceptor();
+		assert interceptor != null : "Expecting bytecode interceptor to be non-null";
+
+		final Set<String> initializedLazyAttributeNames = interceptor.getInitializedLazyAttributeNames();
+
+		Object result = null;
+		for ( LazyAttributeDescriptor fetchGroupAttributeDescriptor : fetchGroupAttributeDescriptors ) {
+			final boolean previousInitialized = initializedLazyAttributeNames.contains( fetchGroupAttributeDescriptor.getName() );
+
+			if ( previousInitialized ) {
+				// todo : one thing we should consider here is potentially un-marking an attribute as dirty based on the selected value
+				// 		we know the current value - getPropertyValue( entity, fetchGroupAttributeDescriptor.getAttributeIndex() );
+				// 		we know the selected value (see selectedValue below)
+				//		we can use the attribute Type to tell us if they are the same
+				//
+				//		assuming entity is a SelfDirtinessTracker we can also know if the attribute is
+				//			currently considered dirty, and if really not dirty we would do the un-marking
+				//
+				//		of course that would mean a new method on SelfDirtinessTracker to allow un-marking
+
+				// its already been initialized (e.g. by a write) so we don't want to overwrite
+				continue;
+			}
+
+
+			final Object selectedValue = fetchGroupAttributeDescriptor.getType().nullSafeGet(
+					rs,
+					lazyPropertyColumnAliases[fetchGroupAttributeDescriptor.getLazyIndex()],
+					session,
+					entity
+			);
+
+			final boolean set = initializeLazyProperty(
+					fieldName,
+					entity,
+					session,
+					entry,
+					fetchGroupAttributeDescriptor.getLazyIndex(),
+					selectedValue
+			);
+			if ( set ) {
+				result = selectedValue;
+				interceptor.attributeInitialized( fetchGroupAttributeDescriptor.getName() );
+			}
+
+		}
+		return result;
+	}
+
 	private Object initializeLazyPropertiesFromCache(
 			final String fieldName,
 			final Object entity,
@@ -2579,6 +2831,61 @@ public abstract class AbstractEntityPersister
 		return generateUpdateString( includeProperty, j, null, useRowId );
 	}
 
+	/**
+	 * Get the SQL that updates the given properties of a row by id (and version), generating
+	 * it on first use.  The SQL is cached per combination of updated properties, so dynamic updates
+	 * of the same dirty columns share a single SQL string and therefore a single batched statement.
+	 */
+	protected String getDynamicUpdateString(
+			final boolean[] includeProperty,
+			final int j,
+			final Object[] oldFields,
+			final boolean useRowId) {
+		if ( isAllOrDirtyOptLocking() && oldFields != null ) {
+			// the where clause depends on the nullness of the old values
+			return generateUpdateString( includeProperty, j, oldFields, useRowId );
+		}
+		return sqlDynamicUpdateStrings.computeIfAbsent(
+				new DynamicUpdateKey( includeProperty, j, useRowId ),
+				key -> generateUpdateString( includeProperty, j, oldFields, useRowId )
+		);
+	}
+
+	private static final int DYNAMIC_UPDATE_STRING_CACHE_SIZE = 128;
+
+	private static final class DynamicUpdateKey {
+		private final boolean[] includeProperty;
+		private final int table;
+		private final boolean useRowId;
+		private final int hashCode;
+
+		private DynamicUpdateKey(boolean[] includeProperty, int table, boolean useRowId) {
+			this.includeProperty = includeProperty.clone();
+			this.table = table;
+			this.useRowId = useRowId;
+			this.hashCode = 31 * ( 31 * Arrays.hashCode( includeProperty ) + table ) + ( useRowId ? 1 : 0 );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			final DynamicUpdateKey other = (DynamicUpdateKey) o;
+			return table == other.table
+					&& useRowId == other.useRowId
+					&& Arrays.equals( includeProperty, other.includeProperty );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
 	/**
 	 * Generate the SQL that updates a row by id (and version)
 	 */
@@ -3633,7 +3940,7 @@ public abstract class AbstractEntityPersister
 			updateStrings = new String[span];
 			for ( int j = 0; j < span; j++ ) {
 				updateStrings[j] = tableUpdateNeeded[j] ?
-						generateUpdateString( propsToUpdate, j, oldFields, j == 0 && rowId != null ) :
+						getDynamicUpdateString( propsToUpdate, j, oldFields, j == 0 && rowId != null ) :
 						null;
 			}
 		}
@@ -3822,15 +4129,11 @@ public abstract class AbstractEntityPersister
 	protected void logStaticSQL() {
 		if ( LOG.isDebugEnabled() ) {
 			LOG.debugf( "Static SQL for entity: %s", getEntityName() );
-			for ( Map.Entry<String, String> entry : sqlLazySelectStringsByFetchGroup.entrySet() ) {
+			for ( Map.Entry<String, String> entry : getSQLLazySelectStringsByFetchGroup().entrySet() ) {
 				LOG.debugf( " Lazy select (%s) : %s", entry.getKey(), entry.getValue() );
 			}
-			if ( sqlVersionSelectString != null ) {
-				LOG.debugf( " Version select: %s", sqlVersionSelectString );
-			}
-			if ( sqlSnapshotSelectString != null ) {
-				LOG.debugf( " Snapshot select: %s", sqlSnapshotSelectString );
-			}
+			LOG.debugf( " Version select: %s", getVersionSelectString() );
+			LOG.debugf( " Snapshot select: %s", getSQLSnapshotSelectString() );
 			for ( int j = 0; j < getTableSpan(); j++ ) {
 				LOG.debugf( " Insert %s: %s", j, getSQLInsertStrings()[j] );
 				LOG.debugf( " Update %s: %s", j, getSQLUpdateStrings()[j] );
@@ -3845,11 +4148,11 @@ public abstract class AbstractEntityPersister
 			if ( sqlLazyUpdateByRowIdString != null ) {
 				LOG.debugf( " Update by row id (non-lazy fields): %s", sqlLazyUpdateByRowIdString );
 			}
-			if ( sqlInsertGeneratedValuesSelectString != null ) {
-				LOG.debugf( " Insert-generated property select: %s", sqlInsertGeneratedValuesSelectString );
+			if ( hasInsertGeneratedProperties() ) {
+				LOG.debugf( " Insert-generated property select: %s", getSQLInsertGeneratedValuesSelectString() );
 			}
-			if ( sqlUpdateGeneratedValuesSelectString != null ) {
-				LOG.debugf( " Update-generated property select: %s", sqlUpdateGeneratedValuesSelectString );
+			if ( hasUpdateGeneratedProperties() ) {
+				LOG.debugf( " Update-generated property select: %s", getSQLUpdateGeneratedValuesSelectString() );
 			}
 		}
 	}
@@ -4105,6 +4408,38 @@ public abstract class AbstractEntityPersister
 		return select.toStatementString();
 	}
 
+	protected String renderBatchSelect(
+			final int[] tableNumbers,
+			final int[] columnNumbers,
+			final int[] formulaNumbers,
+			final int batchSize) {
+
+		Arrays.sort( tableNumbers );
+
+		final int drivingTable = tableNumbers[0];
+		final String drivingAlias = generateTableAlias( getRootAlias(), drivingTable );
+		final String[] keyColumns = getSubclassTableKeyColumns( drivingTable );
+		final String where = StringHelper.qualify( drivingAlias, keyColumns[0] )
+				+ " in (" + StringHelper.repeat( "?", batchSize, ", " ) + ')';
+		final String from = createFrom( drivingTable, drivingAlias );
+
+		final JoinFragment jf = createJoin( tableNumbers, drivingAlias );
+
+		// the identifier is selected to match the rows with the entities
+		final SelectFragment selectFragment = createSelect( columnNumbers, formulaNumbers )
+				.addColumns( drivingAlias, keyColumns, getIdentifierAliases() );
+
+		final Select select = new Select( getFactory().getDialect() );
+		select.setSelectClause( selectFragment.toFragmentString().substring( 2 ) );
+		select.setFromClause( from );
+		select.setWhereClause( where );
+		select.setOuterJoins( jf.toFromFragmentString(), jf.toWhereFragmentString() );
+		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			select.setComment( "batch sequential select " + getEntityName() );
+		}
+		return select.toStatementString();
+	}
+
 	private String getRootAlias() {
 		return StringHelper.generateAlias( getEntityName() );
 	}
@@ -4160,15 +4495,17 @@ public abstract class AbstractEntityPersister
 			tableHasColumns[j] = sqlUpdateStrings[j] != null;
 		}
 
-		//select SQL
-		sqlSnapshotSelectString = generateSnapshotSelectString();
-		sqlLazySelectStringsByFetchGroup = generateLazySelectStringsByFetchGroup();
-		sqlVersionSelectString = generateSelectVersionString();
-		if ( hasInsertGeneratedProperties() ) {
-			sqlInsertGeneratedValuesSelectString = generateInsertGeneratedValuesSelectString();
-		}
-		if ( hasUpdateGeneratedProperties() ) {
-			sqlUpdateGeneratedValuesSelectString = generateUpdateGeneratedValuesSelectString();
+		//select SQL is generated on first use, unless delayed creation has been disabled
+		if ( !factory.getSessionFactoryOptions().isDelayBatchFetchLoaderCreationsEnabled() ) {
+			getSQLSnapshotSelectString();
+			getSQLLazySelectStringsByFetchGroup();
+			getVersionSelectString();
+			if ( hasInsertGeneratedProperties() ) {
+				getSQLInsertGeneratedValuesSelectString();
+			}
+			if ( hasUpdateGeneratedProperties() ) {
+				getSQLUpdateGeneratedValuesSelectString();
+			}
 		}
 		if ( isIdentifierAssignedByInsert() ) {
 			identityDelegate = ( (PostInsertIdentifierGenerator) getIdentifierGenerator() )
@@ -4213,44 +4550,73 @@ public abstract class AbstractEntityPersister
 
 	//Relational based Persisters should be content with this implementation
 	protected void createLoaders() {
-		// We load the entity loaders for the most common lock modes.
-
-		noneLockLoader = createEntityLoader( LockMode.NONE );
-		readLockLoader = createEntityLoader( LockMode.READ );
-
-
-		// The loaders for the other lock modes are lazily loaded and will later be stored in this map,
-		//		unless this setting is disabled
+		// All loaders, including the ones for the most common lock modes and the internal merge
+		// and refresh load plans, are lazily created on first use, unless this setting is disabled
 		if ( ! factory.getSessionFactoryOptions().isDelayBatchFetchLoaderCreationsEnabled() ) {
+			getNoneLockLoader();
+			getReadLockLoader();
 			for ( LockMode lockMode : EnumSet.complementOf( EnumSet.of( LockMode.NONE, LockMode.READ, LockMode.WRITE ) ) ) {
 				loaders.put( lockMode, createEntityLoader( lockMode ) );
 			}
+			getInternalFetchProfileLoader( "merge" );
+			getInternalFetchProfileLoader( "refresh" );
 		}
-
-
-		// And finally, create the internal merge and refresh load plans
-
-		loaders.put(
-				"merge",
-				new CascadeEntityLoader( this, CascadingActions.MERGE, getFactory() )
-		);
-		loaders.put(
-				"refresh",
-				new CascadeEntityLoader( this, CascadingActions.REFRESH, getFactory() )
-		);
 	}
 
 	protected final UniqueEntityLoader getLoaderByLockMode(LockMode lockMode) {
 		if ( LockMode.NONE == lockMode ) {
-			return noneLockLoader;
+			return getNoneLockLoader();
 		}
 		else if ( LockMode.READ == lockMode ) {
-			return readLockLoader;
+			return getReadLockLoader();
 		}
 
 		return loaders.computeIfAbsent( lockMode, this::generateDelayedEntityLoader );
 	}
 
+	private UniqueEntityLoader getNoneLockLoader() {
+		UniqueEntityLoader loader = noneLockLoader;
+		if ( loader == null ) {
+			synchronized ( this ) {
+				loader = noneLockLoader;
+				if ( loader == null ) {
+					loader = createEntityLoader( LockMode.NONE );
+					noneLockLoader = loader;
+				}
+			}
+		}
+		return loader;
+	}
+
+	private UniqueEntityLoader getReadLockLoader() {
+		UniqueEntityLoader loader = readLockLoader;
+		if ( loader == null ) {
+			synchronized ( this ) {
+				loader = readLockLoader;
+				if ( loader == null ) {
+					loader = createEntityLoader( LockMode.READ );
+					readLockLoader = loader;
+				}
+			}
+		}
+		return loader;
+	}
+
+	private UniqueEntityLoader getInternalFetchProfileLoader(String internalFetchProfile) {
+		return loaders.computeIfAbsent( internalFetchProfile, this::generateInternalFetchProfileLoader );
+	}
+
+	private UniqueEntityLoader generateInternalFetchProfileLoader(Object internalFetchProfile) {
+		if ( "merge".equals( internalFetchProfile ) ) {
+			return new CascadeEntityLoader( this, CascadingActions.MERGE, getFactory() );
+		}
+		else if ( "refresh".equals( internalFetchProfile ) ) {
+			return new CascadeEntityLoader( this, CascadingActions.REFRESH, getFactory() );
+		}
+		// unknown internal fetch profiles have never had a loader, don't cache anything for them
+		return null;
+	}
+
 	private UniqueEntityLoader generateDelayedEntityLoader(Object lockModeObject) {
 		// Unfortunately, the loaders map mixes LockModes and Strings as keys so we need to accept an Object.
 		// The cast is safe as we will always call this method with a LockMode.
@@ -4275,7 +4641,7 @@ public abstract class AbstractEntityPersister
 						&& hasSubclasses()
 						&& !getFactory().getDialect().supportsOuterJoinForUpdate();
 
-				return disableForUpdate ? readLockLoader : createEntityLoader( lockMode );
+				return disableForUpdate ? getReadLockLoader() : createEntityLoader( lockMode );
 			}
 			default: {
 				throw new IllegalStateException( String.format( Locale.ROOT, "Lock mode %1$s not supported by entity loaders.", lockMode ) );
@@ -4324,7 +4690,7 @@ public abstract class AbstractEntityPersister
 
 			final EntityKey entityKey = proxyInterceptor.getEntityKey();
 			final Serializable identifier = entityKey.getIdentifier();
-			final Object loaded = readLockLoader.load(
+			final Object loaded = getReadLockLoader().load(
 					identifier,
 					entity,
 					session,
@@ -4417,7 +4783,7 @@ public abstract class AbstractEntityPersister
 			// Next, we consider whether an 'internal' fetch profile has been set.
 			// This indicates a special fetch profile Hibernate needs applied
 			// (for its merge loading process e.g.).
-			return loaders.get( session.getLoadQueryInfluencers().getInternalFetchProfile() );
+			return getInternalFetchProfileLoader( session.getLoadQueryInfluencers().getInternalFetchProfile() );
 		}
 		else if ( isAffectedByEnabledFetchProfiles( session ) ) {
 			// If the session has associated influencers we need to adjust the
@@ -4933,6 +5299,14 @@ public abstract class AbstractEntityPersister
 	@Override
 	public void afterInitialize(Object entity, SharedSessionContractImplementor session) {
 		getEntityTuplizer().afterInitialize( entity, session );
+
+		if ( isLazyGroupBatchLoadable() ) {
+			// the lazy attribute groups of the loaded entity are not initialized yet
+			session.getPersistenceContextInternal().getBatchFetchQueue().addLazyGroupBatchLoadableEntityKey(
+					session.generateEntityKey( getIdentifier( entity, session ), this ),
+					getSQLLazySelectStringsByFetchGroup().keySet()
+			);
+		}
 	}
 
 	public String[] getPropertyNames() {
@@ -5116,7 +5490,7 @@ public abstract class AbstractEntityPersister
 				entity,
 				state,
 				session,
-				sqlInsertGeneratedValuesSelectString,
+				getSQLInsertGeneratedValuesSelectString(),
 				GenerationTiming.INSERT
 		);
 	}
@@ -5134,7 +5508,7 @@ public abstract class AbstractEntityPersister
 				entity,
 				state,
 				session,
-				sqlUpdateGeneratedValuesSelectString,
+				getSQLUpdateGeneratedValuesSelectString(),
 				GenerationTiming.ALWAYS
 		);
 	}
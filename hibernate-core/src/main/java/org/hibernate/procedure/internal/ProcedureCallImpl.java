@@ -783,6 +783,11 @@ public class ProcedureCallImpl<R>
 		throw new IllegalStateException( "javax.persistence.Query.getHibernateFlushMode not valid on javax.persistence.StoredProcedureQuery" );
 	}
 
+	@Override
+	public ProcedureCallImplementor<R> setKeysetPosition(Object... sortKeyValues) {
+		throw new IllegalStateException( "Keyset pagination is not supported for procedure/function calls" );
+	}
+
 	@Override
 	public ProcedureCallImplementor<R> setHint(String hintName, Object value) {
 		super.setHint( hintName, value );
@@ -123,6 +123,31 @@ public interface Query<R> extends TypedQuery<R>, org.hibernate.Query<R>, CommonQ
 		return applyGraph( graph, GraphSemantic.LOAD );
 	}
 
+	/**
+	 * Restrict the results to the rows following, in the order defined by the query's
+	 * {@code order by} clause, the row with the given sort key values; typically those
+	 * of the last row of the previous page.  Unlike {@link #setFirstResult}, the database
+	 * does not have to read and discard the rows of all the previous pages.
+	 * <p/>
+	 * One value must be given per {@code order by} item, and the {@code order by} items
+	 * must be attribute paths which, together, identify a row uniquely.  Not supported for
+	 * native queries, grouped queries or {@code nulls first/last} ordering.  Passing no
+	 * values removes the restriction.
+	 * <p/>
+	 * Rows with a {@code null} sort key are excluded whenever that sort key has to be
+	 * compared with the given value, since {@code null} is neither greater nor less than
+	 * any value: such rows are skipped, so the {@code order by} items should be non-nullable.
+	 *
+	 * @param sortKeyValues The sort key values, in {@code order by} order
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @since 5.4
+	 */
+	default Query<R> setKeysetPosition(Object... sortKeyValues) {
+		throw new IllegalStateException( "Keyset pagination is not supported by " + getClass().getName() );
+	}
+
 
 	Query<R> setParameter(Parameter<Instant> param, Instant value, TemporalType temporalType);
 
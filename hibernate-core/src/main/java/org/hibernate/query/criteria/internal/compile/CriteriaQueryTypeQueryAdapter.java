@@ -139,6 +139,12 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		return this;
 	}
 
+	@Override
+	public QueryImplementor<X> setKeysetPosition(Object... sortKeyValues) {
+		jpqlQuery.setKeysetPosition( sortKeyValues );
+		return this;
+	}
+
 	public Map<String, Object> getHints() {
 		return jpqlQuery.getHints();
 	}
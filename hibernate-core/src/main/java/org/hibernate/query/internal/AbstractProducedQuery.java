@@ -131,6 +131,8 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 
 	private EntityGraphQueryHint entityGraphQueryHint;
 
+	private KeysetRestriction keysetRestriction;
+
 	private Object optionalObject;
 	private Serializable optionalId;
 	private String optionalEntityName;
@@ -924,6 +926,34 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 		return this;
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public QueryImplementor setKeysetPosition(Object... sortKeyValues) {
+		getProducer().checkOpen();
+		if ( isNativeQuery() ) {
+			throw new IllegalStateException( "Keyset pagination is not supported for native queries" );
+		}
+		keysetRestriction = sortKeyValues == null || sortKeyValues.length == 0
+				? null
+				: new KeysetRestriction( getQueryString(), sortKeyValues, determineFirstKeysetParameterLabel() );
+		return this;
+	}
+
+	/**
+	 * Ordinal and named parameters cannot be mixed in JPA queries: number the keyset parameters after the
+	 * ordinal parameters of the query if it has any.
+	 */
+	private Integer determineFirstKeysetParameterLabel() {
+		if ( !getParameterMetadata().hasPositionalParameters() ) {
+			return null;
+		}
+		int maxLabel = 0;
+		for ( QueryParameter parameter : getParameterMetadata().getPositionalParameters() ) {
+			maxLabel = Math.max( maxLabel, parameter.getPosition() );
+		}
+		return maxLabel + 1;
+	}
+
 	@SuppressWarnings( {"UnusedDeclaration"})
 	public Set<String> getSupportedHints() {
 		return QueryHints.getDefinedHints();
@@ -1390,14 +1420,43 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 				resultTransformer
 		);
 		queryParameters.setQueryPlan( entityGraphHintedQueryPlan );
+		if ( keysetRestriction != null ) {
+			keysetRestriction.bind(
+					resolveKeysetQueryPlan( hql ),
+					queryParameters.getNamedParameters(),
+					getProducer().getFactory()
+			);
+		}
 		if ( passDistinctThrough != null ) {
 			queryParameters.setPassDistinctThrough( passDistinctThrough );
 		}
 		return queryParameters;
 	}
 
-	public QueryParameters getQueryParameters() {
+	/**
+	 * Resolve the plan of the given query string, from which the keyset sort key values are typed.
+	 */
+	protected HQLQueryPlan resolveKeysetQueryPlan(String hql) {
+		return getProducer().getFactory().getQueryPlanCache().getHQLQueryPlan(
+				hql,
+				false,
+				getProducer().getLoadQueryInfluencers().getEnabledFilters()
+		);
+	}
+
+	/**
+	 * Expand the list-valued parameters of the query string, then apply the keyset restriction if any.
+	 */
+	protected String expandQueryString() {
 		final String expandedQuery = getQueryParameterBindings().expandListValuedParameters( getQueryString(), getProducer() );
+		if ( keysetRestriction == null ) {
+			return expandedQuery;
+		}
+		return keysetRestriction.apply( expandedQuery, getProducer().getJdbcServices().getJdbcEnvironment().getDialect() );
+	}
+
+	public QueryParameters getQueryParameters() {
+		final String expandedQuery = expandQueryString();
 		return makeQueryParametersForExecution( expandedQuery );
 	}
 
@@ -1466,7 +1525,7 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 			return Collections.emptyIterator();
 		}
 		return getProducer().iterate(
-				getQueryParameterBindings().expandListValuedParameters( getQueryString(), getProducer() ),
+				expandQueryString(),
 				getQueryParameters()
 		);
 	}
@@ -1491,7 +1550,7 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 		if (getMaxResults() == 0){
 			return EmptyScrollableResults.INSTANCE;
 		}
-		final String query = getQueryParameterBindings().expandListValuedParameters( getQueryString(), getProducer() );
+		final String query = expandQueryString();
 		QueryParameters queryParameters = makeQueryParametersForExecution( query );
 		queryParameters.setScrollMode( scrollMode );
 		return getProducer().scroll( query, queryParameters );
@@ -1554,7 +1613,7 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 			}
 		}
 
-		final String expandedQuery = getQueryParameterBindings().expandListValuedParameters( getQueryString(), getProducer() );
+		final String expandedQuery = expandQueryString();
 		return getProducer().list(
 				expandedQuery,
 				makeQueryParametersForExecution( expandedQuery )
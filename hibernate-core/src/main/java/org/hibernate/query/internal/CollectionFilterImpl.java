@@ -11,6 +11,8 @@ import java.util.List;
 
 import org.hibernate.HibernateException;
 import org.hibernate.ScrollMode;
+import org.hibernate.engine.query.spi.HQLQueryPlan;
+import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.Query;
@@ -39,7 +41,8 @@ public class CollectionFilterImpl extends org.hibernate.query.internal.AbstractP
 		this.queryParameterBindings = QueryParameterBindingsImpl.from(
 				parameterMetadata,
 				session.getFactory(),
-				session.isQueryParametersValidationEnabled()
+				session.isQueryParametersValidationEnabled(),
+				session.getFactory().getSessionFactoryOptions().inClauseParameterArrayBindingEnabled()
 		);
 	}
 
@@ -58,11 +61,26 @@ public class CollectionFilterImpl extends org.hibernate.query.internal.AbstractP
 		return queryString;
 	}
 
+	@Override
+	protected HQLQueryPlan resolveKeysetQueryPlan(String hql) {
+		final CollectionEntry entry = getProducer().getPersistenceContext().getCollectionEntryOrNull( collection );
+		if ( entry == null || entry.getLoadedPersister() == null ) {
+			// the collection role is only resolved when executing the filter
+			return null;
+		}
+		return getProducer().getFactory().getQueryPlanCache().getFilterQueryPlan(
+				hql,
+				entry.getLoadedPersister().getRole(),
+				false,
+				getProducer().getLoadQueryInfluencers().getEnabledFilters()
+		);
+	}
+
 	@Override
 	public Iterator iterate() throws HibernateException {
 		getQueryParameterBindings().verifyParametersBound( false );
 
-		final String expandedQuery = getQueryParameterBindings().expandListValuedParameters( getQueryString(), getProducer() );
+		final String expandedQuery = expandQueryString();
 		return getProducer().iterateFilter(
 				collection,
 				expandedQuery,
@@ -74,7 +92,7 @@ public class CollectionFilterImpl extends org.hibernate.query.internal.AbstractP
 	public List list() throws HibernateException {
 		getQueryParameterBindings().verifyParametersBound( false );
 
-		final String expandedQuery = getQueryParameterBindings().expandListValuedParameters( getQueryString(), getProducer() );
+		final String expandedQuery = expandQueryString();
 		return getProducer().listFilter(
 				collection,
 				expandedQuery,
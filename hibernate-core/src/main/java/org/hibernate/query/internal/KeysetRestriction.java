@@ -0,0 +1,351 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.HibernateException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.query.spi.HQLQueryPlan;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.TypedValue;
+import org.hibernate.hql.internal.antlr.HqlSqlTokenTypes;
+import org.hibernate.hql.internal.antlr.HqlTokenTypes;
+import org.hibernate.hql.internal.ast.HqlParser;
+import org.hibernate.hql.internal.ast.QueryTranslatorImpl;
+import org.hibernate.hql.internal.ast.tree.Node;
+import org.hibernate.hql.internal.ast.tree.QueryNode;
+import org.hibernate.hql.internal.ast.tree.SqlNode;
+import org.hibernate.hql.spi.QueryTranslator;
+import org.hibernate.type.Type;
+
+import antlr.RecognitionException;
+import antlr.TokenStreamException;
+import antlr.collections.AST;
+
+/**
+ * Restricts the results of an HQL query to the rows following, in the order of its {@code order by} clause,
+ * the row with the given sort key values (keyset, or seek, pagination); see
+ * {@link org.hibernate.query.Query#setKeysetPosition}.
+ * <p/>
+ * The {@code where} and {@code order by} clauses are located by parsing the query string with the HQL parser,
+ * and the restriction is added to the {@code where} clause: as a row value comparison
+ * {@code (e1, e2) > (:k1, :k2)} when all the {@code order by} items have the same direction and the Dialect
+ * supports row value constructors, and otherwise as the equivalent {@code e1 > :k1 or (e1 = :k1 and e2 > :k2)}.
+ * The sort key parameters are ordinal parameters, numbered after those of the query, when the query uses
+ * ordinal parameters, and named parameters otherwise.  Their types are those of the {@code order by} items.
+ * <p/>
+ * Only select queries ordered by attribute paths are supported; queries which are grouped, use {@code nulls}
+ * precedence or are ordered by a select alias or any other expression are rejected.
+ */
+public class KeysetRestriction {
+	private static final String PARAMETER_PREFIX = "__keyset_";
+
+	private final Object[] sortKeyValues;
+	private final Integer firstOrdinalParameterLabel;
+	// the expanded query string only changes with the sizes of the list-valued parameters
+	private final Map<String, Clauses> clausesByQueryString = new HashMap<>();
+
+	/**
+	 * Constructs a KeysetRestriction.
+	 *
+	 * @param queryString The HQL query string
+	 * @param sortKeyValues The sort key values, one per {@code order by} item
+	 * @param firstOrdinalParameterLabel The label of the first sort key parameter if the query uses ordinal
+	 * parameters, or {@code null} to use named parameters
+	 */
+	public KeysetRestriction(String queryString, Object[] sortKeyValues, Integer firstOrdinalParameterLabel) {
+		for ( Object sortKeyValue : sortKeyValues ) {
+			if ( sortKeyValue == null ) {
+				throw new IllegalArgumentException( "Keyset sort key values cannot be null" );
+			}
+		}
+		this.sortKeyValues = sortKeyValues.clone();
+		this.firstOrdinalParameterLabel = firstOrdinalParameterLabel;
+		// validate the query string up front
+		clausesByQueryString.put( queryString, parse( queryString ) );
+	}
+
+	/**
+	 * Add the restriction to the given query string.
+	 *
+	 * @param queryString The HQL query string, with its list-valued parameters expanded
+	 * @param dialect The Dialect
+	 *
+	 * @return The restricted query string
+	 */
+	public String apply(String queryString, Dialect dialect) {
+		final Clauses clauses = clausesByQueryString.computeIfAbsent( queryString, this::parse );
+		final String restriction = renderRestriction( clauses.orderByItems, dialect );
+
+		final StringBuilder buffer = new StringBuilder( queryString.length() + restriction.length() + 16 );
+		if ( clauses.whereStart < 0 ) {
+			buffer.append( queryString, 0, clauses.orderByStart )
+					.append( " where " )
+					.append( restriction )
+					.append( ' ' );
+		}
+		else {
+			buffer.append( queryString, 0, clauses.whereStart )
+					.append( "where ( " )
+					.append( queryString, clauses.whereStart + "where".length(), clauses.orderByStart )
+					.append( " ) and ( " )
+					.append( restriction )
+					.append( " ) " );
+		}
+		return buffer.append( queryString, clauses.orderByStart, queryString.length() ).toString();
+	}
+
+	/**
+	 * Add the bindings of the sort key values, typed as the {@code order by} items of the query.
+	 *
+	 * @param queryPlan The plan of the restricted query string, as returned by {@link #apply}, or {@code null}
+	 * if it cannot be resolved, in which case the types are resolved from the sort key values
+	 * @param namedParameters The named (and ordinal) parameter bindings of the query
+	 * @param factory The SessionFactory
+	 */
+	public void bind(HQLQueryPlan queryPlan, Map<String, TypedValue> namedParameters, SessionFactoryImplementor factory) {
+		final Type[] sortKeyTypes = resolveSortKeyTypes( queryPlan );
+		for ( int i = 0; i < sortKeyValues.length; i++ ) {
+			final Type sortKeyType = sortKeyTypes[i] == null
+					? factory.resolveParameterBindType( sortKeyValues[i] )
+					: sortKeyTypes[i];
+			namedParameters.put(
+					firstOrdinalParameterLabel == null
+							? PARAMETER_PREFIX + i
+							: Integer.toString( firstOrdinalParameterLabel + i ),
+					new TypedValue( sortKeyType, sortKeyValues[i] )
+			);
+		}
+	}
+
+	private Type[] resolveSortKeyTypes(HQLQueryPlan queryPlan) {
+		final Type[] sortKeyTypes = new Type[sortKeyValues.length];
+		if ( queryPlan == null ) {
+			return sortKeyTypes;
+		}
+
+		final QueryTranslator translator = queryPlan.getTranslators()[0];
+		if ( !( translator instanceof QueryTranslatorImpl )
+				|| !( ( (QueryTranslatorImpl) translator ).getSqlAST() instanceof QueryNode ) ) {
+			return sortKeyTypes;
+		}
+
+		final QueryNode queryNode = (QueryNode) ( (QueryTranslatorImpl) translator ).getSqlAST();
+		int i = 0;
+		for ( AST node = queryNode.getOrderByClause().getFirstChild(); node != null && i < sortKeyTypes.length; node = node.getNextSibling() ) {
+			if ( node.getType() == HqlSqlTokenTypes.ASCENDING || node.getType() == HqlSqlTokenTypes.DESCENDING ) {
+				continue;
+			}
+			if ( node instanceof SqlNode ) {
+				sortKeyTypes[i] = ( (SqlNode) node ).getDataType();
+			}
+			i++;
+		}
+		return sortKeyTypes;
+	}
+
+	private String renderRestriction(List<OrderByItem> orderByItems, Dialect dialect) {
+		boolean sameDirection = true;
+		for ( OrderByItem orderByItem : orderByItems ) {
+			sameDirection = sameDirection && orderByItem.descending == orderByItems.get( 0 ).descending;
+		}
+
+		final StringBuilder restriction = new StringBuilder();
+		if ( orderByItems.size() > 1 && sameDirection && dialect.supportsRowValueConstructorSyntax() ) {
+			final StringBuilder keys = new StringBuilder();
+			restriction.append( '(' );
+			for ( int i = 0; i < orderByItems.size(); i++ ) {
+				if ( i > 0 ) {
+					restriction.append( ", " );
+					keys.append( ", " );
+				}
+				restriction.append( orderByItems.get( i ).path );
+				keys.append( renderParameter( i ) );
+			}
+			restriction.append( ") " )
+					.append( orderByItems.get( 0 ).descending ? '<' : '>' )
+					.append( " (" )
+					.append( keys )
+					.append( ')' );
+		}
+		else {
+			for ( int i = 0; i < orderByItems.size(); i++ ) {
+				if ( i > 0 ) {
+					restriction.append( " or " );
+				}
+				restriction.append( '(' );
+				for ( int j = 0; j < i; j++ ) {
+					restriction.append( orderByItems.get( j ).path )
+							.append( " = " ).append( renderParameter( j ) )
+							.append( " and " );
+				}
+				final OrderByItem orderByItem = orderByItems.get( i );
+				restriction.append( orderByItem.path )
+						.append( orderByItem.descending ? " < " : " > " ).append( renderParameter( i ) )
+						.append( ')' );
+			}
+		}
+		return restriction.toString();
+	}
+
+	private String renderParameter(int index) {
+		return firstOrdinalParameterLabel == null
+				? ':' + PARAMETER_PREFIX + index
+				: "?" + ( firstOrdinalParameterLabel + index );
+	}
+
+	private Clauses parse(String queryString) {
+		// the parser reports the line and column of the tokens: parse a copy of the query string without any
+		// line break or tab, so that the column of a token is its offset in the query string plus one
+		final HqlParser parser = HqlParser.getInstance(
+				queryString.replace( '\t', ' ' ).replace( '\r', ' ' ).replace( '\n', ' ' )
+		);
+		// collection filters have no from clause
+		parser.setFilter( true );
+		try {
+			parser.statement();
+		}
+		catch (RecognitionException | TokenStreamException e) {
+			throw new HibernateException( "Unexpected error parsing HQL", e );
+		}
+		parser.getParseErrorHandler().throwQueryException();
+
+		final AST query = parser.getAST();
+		if ( query == null || query.getType() != HqlTokenTypes.QUERY ) {
+			throw new IllegalArgumentException( "Keyset pagination is only supported for select queries: " + queryString );
+		}
+
+		AST where = null;
+		AST orderBy = null;
+		final Set<String> selectAliases = new HashSet<>();
+		for ( AST clause = query.getFirstChild(); clause != null; clause = clause.getNextSibling() ) {
+			switch ( clause.getType() ) {
+				case HqlTokenTypes.SELECT_FROM: {
+					collectSelectAliases( clause, selectAliases );
+					break;
+				}
+				case HqlTokenTypes.WHERE: {
+					where = clause;
+					break;
+				}
+				case HqlTokenTypes.GROUP: {
+					throw new IllegalArgumentException( "Keyset pagination is not supported for grouped queries: " + queryString );
+				}
+				case HqlTokenTypes.ORDER: {
+					orderBy = clause;
+					break;
+				}
+				default: {
+					// nothing to do
+				}
+			}
+		}
+
+		if ( orderBy == null ) {
+			throw new IllegalArgumentException( "Keyset pagination requires an order by clause: " + queryString );
+		}
+
+		final List<OrderByItem> orderByItems = new ArrayList<>();
+		for ( AST node = orderBy.getFirstChild(); node != null; node = node.getNextSibling() ) {
+			switch ( node.getType() ) {
+				case HqlTokenTypes.ASCENDING: {
+					break;
+				}
+				case HqlTokenTypes.DESCENDING: {
+					orderByItems.get( orderByItems.size() - 1 ).descending = true;
+					break;
+				}
+				case HqlTokenTypes.NULLS: {
+					throw new IllegalArgumentException( "Keyset pagination does not support null precedence: " + queryString );
+				}
+				default: {
+					final String path = renderPath( node );
+					if ( path == null || selectAliases.contains( path ) ) {
+						throw new IllegalArgumentException(
+								"Keyset pagination requires order by items which are attribute paths: " + queryString
+						);
+					}
+					orderByItems.add( new OrderByItem( path ) );
+				}
+			}
+		}
+
+		if ( orderByItems.size() != sortKeyValues.length ) {
+			throw new IllegalArgumentException(
+					String.format(
+							Locale.ROOT,
+							"Expecting %s keyset sort key values, one per order by item, but got %s",
+							orderByItems.size(),
+							sortKeyValues.length
+					)
+			);
+		}
+
+		return new Clauses(
+				where == null ? -1 : ( (Node) where ).getColumn() - 1,
+				( (Node) orderBy ).getColumn() - 1,
+				orderByItems
+		);
+	}
+
+	private static void collectSelectAliases(AST node, Set<String> selectAliases) {
+		for ( AST child = node.getFirstChild(); child != null; child = child.getNextSibling() ) {
+			if ( child.getType() == HqlTokenTypes.AS && child.getFirstChild() != null ) {
+				final AST alias = child.getFirstChild().getNextSibling();
+				if ( alias != null ) {
+					selectAliases.add( alias.getText() );
+				}
+			}
+			else if ( child.getType() == HqlTokenTypes.SELECT || child.getType() == HqlTokenTypes.CONSTRUCTOR ) {
+				collectSelectAliases( child, selectAliases );
+			}
+		}
+	}
+
+	private static String renderPath(AST node) {
+		if ( node.getType() == HqlTokenTypes.IDENT ) {
+			return node.getText();
+		}
+		if ( node.getType() == HqlTokenTypes.DOT ) {
+			final AST lhs = node.getFirstChild();
+			final String qualifier = lhs == null ? null : renderPath( lhs );
+			final AST rhs = lhs == null ? null : lhs.getNextSibling();
+			if ( qualifier != null && rhs != null && rhs.getType() == HqlTokenTypes.IDENT ) {
+				return qualifier + '.' + rhs.getText();
+			}
+		}
+		return null;
+	}
+
+	private static class Clauses {
+		private final int whereStart;
+		private final int orderByStart;
+		private final List<OrderByItem> orderByItems;
+
+		private Clauses(int whereStart, int orderByStart, List<OrderByItem> orderByItems) {
+			this.whereStart = whereStart;
+			this.orderByStart = orderByStart;
+			this.orderByItems = orderByItems;
+		}
+	}
+
+	private static class OrderByItem {
+		private final String path;
+		private boolean descending;
+
+		private OrderByItem(String path) {
+			this.path = path;
+		}
+	}
+}
@@ -0,0 +1,244 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.sql.Array;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.Size;
+import org.hibernate.engine.spi.Mapping;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.type.AbstractStandardBasicType;
+import org.hibernate.type.AbstractType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.converter.AttributeConverterTypeAdapter;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+import org.hibernate.type.descriptor.sql.JdbcTypeJavaClassMappings;
+
+/**
+ * The type of the values of a list-valued query parameter bound as a single {@link Array}; see
+ * {@link org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_ARRAY_BINDING}.
+ * <p/>
+ * Values are bound through an array {@link ValueBinder}, and read back as lists.  Not a
+ * {@link org.hibernate.type.BasicType}: it is only resolved for query parameters, never to map attributes.
+ */
+public class ParameterListArrayType extends AbstractType {
+
+	/**
+	 * Resolve the type binding values of the given type as an array.
+	 *
+	 * @param elementType The type of the values
+	 * @param factory The SessionFactory
+	 *
+	 * @return The array type, or {@code null} if values of the given type cannot be bound as an array
+	 */
+	public static ParameterListArrayType resolve(Type elementType, SessionFactoryImplementor factory) {
+		if ( !( elementType instanceof AbstractStandardBasicType )
+				|| elementType instanceof AttributeConverterTypeAdapter ) {
+			return null;
+		}
+
+		final AbstractStandardBasicType<?> basicElementType = (AbstractStandardBasicType<?>) elementType;
+		final int sqlType = basicElementType.getSqlTypeDescriptor().getSqlType();
+		final Class jdbcJavaType = JdbcTypeJavaClassMappings.INSTANCE.determineJavaClassForJdbcTypeCode( sqlType );
+		if ( jdbcJavaType == Object.class ) {
+			return null;
+		}
+
+		final String sqlTypeName;
+		try {
+			sqlTypeName = factory.getDialect().getTypeName( sqlType );
+		}
+		catch (HibernateException e) {
+			return null;
+		}
+		// strip the length, precision and scale placeholders
+		final int parenthesis = sqlTypeName.indexOf( '(' );
+		return new ParameterListArrayType(
+				basicElementType.getJavaTypeDescriptor(),
+				jdbcJavaType,
+				parenthesis < 0 ? sqlTypeName : sqlTypeName.substring( 0, parenthesis ).trim()
+		);
+	}
+
+	private final JavaTypeDescriptor elementJavaTypeDescriptor;
+	private final Class jdbcJavaType;
+	private final String elementSqlTypeName;
+	private final ValueBinder<Collection> binder = new ArrayBinder();
+
+	private ParameterListArrayType(JavaTypeDescriptor elementJavaTypeDescriptor, Class jdbcJavaType, String elementSqlTypeName) {
+		this.elementJavaTypeDescriptor = elementJavaTypeDescriptor;
+		this.jdbcJavaType = jdbcJavaType;
+		this.elementSqlTypeName = elementSqlTypeName;
+	}
+
+	@Override
+	public String getName() {
+		return "parameter_list_array";
+	}
+
+	@Override
+	public Class getReturnedClass() {
+		return Collection.class;
+	}
+
+	@Override
+	public int getColumnSpan(Mapping mapping) {
+		return 1;
+	}
+
+	@Override
+	public int[] sqlTypes(Mapping mapping) {
+		return new int[] { Types.ARRAY };
+	}
+
+	@Override
+	public Size[] dictatedSizes(Mapping mapping) {
+		return new Size[] { new Size() };
+	}
+
+	@Override
+	public Size[] defaultSizes(Mapping mapping) {
+		return new Size[] { new Size() };
+	}
+
+	@Override
+	public void nullSafeSet(
+			PreparedStatement st,
+			Object value,
+			int index,
+			SharedSessionContractImplementor session) throws HibernateException, SQLException {
+		binder.bind( st, (Collection) value, index, session );
+	}
+
+	@Override
+	public void nullSafeSet(
+			PreparedStatement st,
+			Object value,
+			int index,
+			boolean[] settable,
+			SharedSessionContractImplementor session) throws HibernateException, SQLException {
+		if ( settable[0] ) {
+			nullSafeSet( st, value, index, session );
+		}
+	}
+
+	@Override
+	public Object nullSafeGet(
+			ResultSet rs,
+			String[] names,
+			SharedSessionContractImplementor session,
+			Object owner) throws HibernateException, SQLException {
+		return nullSafeGet( rs, names[0], session, owner );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Object nullSafeGet(
+			ResultSet rs,
+			String name,
+			SharedSessionContractImplementor session,
+			Object owner) throws HibernateException, SQLException {
+		final Array array = rs.getArray( name );
+		if ( array == null ) {
+			return null;
+		}
+		final Object[] elements = (Object[]) array.getArray();
+		final List values = new ArrayList( elements.length );
+		for ( Object element : elements ) {
+			values.add( elementJavaTypeDescriptor.wrap( element, session ) );
+		}
+		return values;
+	}
+
+	@Override
+	public boolean isDirty(Object old, Object current, boolean[] checkable, SharedSessionContractImplementor session) {
+		return checkable[0] && isDirty( old, current, session );
+	}
+
+	@Override
+	public String toLoggableString(Object value, SessionFactoryImplementor factory) {
+		return value == null ? "null" : value.toString();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Object deepCopy(Object value, SessionFactoryImplementor factory) {
+		return value == null ? null : new ArrayList( (Collection) value );
+	}
+
+	@Override
+	public Object replace(
+			Object original,
+			Object target,
+			SharedSessionContractImplementor session,
+			Object owner,
+			Map copyCache) {
+		return original;
+	}
+
+	@Override
+	public boolean isMutable() {
+		return true;
+	}
+
+	@Override
+	public boolean[] toColumnNullness(Object value, Mapping mapping) {
+		return value == null ? ArrayHelper.FALSE : ArrayHelper.TRUE;
+	}
+
+	/**
+	 * Binds a collection of values as an array of the SQL element type.
+	 */
+	private class ArrayBinder implements ValueBinder<Collection> {
+		@Override
+		public void bind(PreparedStatement st, Collection value, int index, WrapperOptions options)
+				throws SQLException {
+			if ( value == null ) {
+				st.setNull( index, Types.ARRAY );
+			}
+			else {
+				st.setArray( index, toArray( st.getConnection(), value, options ) );
+			}
+		}
+
+		@Override
+		public void bind(CallableStatement st, Collection value, String name, WrapperOptions options)
+				throws SQLException {
+			if ( value == null ) {
+				st.setNull( name, Types.ARRAY );
+			}
+			else {
+				st.setObject( name, toArray( st.getConnection(), value, options ), Types.ARRAY );
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private Array toArray(Connection connection, Collection value, WrapperOptions options) throws SQLException {
+			final Object[] elements = new Object[value.size()];
+			int i = 0;
+			for ( Object element : value ) {
+				elements[i++] = elementJavaTypeDescriptor.unwrap( element, jdbcJavaType, options );
+			}
+			return connection.createArrayOf( elementSqlTypeName, elements );
+		}
+	}
+}
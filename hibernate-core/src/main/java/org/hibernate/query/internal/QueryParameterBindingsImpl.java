@@ -55,6 +55,7 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 	private final SessionFactoryImplementor sessionFactory;
 	private final ParameterMetadata parameterMetadata;
 	private final boolean queryParametersValidationEnabled;
+	private final boolean parameterListArrayBindingEnabled;
 
 	private final int ordinalParamValueOffset;
 
@@ -68,6 +69,18 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 			ParameterMetadata parameterMetadata,
 			SessionFactoryImplementor sessionFactory,
 			boolean queryParametersValidationEnabled) {
+		return from( parameterMetadata, sessionFactory, queryParametersValidationEnabled, false );
+	}
+
+	/**
+	 * @param parameterListArrayBindingEnabled Whether list-valued parameters of {@code in} predicates may be bound
+	 * as a single array.  Only possible for HQL queries, as the expanded query refers to an HQL function.
+	 */
+	public static QueryParameterBindingsImpl from(
+			ParameterMetadata parameterMetadata,
+			SessionFactoryImplementor sessionFactory,
+			boolean queryParametersValidationEnabled,
+			boolean parameterListArrayBindingEnabled) {
 		if ( parameterMetadata == null ) {
 			throw new QueryParameterException( "Query parameter metadata cannot be null" );
 		}
@@ -75,17 +88,20 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 		return new QueryParameterBindingsImpl(
 				sessionFactory,
 				parameterMetadata,
-				queryParametersValidationEnabled
+				queryParametersValidationEnabled,
+				parameterListArrayBindingEnabled
 		);
 	}
 
 	private QueryParameterBindingsImpl(
 			SessionFactoryImplementor sessionFactory,
 			ParameterMetadata parameterMetadata,
-			boolean queryParametersValidationEnabled) {
+			boolean queryParametersValidationEnabled,
+			boolean parameterListArrayBindingEnabled) {
 		this.sessionFactory = sessionFactory;
 		this.parameterMetadata = parameterMetadata;
 		this.queryParametersValidationEnabled = queryParametersValidationEnabled;
+		this.parameterListArrayBindingEnabled = parameterListArrayBindingEnabled;
 
 		this.parameterBindingMap = CollectionHelper.concurrentMap( parameterMetadata.getParameterCount() );
 
@@ -522,6 +538,10 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 		final Dialect dialect = session.getFactory().getServiceRegistry().getService( JdbcServices.class ).getJdbcEnvironment().getDialect();
 		final int inExprLimit = dialect.getInExpressionCountLimit();
 
+		// the dialect renders the subquery selecting the elements of the array bound in place of the values
+		final boolean arrayBindingEnabled = parameterListArrayBindingEnabled
+				&& session.getFactory().getSqlFunctionRegistry().findSQLFunction( Dialect.ARRAY_ELEMENTS_FUNCTION ) != null;
+
 		int maxOrdinalPosition = getMaxOrdinalPosition();
 
 		for ( Map.Entry<QueryParameter, QueryParameterListBinding> entry : parameterListBindingMap.entrySet() ) {
@@ -543,10 +563,6 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 				}
 			}
 
-			if ( inExprLimit > 0 && bindValueCount > inExprLimit ) {
-				log.tooManyInExpressions( dialect.getClass().getName(), inExprLimit, sourceParam.getName(), bindValueCount );
-			}
-
 			final String sourceToken;
 			if ( sourceParam instanceof NamedParameterDescriptor ) {
 				sourceToken = ":" + NamedParameterDescriptor.class.cast( sourceParam ).getName();
@@ -570,6 +586,29 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 					StringHelper.getLastNonWhitespaceCharacter( beforePlaceholder ) == '(' &&
 							StringHelper.getFirstNonWhitespaceCharacter( afterPlaceholder ) == ')';
 
+			if ( arrayBindingEnabled ) {
+				final ParameterListArrayType arrayType = ParameterListArrayType.resolve(
+						entry.getValue().getBindType(),
+						session.getFactory()
+				);
+				final String arrayQueryString = arrayType == null
+						? null
+						: replaceByArrayElements( queryString, sourceToken );
+				if ( arrayQueryString != null ) {
+					// bind all the values as one array, whose elements are selected by the dialect function,
+					// so that the query string does not depend on the number of values
+					final QueryParameterBinding syntheticBinding = makeBinding( arrayType );
+					syntheticBinding.setBindValue( bindValues );
+					parameterBindingMap.put( sourceParam, syntheticBinding );
+					queryString = arrayQueryString;
+					continue;
+				}
+			}
+
+			if ( inExprLimit > 0 && bindValueCount > inExprLimit ) {
+				log.tooManyInExpressions( dialect.getClass().getName(), inExprLimit, sourceParam.getName(), bindValueCount );
+			}
+
 			if ( bindValues.size() == 1 && isEnclosedInParens ) {
 				// short-circuit for performance when only 1 value and the
 				// placeholder is already enclosed in parentheses...
@@ -650,6 +689,50 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 		return queryString;
 	}
 
+	/**
+	 * Replace every occurrence of the given parameter by the selection of the elements of the array bound to it.
+	 *
+	 * @return The rewritten query string, or {@code null} if an occurrence is not the operand of an in predicate,
+	 * in which case the parameter must be expanded as usual
+	 */
+	private static String replaceByArrayElements(String queryString, String sourceToken) {
+		final String arrayElements = Dialect.ARRAY_ELEMENTS_FUNCTION + '(' + sourceToken + ')';
+		final StringBuilder buffer = new StringBuilder( queryString.length() + 32 );
+		String remaining = queryString;
+		int loc = StringHelper.indexOfIdentifierWord( remaining, sourceToken );
+		while ( loc >= 0 ) {
+			final String beforePlaceholder = remaining.substring( 0, loc );
+			final String afterPlaceholder = remaining.substring( loc + sourceToken.length() );
+			final boolean isEnclosedInParens =
+					StringHelper.getLastNonWhitespaceCharacter( beforePlaceholder ) == '(' &&
+							StringHelper.getFirstNonWhitespaceCharacter( afterPlaceholder ) == ')';
+			if ( !isInPredicateOperand( beforePlaceholder, isEnclosedInParens ) ) {
+				return null;
+			}
+			buffer.append( beforePlaceholder );
+			if ( isEnclosedInParens ) {
+				buffer.append( arrayElements );
+			}
+			else {
+				buffer.append( '(' ).append( arrayElements ).append( ')' );
+			}
+			remaining = afterPlaceholder;
+			loc = StringHelper.indexOfIdentifierWord( remaining, sourceToken );
+		}
+		return buffer.append( remaining ).toString();
+	}
+
+	private static boolean isInPredicateOperand(String beforePlaceholder, boolean isEnclosedInParens) {
+		// check that the placeholder, or its enclosing parenthesis, is preceded by the IN keyword
+		final String beforeOperand = isEnclosedInParens
+				? beforePlaceholder.substring( 0, beforePlaceholder.lastIndexOf( '(' ) ).trim()
+				: beforePlaceholder.trim();
+		final int length = beforeOperand.length();
+		return length >= 2
+				&& beforeOperand.regionMatches( true, length - 2, "in", 0, 2 )
+				&& ( length == 2 || !Character.isJavaIdentifierPart( beforeOperand.charAt( length - 3 ) ) );
+	}
+
 	private int getMaxOrdinalPosition() {
 		int maxOrdinalPosition = 0;
 		for ( QueryParameter<?> queryParameter : parameterBindingMap.keySet() ) {
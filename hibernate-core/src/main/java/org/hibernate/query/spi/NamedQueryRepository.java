@@ -6,9 +6,15 @@
  */
 package org.hibernate.query.spi;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
@@ -18,6 +24,7 @@ import org.hibernate.engine.query.spi.QueryPlanCache;
 import org.hibernate.engine.query.spi.sql.NativeSQLQuerySpecification;
 import org.hibernate.engine.spi.NamedQueryDefinition;
 import org.hibernate.engine.spi.NamedSQLQueryDefinition;
+import org.hibernate.internal.util.ForkJoinPoolHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.procedure.ProcedureCallMemento;
 
@@ -145,11 +152,18 @@ public class NamedQueryRepository {
 	}
 
 	public Map<String,HibernateException> checkNamedQueries(QueryPlanCache queryPlanCache) {
-		Map<String,HibernateException> errors = new HashMap<String,HibernateException>();
+		return checkNamedQueries( queryPlanCache, false );
+	}
+
+	public Map<String,HibernateException> checkNamedQueries(QueryPlanCache queryPlanCache, boolean parallel) {
+		Map<String,HibernateException> errors = new ConcurrentHashMap<String,HibernateException>();
 
 		// Check named HQL queries
 		log.debugf( "Checking %s named HQL queries", namedQueryDefinitionMap.size() );
-		for ( NamedQueryDefinition namedQueryDefinition : namedQueryDefinitionMap.values() ) {
+		// the translated plans end up in the (concurrent) query plan cache, and translating only reads
+		// the completely built metamodel, so when enabled the queries are translated concurrently
+		final List<NamedQueryDefinition> namedQueryDefinitions = new ArrayList<>( namedQueryDefinitionMap.values() );
+		final Consumer<NamedQueryDefinition> namedQueryChecker = namedQueryDefinition -> {
 			// this will throw an error if there's something wrong.
 			try {
 				log.debugf( "Checking named query: %s", namedQueryDefinition.getName() );
@@ -159,8 +173,30 @@ public class NamedQueryRepository {
 			catch ( HibernateException e ) {
 				errors.put( namedQueryDefinition.getName(), e );
 			}
-
-
+		};
+		if ( parallel && namedQueryDefinitions.size() > 1 ) {
+			final ForkJoinPool namedQueryCheckingPool = ForkJoinPoolHelper.newContextClassLoaderPropagatingPool();
+			try {
+				namedQueryCheckingPool.submit(
+						() -> namedQueryDefinitions.parallelStream().forEach( namedQueryChecker )
+				).get();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new HibernateException( "Interrupted while checking named queries", e );
+			}
+			catch (ExecutionException e) {
+				if ( e.getCause() instanceof RuntimeException ) {
+					throw (RuntimeException) e.getCause();
+				}
+				throw new HibernateException( "Unable to check named queries", e.getCause() );
+			}
+			finally {
+				namedQueryCheckingPool.shutdown();
+			}
+		}
+		else {
+			namedQueryDefinitions.forEach( namedQueryChecker );
 		}
 
 		// Check native-sql queries
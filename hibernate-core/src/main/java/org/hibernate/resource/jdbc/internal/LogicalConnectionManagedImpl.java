@@ -39,6 +39,7 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 	private final transient SqlExceptionHelper sqlExceptionHelper;
 
 	private final transient PhysicalConnectionHandlingMode connectionHandlingMode;
+	private final transient PreparedStatementCache statementCache;
 
 	private transient Connection physicalConnection;
 	private boolean closed;
@@ -49,7 +50,20 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 			JdbcConnectionAccess jdbcConnectionAccess,
 			JdbcSessionContext jdbcSessionContext,
 			ResourceRegistry resourceRegistry) {
+		this( jdbcConnectionAccess, jdbcSessionContext, resourceRegistry, null );
+	}
+
+	/**
+	 * @param statementCache The cache of statements prepared against the current physical Connection,
+	 * cleared whenever that Connection is released; may be {@code null}
+	 */
+	public LogicalConnectionManagedImpl(
+			JdbcConnectionAccess jdbcConnectionAccess,
+			JdbcSessionContext jdbcSessionContext,
+			ResourceRegistry resourceRegistry,
+			PreparedStatementCache statementCache) {
 		this.jdbcConnectionAccess = jdbcConnectionAccess;
+		this.statementCache = statementCache;
 		this.observer = jdbcSessionContext.getObserver();
 		this.resourceRegistry = resourceRegistry;
 
@@ -187,6 +201,12 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 			return;
 		}
 
+		if ( statementCache != null ) {
+			// cached statements belong to the physical Connection, close them while we still own it
+			getResourceRegistry().releaseResources();
+			statementCache.clear();
+		}
+
 		// todo : is this the right place for these observer calls?
 		observer.jdbcConnectionReleaseStart();
 		try {
@@ -205,6 +225,15 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 		}
 	}
 
+	/**
+	 * The cache of statements prepared against the current physical Connection.
+	 *
+	 * @return The statement cache, or {@code null} if statement caching is disabled
+	 */
+	public PreparedStatementCache getStatementCache() {
+		return statementCache;
+	}
+
 	@Override
 	public LogicalConnectionImplementor makeShareableCopy() {
 		errorIfClosed();
@@ -0,0 +1,245 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.resource.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * A bounded, least-recently-used cache of {@link PreparedStatement}s prepared against a single
+ * physical JDBC Connection.
+ * <p/>
+ * Statements are "checked out" of the cache while in use, so a cached statement is never handed
+ * to two callers at once.  When the {@link ResourceRegistryStandardImpl} releases a statement which
+ * was prepared through this cache it is {@link #checkIn checked back in} rather than closed.  The
+ * cache must be {@link #clear cleared} before the physical Connection is released, since its
+ * statements are only valid for that Connection.
+ * <p/>
+ * Not thread-safe; like the rest of the JDBC resource handling it is confined to a single Session.
+ */
+public class PreparedStatementCache {
+	private static final CoreMessageLogger log = CoreLogging.messageLogger( PreparedStatementCache.class );
+
+	private final int maxSize;
+	private final LinkedHashMap<Key, CachedStatement> availableStatements;
+	private final Map<Statement, CachedStatement> checkedOutStatements = new IdentityHashMap<>();
+
+	public PreparedStatementCache(final int maxSize) {
+		this.maxSize = maxSize;
+		this.availableStatements = new LinkedHashMap<Key, CachedStatement>( 16, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, CachedStatement> eldest) {
+				if ( size() > maxSize ) {
+					ResourceRegistryStandardImpl.close( eldest.getValue().statement );
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Obtain a previously prepared statement for the given key, if one is available.
+	 *
+	 * @param key The statement key
+	 *
+	 * @return The cached statement, or {@code null} if none is available; in the latter case the caller
+	 * is expected to prepare the statement and {@link #track} it.
+	 */
+	public PreparedStatement checkOut(Key key) {
+		final CachedStatement cachedStatement = availableStatements.remove( key );
+		if ( cachedStatement != null ) {
+			try {
+				if ( !cachedStatement.statement.isClosed() ) {
+					checkedOutStatements.put( cachedStatement.statement, cachedStatement );
+					return cachedStatement.statement;
+				}
+			}
+			catch (SQLException e) {
+				log.debugf( "Unable to verify state of cached JDBC statement [%s]", e.getMessage() );
+				ResourceRegistryStandardImpl.close( cachedStatement.statement );
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Make a newly prepared statement eligible for caching once it is released.
+	 *
+	 * @param statement The newly prepared statement
+	 * @param key The statement key
+	 */
+	public void track(PreparedStatement statement, Key key) {
+		int fetchSize = 0;
+		try {
+			fetchSize = statement.getFetchSize();
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to determine fetch size of JDBC statement, it will not be cached [%s]", e.getMessage() );
+			return;
+		}
+		checkedOutStatements.put( statement, new CachedStatement( key, statement, fetchSize ) );
+	}
+
+	/**
+	 * Return a released statement to the cache.
+	 *
+	 * @param statement The statement being released
+	 *
+	 * @return {@code true} if the statement was retained by the cache (and so must not be closed);
+	 * {@code false} if the statement is not managed by this cache.
+	 */
+	public boolean checkIn(Statement statement) {
+		final CachedStatement cachedStatement = checkedOutStatements.remove( statement );
+		if ( cachedStatement == null ) {
+			return false;
+		}
+
+		if ( !cachedStatement.reset() ) {
+			// there was a problem "cleaning" the statement; let the registry deal with it
+			return false;
+		}
+
+		final CachedStatement previous = availableStatements.put( cachedStatement.key, cachedStatement );
+		if ( previous != null ) {
+			// the same SQL was prepared twice while the first statement was still in use
+			ResourceRegistryStandardImpl.close( previous.statement );
+		}
+		return true;
+	}
+
+	/**
+	 * Close all cached statements.  Statements currently checked out are no longer tracked and will be
+	 * closed normally when released.
+	 */
+	public void clear() {
+		final Iterator<CachedStatement> iterator = availableStatements.values().iterator();
+		while ( iterator.hasNext() ) {
+			ResourceRegistryStandardImpl.close( iterator.next().statement );
+			iterator.remove();
+		}
+		checkedOutStatements.clear();
+	}
+
+	private static class CachedStatement {
+		private final Key key;
+		private final PreparedStatement statement;
+		private final int fetchSize;
+
+		private CachedStatement(Key key, PreparedStatement statement, int fetchSize) {
+			this.key = key;
+			this.statement = statement;
+			this.fetchSize = fetchSize;
+		}
+
+		private boolean reset() {
+			try {
+				statement.clearParameters();
+				statement.clearWarnings();
+				if ( statement.getMaxRows() != 0 ) {
+					statement.setMaxRows( 0 );
+				}
+				if ( statement.getQueryTimeout() != 0 ) {
+					statement.setQueryTimeout( 0 );
+				}
+				if ( statement.getFetchSize() != fetchSize ) {
+					statement.setFetchSize( fetchSize );
+				}
+				return true;
+			}
+			catch (SQLException e) {
+				log.debugf( "Exception resetting cached JDBC statement [%s]", e.getMessage() );
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * Identifies a prepared statement by everything which was passed to
+	 * {@link java.sql.Connection#prepareStatement}.
+	 */
+	public static final class Key {
+		private final String sql;
+		private final int resultSetType;
+		private final int resultSetConcurrency;
+		private final int autoGeneratedKeys;
+		private final String[] columnNames;
+		private final int hashCode;
+
+		public Key(String sql) {
+			this( sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, Statement.NO_GENERATED_KEYS, null );
+		}
+
+		public Key(String sql, int resultSetType, int resultSetConcurrency) {
+			this( sql, resultSetType, resultSetConcurrency, Statement.NO_GENERATED_KEYS, null );
+		}
+
+		public Key(String sql, int autoGeneratedKeys) {
+			this( sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, autoGeneratedKeys, null );
+		}
+
+		public Key(String sql, String[] columnNames) {
+			this( sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, Statement.RETURN_GENERATED_KEYS, columnNames );
+		}
+
+		private Key(
+				String sql,
+				int resultSetType,
+				int resultSetConcurrency,
+				int autoGeneratedKeys,
+				String[] columnNames) {
+			this.sql = sql;
+			this.resultSetType = resultSetType;
+			this.resultSetConcurrency = resultSetConcurrency;
+			this.autoGeneratedKeys = autoGeneratedKeys;
+			this.columnNames = columnNames;
+
+			int result = sql.hashCode();
+			result = 31 * result + resultSetType;
+			result = 31 * result + resultSetConcurrency;
+			result = 31 * result + autoGeneratedKeys;
+			result = 31 * result + Arrays.hashCode( columnNames );
+			this.hashCode = result;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			final Key other = (Key) o;
+			return hashCode == other.hashCode
+					&& resultSetType == other.resultSetType
+					&& resultSetConcurrency == other.resultSetConcurrency
+					&& autoGeneratedKeys == other.autoGeneratedKeys
+					&& sql.equals( other.sql )
+					&& Arrays.equals( columnNames, other.columnNames );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
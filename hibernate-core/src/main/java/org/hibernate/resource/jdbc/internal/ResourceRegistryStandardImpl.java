@@ -35,6 +35,7 @@ public class ResourceRegistryStandardImpl implements ResourceRegistry {
 	private static final CoreMessageLogger log = CoreLogging.messageLogger( ResourceRegistryStandardImpl.class );
 
 	private final JdbcObserver jdbcObserver;
+	private final PreparedStatementCache statementCache;
 
 	private final Map<Statement, Set<ResultSet>> xref = new HashMap<Statement, Set<ResultSet>>();
 	private final Set<ResultSet> unassociatedResultSets = new HashSet<ResultSet>();
@@ -50,7 +51,17 @@ public class ResourceRegistryStandardImpl implements ResourceRegistry {
 	}
 
 	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver) {
+		this( jdbcObserver, null );
+	}
+
+	/**
+	 * @param jdbcObserver The observer to notify of resource release, may be {@code null}
+	 * @param statementCache The cache statements prepared through it are returned to, rather than closed;
+	 * may be {@code null}
+	 */
+	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver, PreparedStatementCache statementCache) {
 		this.jdbcObserver = jdbcObserver;
+		this.statementCache = statementCache;
 	}
 
 	@Override
@@ -91,7 +102,7 @@ public class ResourceRegistryStandardImpl implements ResourceRegistry {
 			log.unregisteredStatement();
 		}
 
-		close( statement );
+		closeOrCache( statement );
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
@@ -155,6 +166,12 @@ public class ResourceRegistryStandardImpl implements ResourceRegistry {
 		}
 	}
 
+	private void closeOrCache(Statement statement) {
+		if ( statementCache == null || !statementCache.checkIn( statement ) ) {
+			close( statement );
+		}
+	}
+
 	@SuppressWarnings({"unchecked"})
 	public static void close(Statement statement) {
 		log.tracef( "Closing prepared statement [%s]", statement );
@@ -307,7 +324,7 @@ public class ResourceRegistryStandardImpl implements ResourceRegistry {
 			if ( entry.getValue() != null ) {
 				closeAll( entry.getValue() );
 			}
-			close( entry.getKey() );
+			closeOrCache( entry.getKey() );
 		}
 		xref.clear();
 
@@ -21,6 +21,12 @@ public interface JdbcObserver {
 	public void jdbcPrepareStatementStart();
 	public void jdbcPrepareStatementEnd();
 
+	/**
+	 * Called instead of {@link #jdbcPrepareStatementStart}/{@link #jdbcPrepareStatementEnd} when a
+	 * statement was obtained from the prepared statement cache.
+	 */
+	default public void jdbcPrepareStatementCacheHit() {}
+
 	public void jdbcExecuteStatementStart();
 	public void jdbcExecuteStatementEnd();
 
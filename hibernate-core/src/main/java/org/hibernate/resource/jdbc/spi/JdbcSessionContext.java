@@ -25,6 +25,15 @@ public interface JdbcSessionContext {
 
 	boolean doesConnectionProviderDisableAutoCommit();
 
+	/**
+	 * The maximum number of prepared statements to cache per physical Connection.
+	 *
+	 * @return The cache size; {@code 0} disables statement caching
+	 */
+	default int getPreparedStatementCacheSize() {
+		return 0;
+	}
+
 	/**
 	 * @deprecated Use {@link #getPhysicalConnectionHandlingMode} instead
 	 */
@@ -333,6 +333,15 @@ public interface Statistics {
 	 */
 	long getPrepareStatementCount();
 
+	/**
+	 * The number of prepared statements that were reused from the prepared statement cache
+	 * ({@code hibernate.jdbc.statement_cache_size}) rather than prepared again
+	 */
+	default long getPrepareStatementCacheHitCount() {
+		//For backward compatibility
+		return 0;
+	}
+
 	/**
 	 * The number of prepared statements that were released
 	 */
@@ -386,4 +395,15 @@ public interface Statistics {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * Get the most recently captured slow queries, oldest first.
+	 *
+	 * Slow queries are only captured when both {@code hibernate.session.events.log.LOG_QUERIES_SLOWER_THAN_MS}
+	 * and {@code hibernate.session.events.log.slow_query_capture_size} are set.
+	 */
+	default String[] getSlowQueries() {
+		//For backward compatibility
+		return new String[0];
+	}
 }
@@ -15,6 +15,8 @@ import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.Region;
+import org.hibernate.engine.jdbc.spi.SlowQueryRecord;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.metamodel.model.domain.NavigableRole;
@@ -43,6 +45,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 	private final String cacheRegionPrefix;
 	private final boolean secondLevelCacheEnabled;
 	private final boolean queryCacheEnabled;
+	private final SqlStatementLogger sqlStatementLogger;
 
 	private volatile boolean isStatisticsEnabled;
 	private volatile long startTime;
@@ -53,6 +56,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 	private final LongAdder connectCount = new LongAdder();
 
 	private final LongAdder prepareStatementCount = new LongAdder();
+	private final LongAdder prepareStatementCacheHitCount = new LongAdder();
 	private final LongAdder closeStatementCount = new LongAdder();
 
 	private final LongAdder entityLoadCount = new LongAdder();
@@ -122,6 +126,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 					Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE,
 				20
 		);
+		sqlStatementLogger = sessionFactory.getJdbcServices().getSqlStatementLogger();
 		clear();
 		metamodel = sessionFactory.getMetamodel();
 		cache = sessionFactory.getCache();
@@ -152,6 +157,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		connectCount.reset();
 
 		prepareStatementCount.reset();
+		prepareStatementCacheHitCount.reset();
 		closeStatementCount.reset();
 
 		entityDeleteCount.reset();
@@ -192,6 +198,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
 
+		sqlStatementLogger.clearSlowQueries();
+
 		startTime = System.currentTimeMillis();
 	}
 
@@ -795,6 +803,14 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public String[] getSlowQueries() {
+		return sqlStatementLogger.getSlowQueries()
+				.stream()
+				.map( SlowQueryRecord::toString )
+				.toArray( String[]::new );
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -863,6 +879,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		return prepareStatementCount.sum();
 	}
 
+	@Override
+	public long getPrepareStatementCacheHitCount() {
+		return prepareStatementCacheHitCount.sum();
+	}
+
 	@Override
 	public void openSession() {
 		sessionOpenCount.increment();
@@ -888,6 +909,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		prepareStatementCount.increment();
 	}
 
+	@Override
+	public void prepareStatementCacheHit() {
+		prepareStatementCacheHitCount.increment();
+	}
+
 	@Override
 	public void closeStatement() {
 		closeStatementCount.increment();
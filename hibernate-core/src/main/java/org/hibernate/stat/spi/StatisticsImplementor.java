@@ -42,6 +42,13 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void prepareStatement();
 
+	/**
+	 * Callback about a statement being obtained from the prepared statement cache, rather than prepared.
+	 */
+	default void prepareStatementCacheHit() {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback about a statement being closed.
 	 */
@@ -0,0 +1,56 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.spi;
+
+import java.util.List;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SlowQueryCaptureTest extends BaseUnitTestCase {
+
+	@Test
+	public void testCaptureDisabledByDefault() {
+		final SqlStatementLogger logger = new SqlStatementLogger( false, false, 1 );
+		assertFalse( logger.isCapturingSlowQueries() );
+
+		logger.logSlowQuery( "select 1", System.currentTimeMillis() - 100 );
+		assertTrue( logger.getSlowQueries().isEmpty() );
+	}
+
+	@Test
+	public void testCaptureIsBounded() {
+		final SqlStatementLogger logger = new SqlStatementLogger( false, false, 1, 2 );
+		assertTrue( logger.isCapturingSlowQueries() );
+
+		final long startTime = System.currentTimeMillis() - 100;
+		logger.logSlowQuery( "select 1", startTime );
+		logger.logSlowQuery( "select 2", startTime );
+		logger.logSlowQuery( "select 3", startTime );
+
+		final List<SlowQueryRecord> slowQueries = logger.getSlowQueries();
+		assertEquals( 2, slowQueries.size() );
+		assertEquals( "select 2", slowQueries.get( 0 ).getSql() );
+		assertEquals( "select 3", slowQueries.get( 1 ).getSql() );
+		assertTrue( slowQueries.get( 1 ).getExecutionTime() >= 100 );
+		assertEquals( SlowQueryRecord.UNKNOWN_ROW_COUNT, slowQueries.get( 1 ).getRowCount() );
+
+		logger.clearSlowQueries();
+		assertTrue( logger.getSlowQueries().isEmpty() );
+	}
+
+	@Test
+	public void testFastQueriesAreNotCaptured() {
+		final SqlStatementLogger logger = new SqlStatementLogger( false, false, 10_000, 2 );
+		logger.logSlowQuery( "select 1", System.currentTimeMillis() );
+		assertTrue( logger.getSlowQueries().isEmpty() );
+	}
+}
@@ -6,12 +6,21 @@
  */
 package org.hibernate.jpa.test.hibernateFilters;
 
+import java.util.Map;
 import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
 
 import org.junit.Test;
 
 import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.jpa.test.BaseEntityManagerFunctionalTestCase;
+import org.hibernate.stat.Statistics;
+
+import static org.junit.Assert.assertEquals;
 
 /**
  * @author Steve Ebersole
@@ -22,6 +31,12 @@ public class EntityManagerWithFilteredSessionTest extends BaseEntityManagerFunct
 		return new Class[] { Account.class };
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void addConfigOptions(Map options) {
+		options.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
 	@Test
 	public void testTypedQueryCreation() {
 		EntityManager em = getOrCreateEntityManager();
@@ -31,4 +46,23 @@ public class EntityManagerWithFilteredSessionTest extends BaseEntityManagerFunct
 		em.getTransaction().commit();
 		em.close();
 	}
+
+	@Test
+	public void testCriteriaQueryTranslatedOnce() {
+		final Statistics statistics = entityManagerFactory().unwrap( SessionFactoryImplementor.class ).getStatistics();
+		statistics.clear();
+
+		EntityManager em = getOrCreateEntityManager();
+		em.getTransaction().begin();
+		em.unwrap( Session.class ).enableFilter( "byRegion" ).setParameter( "region", "US" );
+		final CriteriaBuilder cb = em.getCriteriaBuilder();
+		final CriteriaQuery<Account> criteria = cb.createQuery( Account.class );
+		final Root<Account> root = criteria.from( Account.class );
+		criteria.where( cb.isNotNull( root.get( "name" ) ) );
+		em.createQuery( criteria ).getResultList();
+		em.getTransaction().commit();
+		em.close();
+
+		assertEquals( 1, statistics.getQueryPlanCacheMissCount() );
+	}
 }
@@ -0,0 +1,79 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.persister.entity;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Version;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DelayedEntityLoaderCreationTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	public void testLoadersAreCreatedOnFirstUse() {
+		final AbstractEntityPersister persister = (AbstractEntityPersister) sessionFactory()
+				.getEntityPersister( Item.class.getName() );
+		assertFalse( persister.getLoaders().containsKey( "merge" ) );
+		assertFalse( persister.getLoaders().containsKey( "refresh" ) );
+
+		doInHibernate( this::sessionFactory, session -> {
+			Item item = new Item();
+			item.id = 1L;
+			item.name = "first";
+			session.persist( item );
+		} );
+
+		final Item detached = doInHibernate( this::sessionFactory, session -> {
+			return session.get( Item.class, 1L );
+		} );
+		detached.name = "second";
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.merge( detached );
+		} );
+		assertTrue( persister.getLoaders().containsKey( "merge" ) );
+		assertFalse( persister.getLoaders().containsKey( "refresh" ) );
+
+		doInHibernate( this::sessionFactory, session -> {
+			Item item = session.get( Item.class, 1L );
+			assertEquals( "second", item.name );
+			session.refresh( item );
+			assertEquals( "second", item.name );
+		} );
+		assertTrue( persister.getLoaders().containsKey( "refresh" ) );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+
+		@Id
+		private Long id;
+
+		private String name;
+
+		@Version
+		private int version;
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.jpa.test.BaseEntityManagerFunctionalTestCase;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInJPA;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RequiresDialect(PostgreSQL81Dialect.class)
+public class InClauseParameterArrayBindingTest extends BaseEntityManagerFunctionalTestCase {
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		sqlStatementInterceptor = new SQLStatementInterceptor( options );
+		options.put( AvailableSettings.IN_CLAUSE_PARAMETER_ARRAY_BINDING, Boolean.TRUE.toString() );
+	}
+
+	@Override
+	public Class[] getAnnotatedClasses() {
+		return new Class[] {
+			Person.class
+		};
+	}
+
+	@Override
+	protected void afterEntityManagerFactoryBuilt() {
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			for ( int i = 1; i < 10; i++ ) {
+				Person person = new Person();
+				person.setId( i );
+				person.setName( String.format( "Person nr %d", i ) );
+
+				entityManager.persist( person );
+			}
+		} );
+	}
+
+	@Test
+	public void testInClauseParameterArrayBinding() {
+		validateInClauseParameterArrayBinding( "select p from Person p where p.id in :ids", 1 );
+		validateInClauseParameterArrayBinding( "select p from Person p where p.id in :ids", 1, 2, 3 );
+		validateInClauseParameterArrayBinding( "select p from Person p where p.id in ( :ids )", 1, 2, 3, 4, 5, 6, 7 );
+	}
+
+	@Test
+	public void testNotInClauseParameterArrayBinding() {
+		sqlStatementInterceptor.clear();
+
+		final List<Person> persons = doInJPA( this::entityManagerFactory, entityManager -> {
+			return entityManager.createQuery( "select p from Person p where p.name not in (:names)", Person.class )
+					.setParameter( "names", Arrays.asList( "Person nr 1", "Person nr 2" ) )
+					.getResultList();
+		} );
+
+		assertEquals( 7, persons.size() );
+		assertTrue( sqlStatementInterceptor.getSqlQueries().get( 0 ).endsWith( "not in (select unnest(?))" ) );
+	}
+
+	@Test
+	public void testParameterReferencedTwice() {
+		final List<Person> persons = doInJPA( this::entityManagerFactory, entityManager -> {
+			return entityManager.createQuery( "select p from Person p where p.id in :ids and p.id + 1 in (:ids)", Person.class )
+					.setParameter( "ids", Arrays.asList( 1, 2, 3 ) )
+					.getResultList();
+		} );
+
+		assertEquals( 2, persons.size() );
+	}
+
+	private void validateInClauseParameterArrayBinding(String query, Integer... ids) {
+		sqlStatementInterceptor.clear();
+
+		final List<Person> persons = doInJPA( this::entityManagerFactory, entityManager -> {
+			return entityManager.createQuery( query, Person.class )
+					.setParameter( "ids", Arrays.asList( ids ) )
+					.getResultList();
+		} );
+
+		assertEquals( ids.length, persons.size() );
+		assertTrue( sqlStatementInterceptor.getSqlQueries().get( 0 ).endsWith( "in (select unnest(?))" ) );
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query;
+
+import java.util.Arrays;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.internal.QueryParameterBindingsImpl;
+import org.hibernate.type.IntegerType;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the rewriting of list-valued parameters bound as one array, whatever the dialect; the queries are not
+ * executed.
+ */
+public class InClauseParameterArrayExpansionTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Person.class };
+	}
+
+	@Override
+	protected void configureMetadataBuilder(MetadataBuilder metadataBuilder) {
+		super.configureMetadataBuilder( metadataBuilder );
+		metadataBuilder.applySqlFunction(
+				Dialect.ARRAY_ELEMENTS_FUNCTION,
+				new SQLFunctionTemplate( null, "select unnest(?1)" )
+		);
+	}
+
+	@Test
+	public void testInPredicateOperandIsRewritten() {
+		assertEquals(
+				"select p from Person p where p.id in (array_elements(:ids))",
+				expand( "select p from Person p where p.id in :ids" )
+		);
+		assertEquals(
+				"select p from Person p where p.id not in ( array_elements(:ids) )",
+				expand( "select p from Person p where p.id not in ( :ids )" )
+		);
+	}
+
+	@Test
+	public void testEveryOccurrenceIsRewritten() {
+		assertEquals(
+				"select p from Person p where p.id in (array_elements(:ids)) or p.age in (array_elements(:ids))",
+				expand( "select p from Person p where p.id in (:ids) or p.age in :ids" )
+		);
+	}
+
+	@Test
+	public void testParameterOutsideInPredicateIsExpanded() {
+		assertEquals(
+				"select p from Person p where p.id in (:ids_0, :ids_1, :ids_2) or p.age = (:ids_0, :ids_1, :ids_2)",
+				expand( "select p from Person p where p.id in (:ids) or p.age = :ids" )
+		);
+	}
+
+	private String expand(String queryString) {
+		return doInHibernate( this::sessionFactory, session -> {
+			final QueryParameterBindingsImpl bindings = QueryParameterBindingsImpl.from(
+					session.createQuery( queryString ).getParameterMetadata(),
+					sessionFactory(),
+					false,
+					true
+			);
+			bindings.<Integer>getQueryParameterListBinding( "ids" ).setBindValues( Arrays.asList( 1, 2, 3 ), IntegerType.INSTANCE );
+			return bindings.expandListValuedParameters( queryString, (SessionImplementor) session );
+		} );
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+
+		@Id
+		private Integer id;
+
+		private Integer age;
+	}
+}
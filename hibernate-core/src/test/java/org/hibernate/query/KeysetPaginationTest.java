@@ -0,0 +1,279 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.AttributeConverter;
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.test.BaseEntityManagerFunctionalTestCase;
+
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInJPA;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class KeysetPaginationTest extends BaseEntityManagerFunctionalTestCase {
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		sqlStatementInterceptor = new SQLStatementInterceptor( options );
+		options.put( AvailableSettings.JPA_QUERY_COMPLIANCE, Boolean.TRUE.toString() );
+	}
+
+	@Override
+	public Class[] getAnnotatedClasses() {
+		return new Class[] {
+			Person.class
+		};
+	}
+
+	@Override
+	protected void afterEntityManagerFactoryBuilt() {
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			for ( int i = 1; i < 10; i++ ) {
+				Person person = new Person();
+				person.setId( i );
+				// three people share each name
+				person.setName( String.format( "Person nr %d", ( i - 1 ) / 3 ) );
+				person.setRank( new Rank( i % 3 ) );
+
+				entityManager.persist( person );
+			}
+		} );
+	}
+
+	@Test
+	public void testSingleSortKey() {
+		assertEquals(
+				Arrays.asList( 1, 2, 3, 4, 5, 6, 7, 8, 9 ),
+				paginate( "select p from Person p order by p.id", false )
+		);
+		assertEquals(
+				Arrays.asList( 9, 8, 7, 6, 5, 4, 3, 2, 1 ),
+				paginate( "select p from Person p order by p.id desc", false )
+		);
+	}
+
+	@Test
+	public void testCompositeSortKey() {
+		assertEquals(
+				Arrays.asList( 1, 2, 3, 4, 5, 6, 7, 8, 9 ),
+				paginate( "select p from Person p order by p.name, p.id", true )
+		);
+		assertEquals(
+				Arrays.asList( 9, 8, 7, 6, 5, 4, 3, 2, 1 ),
+				paginate( "select p from Person p order by p.name desc, p.id desc", true )
+		);
+		assertEquals(
+				Arrays.asList( 7, 8, 9, 4, 5, 6, 1, 2, 3 ),
+				paginate( "select p from Person p order by p.name desc, p.id asc", true )
+		);
+	}
+
+	@Test
+	public void testExistingWhereClause() {
+		assertEquals(
+				Arrays.asList( 2, 3, 5, 6, 8, 9 ),
+				paginate( "select p from Person p where p.id <> 1 and p.id not in (4, 7) order by p.name, p.id", true )
+		);
+	}
+
+	@Test
+	public void testOrdinalParameters() {
+		final List<Integer> ids = doInJPA( this::entityManagerFactory, entityManager -> {
+			final List<Integer> result = new ArrayList<>();
+			entityManager.unwrap( Session.class )
+					.createQuery( "select p from Person p where p.id <> ?1 order by p.id", Person.class )
+					.setParameter( 1, 5 )
+					.setKeysetPosition( 3 )
+					.list()
+					.forEach( person -> result.add( person.getId() ) );
+			return result;
+		} );
+
+		assertEquals( Arrays.asList( 4, 6, 7, 8, 9 ), ids );
+	}
+
+	@Test
+	public void testConvertedSortKey() {
+		final List<Integer> ids = doInJPA( this::entityManagerFactory, entityManager -> {
+			final List<Integer> result = new ArrayList<>();
+			entityManager.unwrap( Session.class )
+					.createQuery( "select p from Person p order by p.rank, p.id", Person.class )
+					.setKeysetPosition( new Rank( 1 ), 4 )
+					.list()
+					.forEach( person -> result.add( person.getId() ) );
+			return result;
+		} );
+
+		assertEquals( Arrays.asList( 7, 2, 5, 8 ), ids );
+	}
+
+	@Test
+	public void testRestrictionIsAddedToTheWhereClause() {
+		sqlStatementInterceptor.clear();
+
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.unwrap( Session.class )
+					.createQuery( "select p from Person p order by p.id", Person.class )
+					.setKeysetPosition( 3 )
+					.setMaxResults( 3 )
+					.list();
+		} );
+
+		assertTrue( sqlStatementInterceptor.getSqlQueries().get( 0 ).contains( "where person0_.id>?" ) );
+	}
+
+	@Test
+	public void testInvalidKeysetPosition() {
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			final Session session = entityManager.unwrap( Session.class );
+			try {
+				session.createQuery( "select p from Person p order by p.name, p.id" ).setKeysetPosition( 1 );
+				fail( "Expecting one sort key value per order by item" );
+			}
+			catch (IllegalArgumentException expected) {
+			}
+			try {
+				session.createQuery( "select p from Person p" ).setKeysetPosition( 1 );
+				fail( "Expecting an order by clause to be required" );
+			}
+			catch (IllegalArgumentException expected) {
+			}
+			try {
+				session.createNativeQuery( "select * from Person order by id" ).setKeysetPosition( 1 );
+				fail( "Expecting native queries not to be supported" );
+			}
+			catch (IllegalStateException expected) {
+			}
+		} );
+	}
+
+	@Test
+	public void testUnsupportedOrderByItems() {
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			final Session session = entityManager.unwrap( Session.class );
+			try {
+				session.createQuery( "select p.name as n from Person p order by n" ).setKeysetPosition( "Person nr 1" );
+				fail( "Expecting select aliases not to be supported" );
+			}
+			catch (IllegalArgumentException expected) {
+			}
+			try {
+				session.createQuery( "select p from Person p order by lower(p.name)" ).setKeysetPosition( "person nr 1" );
+				fail( "Expecting expressions not to be supported" );
+			}
+			catch (IllegalArgumentException expected) {
+			}
+			try {
+				session.createQuery( "select p from Person p order by p.name nulls first" ).setKeysetPosition( "Person nr 1" );
+				fail( "Expecting null precedence not to be supported" );
+			}
+			catch (IllegalArgumentException expected) {
+			}
+		} );
+	}
+
+	private List<Integer> paginate(String queryString, boolean byNameAndId) {
+		final List<Integer> ids = new ArrayList<>();
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			final Session session = entityManager.unwrap( Session.class );
+			Person last = null;
+			List<Person> page;
+			do {
+				final Query<Person> query = session.createQuery( queryString, Person.class ).setMaxResults( 2 );
+				if ( last != null ) {
+					if ( byNameAndId ) {
+						query.setKeysetPosition( last.getName(), last.getId() );
+					}
+					else {
+						query.setKeysetPosition( last.getId() );
+					}
+				}
+				page = query.list();
+				for ( Person person : page ) {
+					ids.add( person.getId() );
+					last = person;
+				}
+			}
+			while ( !page.isEmpty() );
+		} );
+		return ids;
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@Convert(converter = RankConverter.class)
+		private Rank rank;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public Rank getRank() {
+			return rank;
+		}
+
+		public void setRank(Rank rank) {
+			this.rank = rank;
+		}
+	}
+
+	public static class Rank {
+
+		private final int value;
+
+		public Rank(int value) {
+			this.value = value;
+		}
+	}
+
+	public static class RankConverter implements AttributeConverter<Rank, Integer> {
+
+		@Override
+		public Integer convertToDatabaseColumn(Rank attribute) {
+			return attribute == null ? null : attribute.value;
+		}
+
+		@Override
+		public Rank convertToEntityAttribute(Integer dbData) {
+			return dbData == null ? null : new Rank( dbData );
+		}
+	}
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batch;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Persister;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.persister.entity.SingleTableEntityPersister;
+import org.hibernate.persister.spi.PersisterCreationContext;
+
+import org.hibernate.testing.DialectChecks;
+import org.hibernate.testing.RequiresDialectFeature;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.hibernate.test.util.jdbc.PreparedStatementSpyConnectionProvider;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RequiresDialectFeature(DialectChecks.SupportsJdbcDriverProxying.class)
+public class DynamicUpdateBatchingTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private PreparedStatementSpyConnectionProvider connectionProvider = new PreparedStatementSpyConnectionProvider( true, false );
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Product.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, 10 );
+		settings.put( AvailableSettings.ORDER_UPDATES, Boolean.TRUE );
+		settings.put( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@Override
+	protected void releaseResources() {
+		super.releaseResources();
+		connectionProvider.stop();
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testUpdatesOfSameDirtyColumnsShareStatement() throws SQLException {
+		persistProducts();
+
+		connectionProvider.clear();
+		updateProducts( "Renamed ", "Described " );
+
+		final List<PreparedStatement> nameUpdates = connectionProvider.getPreparedStatements(
+				"update Product set name=? where id=?" );
+		final List<PreparedStatement> descriptionUpdates = connectionProvider.getPreparedStatements(
+				"update Product set description=? where id=?" );
+		assertEquals( 1, nameUpdates.size() );
+		assertEquals( 1, descriptionUpdates.size() );
+		verify( nameUpdates.get( 0 ), times( 2 ) ).addBatch();
+		verify( descriptionUpdates.get( 0 ), times( 2 ) ).addBatch();
+	}
+
+	@Test
+	public void testUpdateStringGeneratedOncePerDirtySignature() {
+		persistProducts();
+
+		ProductPersister.GENERATED_UPDATE_STRINGS.set( 0 );
+		updateProducts( "Renamed ", "Described " );
+		// one for the name updates and one for the description updates
+		assertEquals( 2, ProductPersister.GENERATED_UPDATE_STRINGS.get() );
+
+		updateProducts( "Renamed again ", "Described again " );
+		assertEquals( 2, ProductPersister.GENERATED_UPDATE_STRINGS.get() );
+	}
+
+	private void persistProducts() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 1; i <= 4; i++ ) {
+				Product product = new Product();
+				product.id = i;
+				product.name = "Product " + i;
+				product.description = "Description " + i;
+				session.persist( product );
+			}
+		} );
+	}
+
+	private void updateProducts(String namePrefix, String descriptionPrefix) {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 1; i <= 4; i++ ) {
+				Product product = session.get( Product.class, i );
+				if ( i % 2 == 0 ) {
+					product.name = namePrefix + i;
+				}
+				else {
+					product.description = descriptionPrefix + i;
+				}
+			}
+		} );
+	}
+
+	@Entity(name = "Product")
+	@DynamicUpdate
+	@Persister(impl = ProductPersister.class)
+	public static class Product {
+
+		@Id
+		private Long id;
+
+		private String name;
+
+		private String description;
+	}
+
+	public static class ProductPersister extends SingleTableEntityPersister {
+		static final AtomicInteger GENERATED_UPDATE_STRINGS = new AtomicInteger();
+
+		public ProductPersister(
+				PersistentClass persistentClass,
+				EntityDataAccess cacheAccessStrategy,
+				NaturalIdDataAccess naturalIdRegionAccessStrategy,
+				PersisterCreationContext creationContext) {
+			super( persistentClass, cacheAccessStrategy, naturalIdRegionAccessStrategy, creationContext );
+		}
+
+		@Override
+		protected String generateUpdateString(
+				boolean[] includeProperty,
+				int j,
+				Object[] oldFields,
+				boolean useRowId) {
+			GENERATED_UPDATE_STRINGS.incrementAndGet();
+			return super.generateUpdateString( includeProperty, j, oldFields, useRowId );
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.test.bytecode.enhancement.lazy.group;
+
+import java.util.List;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.LazyGroup;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the lazy attribute groups of the entities in the persistence context are loaded in batches.
+ */
+@RunWith( BytecodeEnhancerRunner.class )
+public class LazyGroupBatchLoadingTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	public Class<?>[] getAnnotatedClasses() {
+		return new Class[] { TestEntity.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		configuration.setProperty( AvailableSettings.USE_SECOND_LEVEL_CACHE, "false" );
+		configuration.setProperty( AvailableSettings.LAZY_GROUP_BATCH_FETCH_SIZE, "4" );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Before
+	public void prepare() {
+		doInHibernate( this::sessionFactory, s -> {
+			for ( long i = 1; i <= 6; i++ ) {
+				s.save( new TestEntity( i, "entity " + i, "story " + i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testLazyGroupLoadedInBatches() {
+		doInHibernate( this::sessionFactory, s -> {
+			final List<TestEntity> entities = s.createQuery( "from TestEntity order by id", TestEntity.class )
+					.getResultList();
+			assertEquals( 6, entities.size() );
+
+			final Statistics statistics = sessionFactory().getStatistics();
+			statistics.clear();
+
+			for ( TestEntity entity : entities ) {
+				assertEquals( "story " + entity.id, entity.getLifeStory() );
+			}
+			// 6 entities with a batch size of 4
+			assertEquals( 2, statistics.getPrepareStatementCount() );
+		} );
+	}
+
+	@After
+	public void cleanup() {
+		doInHibernate( this::sessionFactory, s -> {
+			s.createQuery( "delete TestEntity" ).executeUpdate();
+		} );
+	}
+
+	// --- //
+
+	@Entity( name = "TestEntity" )
+	@Table( name = "TEST_ENTITY" )
+	private static class TestEntity {
+
+		@Id
+		Long id;
+
+		String name;
+
+		@Basic( fetch = FetchType.LAZY )
+		@LazyGroup( "grp1" )
+		String lifeStory;
+
+		TestEntity() {
+		}
+
+		TestEntity(Long id, String name, String lifeStory) {
+			this.id = id;
+			this.name = name;
+			this.lifeStory = lifeStory;
+		}
+
+		String getLifeStory() {
+			return lifeStory;
+		}
+	}
+}
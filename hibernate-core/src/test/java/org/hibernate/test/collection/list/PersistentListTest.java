@@ -16,8 +16,11 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
+import org.hibernate.Hibernate;
 import org.hibernate.Session;
 import org.hibernate.collection.internal.PersistentList;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -199,4 +202,50 @@ public class PersistentListTest extends BaseCoreFunctionalTestCase {
 		session.getTransaction().commit();
 		session.close();
 	}
+
+	@Test
+	public void testSnapshotUnchangedByMutationOfLoadedList() {
+		Session session = openSession();
+		session.beginTransaction();
+		ListOwner root = new ListOwner( "root" );
+		for ( String name : new String[] { "c1", "c2" } ) {
+			ListOwner child = new ListOwner( name );
+			root.getChildren().add( child );
+			child.setParent( root );
+		}
+		session.save( root );
+		session.getTransaction().commit();
+		session.close();
+
+		session = openSession();
+		session.beginTransaction();
+		root = session.get( ListOwner.class, "root" );
+		PersistentList children = (PersistentList) root.getChildren();
+		Hibernate.initialize( children );
+		final List snapshot = (List) ( (SessionImplementor) session ).getPersistenceContext()
+				.getCollectionEntry( children )
+				.getSnapshot();
+		assertEquals( 2, snapshot.size() );
+
+		final Iterator iterator = children.iterator();
+		final ListOwner removed = (ListOwner) iterator.next();
+		iterator.remove();
+		children.add( 0, new ListOwner( "c3" ) );
+		children.add( removed );
+
+		assertEquals( 3, children.size() );
+		assertEquals( 2, snapshot.size() );
+		assertEquals( removed, snapshot.get( 0 ) );
+		assertTrue( children.isDirty() );
+		session.getTransaction().rollback();
+		session.close();
+
+		session = openSession();
+		session.beginTransaction();
+		root = session.get( ListOwner.class, "root" );
+		assertEquals( 2, root.getChildren().size() );
+		session.delete( root );
+		session.getTransaction().commit();
+		session.close();
+	}
 }
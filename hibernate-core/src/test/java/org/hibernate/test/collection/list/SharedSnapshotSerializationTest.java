@@ -0,0 +1,92 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.collection.list;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.persistence.CollectionTable;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.OrderColumn;
+
+import org.hibernate.collection.internal.PersistentBag;
+import org.hibernate.collection.internal.PersistentList;
+import org.hibernate.internal.util.SerializationHelper;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Lists and bags of immutable elements share their backing list with their snapshot until mutated; the
+ * sharing must survive serialization of a detached collection.
+ */
+public class SharedSnapshotSerializationTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Playlist.class };
+	}
+
+	@Test
+	public void testMergeOfDeserializedCollections() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Playlist playlist = new Playlist();
+			playlist.id = 1;
+			playlist.tracks.addAll( Arrays.asList( "a", "b" ) );
+			playlist.tags.addAll( Arrays.asList( "x", "y" ) );
+			session.persist( playlist );
+		} );
+
+		final Playlist detached = doInHibernate( this::sessionFactory, session -> {
+			final Playlist playlist = session.get( Playlist.class, 1 );
+			assertTrue( playlist.tracks instanceof PersistentList );
+			assertTrue( playlist.tags instanceof PersistentBag );
+			playlist.tracks.size();
+			playlist.tags.size();
+			return playlist;
+		} );
+
+		final Playlist deserialized = (Playlist) SerializationHelper.clone( detached );
+		deserialized.tracks.add( "c" );
+		deserialized.tags.add( "z" );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.merge( deserialized );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Playlist playlist = session.get( Playlist.class, 1 );
+			assertEquals( Arrays.asList( "a", "b", "c" ), new ArrayList<>( playlist.tracks ) );
+			assertEquals( 3, playlist.tags.size() );
+			assertTrue( playlist.tags.contains( "z" ) );
+		} );
+	}
+
+	@Entity(name = "Playlist")
+	public static class Playlist implements Serializable {
+
+		@Id
+		private Integer id;
+
+		@ElementCollection(fetch = FetchType.LAZY)
+		@CollectionTable(name = "playlist_tracks")
+		@OrderColumn(name = "track_order")
+		private List<String> tracks = new ArrayList<>();
+
+		@ElementCollection(fetch = FetchType.LAZY)
+		@CollectionTable(name = "playlist_tags")
+		private List<String> tags = new ArrayList<>();
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.collection.set;
+
+import java.util.Map;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests adding children to the uninitialized inverse one-to-many set of a parent in append-only mode.
+ */
+public class PersistentSetAppendOnlyTest extends BaseNonConfigCoreFunctionalTestCase {
+	@Override
+	public String[] getMappings() {
+		return new String[] { "collection/set/Mappings.hbm.xml" };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.APPEND_ONLY_INVERSE_ONE_TO_MANY, "true" );
+	}
+
+	@Test
+	public void testAddWithoutInitialization() {
+		Session session = openSession();
+		session.beginTransaction();
+		Parent parent = new Parent( "p1" );
+		Child child = new Child( "c1" );
+		parent.getChildren().add( child );
+		child.setParent( parent );
+		session.save( parent );
+		session.getTransaction().commit();
+		session.close();
+
+		session = openSession();
+		session.beginTransaction();
+		parent = session.get( Parent.class, "p1" );
+		Child otherChild = new Child( "c2" );
+		otherChild.setParent( parent );
+		assertTrue( parent.getChildren().add( otherChild ) );
+		assertFalse( Hibernate.isInitialized( parent.getChildren() ) );
+		session.getTransaction().commit();
+		session.close();
+
+		session = openSession();
+		session.beginTransaction();
+		parent = session.get( Parent.class, "p1" );
+		child = session.get( Child.class, "c1" );
+		// the child is already contained, which is only noticed once the set gets loaded
+		assertTrue( parent.getChildren().add( child ) );
+		assertFalse( Hibernate.isInitialized( parent.getChildren() ) );
+		assertEquals( 2, parent.getChildren().size() );
+		assertTrue( Hibernate.isInitialized( parent.getChildren() ) );
+		session.delete( parent );
+		session.getTransaction().commit();
+		session.close();
+	}
+}
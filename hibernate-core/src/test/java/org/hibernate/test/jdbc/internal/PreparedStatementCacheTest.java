@@ -0,0 +1,74 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.jdbc.internal;
+
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+public class PreparedStatementCacheTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Event.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.STATEMENT_CACHE_SIZE, 4 );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testRepeatedLoadReusesStatement() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 1; i <= 3; i++ ) {
+				Event event = new Event();
+				event.id = i;
+				event.name = "Event " + i;
+				session.persist( event );
+			}
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 1; i <= 3; i++ ) {
+				assertNotNull( session.get( Event.class, i ) );
+				session.clear();
+			}
+		} );
+
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+		assertEquals( 2, statistics.getPrepareStatementCacheHitCount() );
+	}
+
+	@Entity(name = "Event")
+	public static class Event {
+
+		@Id
+		private Long id;
+
+		private String name;
+	}
+}
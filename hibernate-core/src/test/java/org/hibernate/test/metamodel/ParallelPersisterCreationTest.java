@@ -0,0 +1,196 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.metamodel;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.persistence.AttributeConverter;
+import javax.persistence.Convert;
+import javax.persistence.ElementCollection;
+import javax.persistence.Embeddable;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.metamodel.spi.MetamodelImplementor;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Builds a model with components, element collections, enums and converted attributes - whose types are
+ * resolved from the boot model - with the persisters created concurrently.
+ */
+public class ParallelPersisterCreationTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Author.class, Book.class, Tag.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.PARALLEL_PERSISTER_CREATION, Boolean.TRUE );
+	}
+
+	@Test
+	public void testPersistersAreRegistered() {
+		assertTrue( sessionFactory().getSessionFactoryOptions().isParallelPersisterCreationEnabled() );
+
+		final MetamodelImplementor metamodel = sessionFactory().getMetamodel();
+		assertNotNull( metamodel.entityPersister( Author.class ) );
+		assertNotNull( metamodel.entityPersister( Book.class ) );
+		assertNotNull( metamodel.entityPersister( Tag.class ) );
+		assertNotNull( metamodel.collectionPersister( Author.class.getName() + ".books" ) );
+		assertNotNull( metamodel.collectionPersister( Book.class.getName() + ".tags" ) );
+		assertNotNull( metamodel.collectionPersister( Author.class.getName() + ".formerAddresses" ) );
+		assertTrue( metamodel.getCollectionRolesByEntityParticipant( Book.class.getName() )
+				.contains( Author.class.getName() + ".books" ) );
+	}
+
+	@Test
+	public void testCrud() {
+		doInHibernate( this::sessionFactory, session -> {
+			Author author = new Author();
+			author.id = 1L;
+			author.name = "Gavin";
+			author.address = new Address( "Street 1", "Antwerp" );
+			author.formerAddresses.add( new Address( "Street 2", "Brussels" ) );
+
+			Book book = new Book();
+			book.id = 1L;
+			book.title = "Java Persistence with Hibernate";
+			book.author = author;
+			book.format = Format.HARDCOVER;
+			book.isbn = new Isbn( "978-1932394887" );
+			author.books.add( book );
+
+			Tag tag = new Tag();
+			tag.id = 1L;
+			tag.name = "orm";
+			book.tags.add( tag );
+
+			session.persist( tag );
+			session.persist( author );
+			session.persist( book );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			Author author = session.get( Author.class, 1L );
+			assertEquals( "Antwerp", author.address.city );
+			assertEquals( "Brussels", author.formerAddresses.iterator().next().city );
+			assertEquals( 1, author.books.size() );
+			assertEquals( 1, author.books.get( 0 ).tags.size() );
+			assertEquals( Format.HARDCOVER, author.books.get( 0 ).format );
+			assertEquals( "978-1932394887", author.books.get( 0 ).isbn.value );
+		} );
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+
+		@Id
+		private Long id;
+
+		private String name;
+
+		@Embedded
+		private Address address;
+
+		@ElementCollection
+		private Set<Address> formerAddresses = new HashSet<>();
+
+		@OneToMany(mappedBy = "author")
+		private List<Book> books = new ArrayList<>();
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+
+		@Id
+		private Long id;
+
+		private String title;
+
+		@ManyToOne
+		private Author author;
+
+		@Enumerated(EnumType.STRING)
+		private Format format;
+
+		@Convert(converter = IsbnConverter.class)
+		private Isbn isbn;
+
+		@OneToMany
+		private Set<Tag> tags = new HashSet<>();
+	}
+
+	@Entity(name = "Tag")
+	public static class Tag {
+
+		@Id
+		private Long id;
+
+		private String name;
+	}
+
+	@Embeddable
+	public static class Address {
+
+		private String street;
+
+		private String city;
+
+		public Address() {
+		}
+
+		public Address(String street, String city) {
+			this.street = street;
+			this.city = city;
+		}
+	}
+
+	public enum Format {
+		HARDCOVER,
+		PAPERBACK
+	}
+
+	public static class Isbn {
+
+		private final String value;
+
+		public Isbn(String value) {
+			this.value = value;
+		}
+	}
+
+	public static class IsbnConverter implements AttributeConverter<Isbn, String> {
+
+		@Override
+		public String convertToDatabaseColumn(Isbn attribute) {
+			return attribute == null ? null : attribute.value;
+		}
+
+		@Override
+		public Isbn convertToEntityAttribute(String dbData) {
+			return dbData == null ? null : new Isbn( dbData );
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.queryplan;
+
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.NamedQueryDefinitionBuilder;
+import org.hibernate.query.spi.NamedQueryRepository;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelNamedQueryCheckingTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Product.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.QUERY_STARTUP_CHECKING_PARALLEL, Boolean.TRUE );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, Boolean.TRUE );
+	}
+
+	@Test
+	public void testNamedQueriesAreNotTranslatedAgain() {
+		assertTrue( sessionFactory().getSessionFactoryOptions().isParallelNamedQueryStartupCheckingEnabled() );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.createNamedQuery( "Product.all" ).list();
+			session.createNamedQuery( "Product.byName" ).setParameter( "name", "hammer" ).list();
+			session.createNamedQuery( "Product.count" ).uniqueResult();
+		} );
+
+		assertEquals( 0, statistics.getQueryPlanCacheMissCount() );
+		assertTrue( statistics.getQueryPlanCacheHitCount() > 0 );
+	}
+
+	@Test
+	public void testInvalidNamedQueryIsReported() {
+		final NamedQueryRepository namedQueryRepository = sessionFactory().getNamedQueryRepository();
+		namedQueryRepository.registerNamedQueryDefinition(
+				"Product.invalid",
+				new NamedQueryDefinitionBuilder( "Product.invalid" )
+						.setQuery( "select p.weight from Product p" )
+						.createNamedQueryDefinition()
+		);
+
+		final Map<String, HibernateException> errors = namedQueryRepository.checkNamedQueries(
+				sessionFactory().getQueryPlanCache(),
+				true
+		);
+		assertEquals( 1, errors.size() );
+		assertTrue( errors.containsKey( "Product.invalid" ) );
+	}
+
+	@Entity(name = "Product")
+	@NamedQueries({
+			@NamedQuery(name = "Product.all", query = "select p from Product p"),
+			@NamedQuery(name = "Product.byName", query = "select p from Product p where p.name = :name"),
+			@NamedQuery(name = "Product.count", query = "select count(p) from Product p")
+	})
+	public static class Product {
+
+		@Id
+		private Long id;
+
+		private String name;
+	}
+}
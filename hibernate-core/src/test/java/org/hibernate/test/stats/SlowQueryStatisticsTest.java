@@ -0,0 +1,80 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stats;
+
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that slow queries captured while the SessionFactory is running are exposed through {@link Statistics}.
+ */
+@RequiresDialect(H2Dialect.class)
+public class SlowQueryStatisticsTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Employee.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.LOG_SLOW_QUERY, "10" );
+		settings.put( AvailableSettings.LOG_SLOW_QUERY_CAPTURE_SIZE, "5" );
+	}
+
+	@Test
+	public void testSlowQueriesAreCaptured() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createNativeQuery(
+					"create alias if not exists TEST_SLEEP for \"" + SlowQueryStatisticsTest.class.getName() + ".sleep\""
+			).executeUpdate();
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		assertEquals( 0, statistics.getSlowQueries().length );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.createNativeQuery( "select TEST_SLEEP(50)" ).getSingleResult();
+		} );
+
+		final String[] slowQueries = statistics.getSlowQueries();
+		assertEquals( 1, slowQueries.length );
+		assertTrue( slowQueries[0].contains( "TEST_SLEEP(50)" ) );
+
+		statistics.clear();
+		assertEquals( 0, statistics.getSlowQueries().length );
+	}
+
+	public static int sleep(int millis) throws InterruptedException {
+		Thread.sleep( millis );
+		return millis;
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+
+		@Id
+		private Long id;
+
+		private String name;
+	}
+}
@@ -10,6 +10,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.HibernateException;
 import org.hibernate.envers.exception.AuditException;
@@ -296,4 +297,25 @@ public interface AuditReader {
 	 * </ul>
 	 */
 	CrossTypeRevisionChangesReader getCrossTypeRevisionChangesReader() throws AuditException;
+
+	/**
+	 * Makes sure that the audit data of all committed transactions has been written to the audit tables.
+	 * <p>
+	 * This is only relevant when {@code org.hibernate.envers.audit_outbox_enabled} is set, in which case the audit
+	 * tables are written after the audited transactions commit; the pending audit data is then written by the calling
+	 * thread.  Otherwise this method returns immediately.
+	 * <p>
+	 * Audit data which cannot be written is retried up to {@code org.hibernate.envers.audit_outbox_max_attempts} times,
+	 * and is then left in the outbox, marked as failed, and no longer considered pending.
+	 *
+	 * @param timeout The maximum time to wait.
+	 * @param unit The unit of the timeout.
+	 *
+	 * @return {@code true} if no audit data is pending; {@code false} if the timeout elapsed first.
+	 *
+	 * @since 5.4.5
+	 */
+	default boolean awaitAuditOutbox(long timeout, TimeUnit unit) {
+		return true;
+	}
 }
@@ -13,7 +13,9 @@ import java.lang.annotation.Target;
 
 /**
  * Marks a property which holds entity names that have been modified during each revision.
- * This annotation expects field of <code>{@literal Set<String>}</code> type.
+ * This annotation expects field of <code>{@literal Set<String>}</code> type, usually mapped to a separate
+ * table holding one row per modified entity name, or of {@code String} type, in which case the entity names
+ * are stored compactly in a single column of the revision entity, separated by commas.
  *
  * @author Lukasz Antoniak (lukasz dot antoniak at gmail dot com)
  */
@@ -7,6 +7,8 @@
 package org.hibernate.envers.boot.internal;
 
 import org.hibernate.HibernateException;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
 import org.hibernate.boot.Metadata;
 import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.config.spi.StandardConverters;
@@ -19,6 +21,8 @@ import org.hibernate.envers.event.spi.EnversPostUpdateEventListenerImpl;
 import org.hibernate.envers.event.spi.EnversPreCollectionRemoveEventListenerImpl;
 import org.hibernate.envers.event.spi.EnversPreCollectionUpdateEventListenerImpl;
 import org.hibernate.envers.event.spi.EnversPreUpdateEventListenerImpl;
+import org.hibernate.envers.internal.reader.HistoricalEntityCache;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
 import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.spi.EventType;
 import org.hibernate.integrator.spi.Integrator;
@@ -112,6 +116,44 @@ public class EnversIntegrator implements Integrator {
 					new EnversPreCollectionUpdateEventListenerImpl( enversService )
 			);
 		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Run the audit outbox worker for the lifetime of the SessionFactory
+		final AuditOutbox auditOutbox = enversService.getAuditOutbox();
+		if ( auditOutbox != null ) {
+			sessionFactory.addObserver(
+					new SessionFactoryObserver() {
+						@Override
+						public void sessionFactoryCreated(SessionFactory factory) {
+							auditOutbox.start( sessionFactory );
+						}
+
+						@Override
+						public void sessionFactoryClosing(SessionFactory factory) {
+							auditOutbox.stop();
+						}
+					}
+			);
+		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Keep the historical entity cache region for the lifetime of the SessionFactory
+		final HistoricalEntityCache historicalEntityCache = enversService.getHistoricalEntityCache();
+		if ( historicalEntityCache != null ) {
+			sessionFactory.addObserver(
+					new SessionFactoryObserver() {
+						@Override
+						public void sessionFactoryCreated(SessionFactory factory) {
+							historicalEntityCache.start( sessionFactory );
+						}
+
+						@Override
+						public void sessionFactoryClosing(SessionFactory factory) {
+							historicalEntityCache.stop();
+						}
+					}
+			);
+		}
 	}
 
 	@Override
@@ -15,6 +15,8 @@ import org.hibernate.envers.internal.entities.EntitiesConfigurations;
 import org.hibernate.envers.internal.revisioninfo.ModifiedEntityNamesReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoQueryCreator;
+import org.hibernate.envers.internal.reader.HistoricalEntityCache;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
 import org.hibernate.envers.internal.synchronization.AuditProcessManager;
 import org.hibernate.envers.strategy.AuditStrategy;
 import org.hibernate.internal.util.xml.XMLHelper;
@@ -64,6 +66,16 @@ public interface EnversService extends Service {
 
 	AuditProcessManager getAuditProcessManager();
 
+	/**
+	 * @return The audit outbox, or {@code null} if audit data is written directly to the audit tables.
+	 */
+	AuditOutbox getAuditOutbox();
+
+	/**
+	 * @return The cache of historical entities shared by the audit readers, or {@code null} if not enabled.
+	 */
+	HistoricalEntityCache getHistoricalEntityCache();
+
 	AuditStrategy getAuditStrategy();
 
 	EntitiesConfigurations getEntitiesConfigurations();
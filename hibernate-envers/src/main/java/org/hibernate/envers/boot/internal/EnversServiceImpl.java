@@ -9,6 +9,7 @@ package org.hibernate.envers.boot.internal;
 import java.util.Map;
 import java.util.Properties;
 
+import org.dom4j.DocumentException;
 import org.hibernate.MappingException;
 import org.hibernate.annotations.common.reflection.ReflectionManager;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
@@ -24,7 +25,9 @@ import org.hibernate.envers.internal.entities.EntitiesConfigurations;
 import org.hibernate.envers.internal.entities.PropertyData;
 import org.hibernate.envers.internal.revisioninfo.ModifiedEntityNamesReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
+import org.hibernate.envers.internal.reader.HistoricalEntityCache;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoQueryCreator;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
 import org.hibernate.envers.internal.synchronization.AuditProcessManager;
 import org.hibernate.envers.internal.tools.ReflectionTools;
 import org.hibernate.envers.strategy.AuditStrategy;
@@ -68,6 +71,8 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 	private GlobalConfiguration globalConfiguration;
 	private AuditEntitiesConfiguration auditEntitiesConfiguration;
 	private AuditProcessManager auditProcessManager;
+	private AuditOutbox auditOutbox;
+	private HistoricalEntityCache historicalEntityCache;
 	private AuditStrategy auditStrategy;
 	private EntitiesConfigurations entitiesConfigurations;
 	private RevisionInfoQueryCreator revisionInfoQueryCreator;
@@ -139,7 +144,16 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 				revInfoCfgResult.getRevisionInfoEntityName(),
 				this
 		);
-		this.auditProcessManager = new AuditProcessManager( revInfoCfgResult.getRevisionInfoGenerator() );
+		if ( globalConfiguration.isAuditOutboxEnabled() ) {
+			this.auditOutbox = new AuditOutbox( this, globalConfiguration );
+		}
+		this.auditProcessManager = new AuditProcessManager( revInfoCfgResult.getRevisionInfoGenerator(), auditOutbox );
+		if ( globalConfiguration.isHistoricalEntityCacheEnabled() ) {
+			this.historicalEntityCache = new HistoricalEntityCache(
+					this,
+					globalConfiguration.getHistoricalEntityCacheRegionName()
+			);
+		}
 		this.revisionInfoQueryCreator = revInfoCfgResult.getRevisionInfoQueryCreator();
 		this.revisionInfoNumberReader = revInfoCfgResult.getRevisionInfoNumberReader();
 		this.modifiedEntityNamesReader = revInfoCfgResult.getModifiedEntityNamesReader();
@@ -160,6 +174,15 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 				revInfoCfgResult.getRevisionInfoXmlMapping(),
 				revInfoCfgResult.getRevisionInfoRelationMapping()
 		);
+
+		if ( auditOutbox != null ) {
+			try {
+				mappingCollector.addDocument( auditOutbox.generateXmlMapping() );
+			}
+			catch (DocumentException e) {
+				throw new MappingException( e );
+			}
+		}
 	}
 
 	private static AuditStrategy initializeAuditStrategy(
@@ -232,6 +255,22 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 		return auditProcessManager;
 	}
 
+	@Override
+	public AuditOutbox getAuditOutbox() {
+		if ( !initialized ) {
+			throw new IllegalStateException( "Service is not yet initialized" );
+		}
+		return auditOutbox;
+	}
+
+	@Override
+	public HistoricalEntityCache getHistoricalEntityCache() {
+		if ( !initialized ) {
+			throw new IllegalStateException( "Service is not yet initialized" );
+		}
+		return historicalEntityCache;
+	}
+
 	@Override
 	public AuditStrategy getAuditStrategy() {
 		if ( !initialized ) {
@@ -290,6 +329,11 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 
 	@Override
 	public void stop() {
-		// anything to release?
+		if ( auditOutbox != null ) {
+			auditOutbox.stop();
+		}
+		if ( historicalEntityCache != null ) {
+			historicalEntityCache.stop();
+		}
 	}
 }
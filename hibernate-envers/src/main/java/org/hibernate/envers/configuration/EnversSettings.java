@@ -133,4 +133,120 @@ public interface EnversSettings {
 	 * @since 5.4.4
 	 */
 	String FIND_BY_REVISION_EXACT_MATCH = "org.hibernate.envers.find_by_revision_exact_match";
+
+	/**
+	 * Should audit data be written through an outbox table?  When enabled, the audit data of a transaction is
+	 * serialized into a single outbox row written by that transaction, and a background worker writes the rows
+	 * of the audit tables afterwards, in separate transactions.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 5.4.5
+	 */
+	String AUDIT_OUTBOX_ENABLED = "org.hibernate.envers.audit_outbox_enabled";
+
+	/**
+	 * Name of the table holding the outbox rows. Defaults to {@literal REVOUTBOX}.
+	 *
+	 * @since 5.4.5
+	 */
+	String AUDIT_OUTBOX_TABLE_NAME = "org.hibernate.envers.audit_outbox_table_name";
+
+	/**
+	 * Maximum number of outbox rows (audited transactions) written to the audit tables by one run of the
+	 * background worker. Defaults to {@literal 100}.
+	 *
+	 * @since 5.4.5
+	 */
+	String AUDIT_OUTBOX_BATCH_SIZE = "org.hibernate.envers.audit_outbox_batch_size";
+
+	/**
+	 * Delay, in milliseconds, between runs of the background worker. A value of {@literal 0} disables the
+	 * worker, in which case the outbox is only drained through {@link org.hibernate.envers.AuditReader#awaitAuditOutbox}.
+	 * Defaults to {@literal 1000}.
+	 *
+	 * @since 5.4.5
+	 */
+	String AUDIT_OUTBOX_POLL_INTERVAL = "org.hibernate.envers.audit_outbox_poll_interval";
+
+	/**
+	 * Number of failed attempts to write the audit data of an outbox row after which the row is marked as failed.
+	 * Until then, the audit data of later revisions waits for the row to be written; failed rows are kept in the
+	 * outbox but no longer retried, nor waited for. Defaults to {@literal 5}.
+	 *
+	 * @since 5.4.5
+	 */
+	String AUDIT_OUTBOX_MAX_ATTEMPTS = "org.hibernate.envers.audit_outbox_max_attempts";
+
+	/**
+	 * Should rows of the audit tables be inserted directly through the insert statements of the audit entity
+	 * persisters, instead of being saved into the persistence context of the audited session?  The inserts are
+	 * batched according to {@literal hibernate.jdbc.batch_size}.  Audit rows inserted this way are not visible to
+	 * event listeners or interceptors registered for the audit entities.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 5.4.5
+	 */
+	String USE_DIRECT_AUDIT_INSERTS = "org.hibernate.envers.use_direct_audit_inserts";
+
+	/**
+	 * Should the default audit strategy select the audit rows valid at a revision through a non-correlated
+	 * subquery, {@literal (e.id, e.rev) in (select e2.id, max(e2.rev) ... group by e2.id)}, instead of a
+	 * subquery correlated with each audit row?  The non-correlated form lets the database compute the latest
+	 * revisions once, through an index on the identifier and revision columns, rather than once per audit row.
+	 * Only applied if the dialect supports row value constructors in {@literal in} predicates.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 5.4.5
+	 */
+	String USE_NON_CORRELATED_REVISION_SUBQUERY = "org.hibernate.envers.use_non_correlated_revision_subquery";
+
+	/**
+	 * Should the audit rows from which historical entities are instantiated be cached in a region of the
+	 * second-level cache, shared by all audit readers?  Requires a second-level cache region factory.  As the
+	 * cached entries are never invalidated, revisions are expected to be committed in revision number order
+	 * and audit data not to be modified otherwise.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 5.4.5
+	 */
+	String HISTORICAL_ENTITY_CACHE_ENABLED = "org.hibernate.envers.historical_entity_cache_enabled";
+
+	/**
+	 * Name of the cache region holding the historical entities.
+	 * Defaults to {@literal org.hibernate.envers.HistoricalEntities}.
+	 *
+	 * @since 5.4.5
+	 */
+	String HISTORICAL_ENTITY_CACHE_REGION_NAME = "org.hibernate.envers.historical_entity_cache_region_name";
+
+	/**
+	 * Maximum number of lazy relations of historical entities initialized together.  When greater than
+	 * {@literal 1}, initializing a lazy *-to-one relation also loads the other pending relations to entities of
+	 * the same type at the same revision, and initializing a lazy one-to-many collection also initializes the
+	 * other pending collections of the same role, each with a single query; much like
+	 * {@literal hibernate.default_batch_fetch_size} does for current entities.
+	 *
+	 * Defaults to {@literal 1}, which disables batch loading.
+	 *
+	 * @since 5.4.5
+	 */
+	String BATCH_FETCH_SIZE = "org.hibernate.envers.batch_fetch_size";
+
+	/**
+	 * Should queries of the validity audit strategy reading entities at a revision also restrict the timestamp of
+	 * the end revision of the audit rows?  The restriction is redundant with the one on the end revision, but allows
+	 * databases to prune the partitions of audit tables partitioned by the end revision timestamp.  The lower bound
+	 * of the timestamp is read from the revision entity, once per revision and audit reader.  Only applies if
+	 * {@link #AUDIT_STRATEGY_VALIDITY_STORE_REVEND_TIMESTAMP} is enabled, and expects the timestamps of revisions
+	 * to increase with their numbers.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 5.4.5
+	 */
+	String AUDIT_STRATEGY_VALIDITY_REVEND_TIMESTAMP_PRUNING = "org.hibernate.envers.audit_strategy_validity_revend_timestamp_pruning";
 }
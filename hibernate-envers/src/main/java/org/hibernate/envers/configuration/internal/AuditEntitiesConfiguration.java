@@ -44,6 +44,7 @@ public class  AuditEntitiesConfiguration {
 
 	private final boolean revisionEndTimestampEnabled;
 	private final String revisionEndTimestampFieldName;
+	private final boolean revisionEndTimestampPruningEnabled;
 
 	private final String embeddableSetOrdinalPropertyName;
 	private final EnversService enversService;
@@ -85,9 +86,13 @@ public class  AuditEntitiesConfiguration {
 			revisionEndTimestampFieldName = ConfigurationHelper.getString(
 					EnversSettings.AUDIT_STRATEGY_VALIDITY_REVEND_TIMESTAMP_FIELD_NAME, properties, "REVEND_TSTMP"
 			);
+			revisionEndTimestampPruningEnabled = ConfigurationHelper.getBoolean(
+					EnversSettings.AUDIT_STRATEGY_VALIDITY_REVEND_TIMESTAMP_PRUNING, properties, false
+			);
 		}
 		else {
 			revisionEndTimestampFieldName = null;
+			revisionEndTimestampPruningEnabled = false;
 		}
 
 		customAuditTablesNames = new HashMap<>();
@@ -116,6 +121,10 @@ public class  AuditEntitiesConfiguration {
 		return revisionEndTimestampFieldName;
 	}
 
+	public boolean isRevisionEndTimestampPruningEnabled() {
+		return revisionEndTimestampPruningEnabled;
+	}
+
 	public String getRevisionNumberPath() {
 		return revisionNumberPath;
 	}
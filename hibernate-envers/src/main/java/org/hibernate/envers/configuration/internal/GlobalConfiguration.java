@@ -12,6 +12,7 @@ import org.hibernate.MappingException;
 import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
 import org.hibernate.cfg.Environment;
 import org.hibernate.dialect.HSQLDialect;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.envers.RevisionListener;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.configuration.EnversSettings;
@@ -69,6 +70,26 @@ public class GlobalConfiguration {
 	// Forces audit reader find by revision methods to perform exact match
 	private final boolean findByRevisionExactMatch;
 
+	// Write audit data through an outbox table, expanded by a background worker
+	private final boolean auditOutboxEnabled;
+	private final String auditOutboxTableName;
+	private final int auditOutboxBatchSize;
+	private final long auditOutboxPollInterval;
+	private final int auditOutboxMaxAttempts;
+
+	// Insert audit rows through the audit entity persisters, bypassing the persistence context
+	private final boolean useDirectAuditInserts;
+
+	// Select the audit rows valid at a revision through a non-correlated, grouped subquery
+	private final boolean useNonCorrelatedRevisionSubquery;
+
+	// Cache the audit rows of historical entities in a second-level cache region
+	private final boolean historicalEntityCacheEnabled;
+	private final String historicalEntityCacheRegionName;
+
+	// Maximum number of lazy relations of historical entities initialized by a single query
+	private final int batchFetchSize;
+
 	/*
 		 Which operator to use in correlated subqueries (when we want a property to be equal to the result of
 		 a correlated subquery, for example: e.p <operator> (select max(e2.p) where e2.p2 = e.p2 ...).
@@ -163,6 +184,42 @@ public class GlobalConfiguration {
 		findByRevisionExactMatch = ConfigurationHelper.getBoolean(
 				EnversSettings.FIND_BY_REVISION_EXACT_MATCH, properties, false
 		);
+
+		auditOutboxEnabled = ConfigurationHelper.getBoolean(
+				EnversSettings.AUDIT_OUTBOX_ENABLED, properties, false
+		);
+		auditOutboxTableName = ConfigurationHelper.getString(
+				EnversSettings.AUDIT_OUTBOX_TABLE_NAME, properties, "REVOUTBOX"
+		);
+		auditOutboxBatchSize = ConfigurationHelper.getInt(
+				EnversSettings.AUDIT_OUTBOX_BATCH_SIZE, properties, 100
+		);
+		auditOutboxPollInterval = ConfigurationHelper.getLong(
+				EnversSettings.AUDIT_OUTBOX_POLL_INTERVAL, properties, 1000
+		);
+		auditOutboxMaxAttempts = ConfigurationHelper.getInt(
+				EnversSettings.AUDIT_OUTBOX_MAX_ATTEMPTS, properties, 5
+		);
+
+		useDirectAuditInserts = ConfigurationHelper.getBoolean(
+				EnversSettings.USE_DIRECT_AUDIT_INSERTS, properties, false
+		);
+
+		useNonCorrelatedRevisionSubquery = ConfigurationHelper.getBoolean(
+				EnversSettings.USE_NON_CORRELATED_REVISION_SUBQUERY, properties, false
+		) && enversService.getServiceRegistry()
+				.getService( JdbcServices.class )
+				.getDialect()
+				.supportsRowValueConstructorSyntaxInInList();
+
+		historicalEntityCacheEnabled = ConfigurationHelper.getBoolean(
+				EnversSettings.HISTORICAL_ENTITY_CACHE_ENABLED, properties, false
+		);
+		historicalEntityCacheRegionName = ConfigurationHelper.getString(
+				EnversSettings.HISTORICAL_ENTITY_CACHE_REGION_NAME, properties, "org.hibernate.envers.HistoricalEntities"
+		);
+
+		batchFetchSize = ConfigurationHelper.getInt( EnversSettings.BATCH_FETCH_SIZE, properties, 1 );
 	}
 
 	public EnversService getEnversService() {
@@ -232,4 +289,44 @@ public class GlobalConfiguration {
 	public boolean isAuditReaderFindAtRevisionExactMatch() {
 		return findByRevisionExactMatch;
 	}
+
+	public boolean isAuditOutboxEnabled() {
+		return auditOutboxEnabled;
+	}
+
+	public String getAuditOutboxTableName() {
+		return auditOutboxTableName;
+	}
+
+	public int getAuditOutboxBatchSize() {
+		return auditOutboxBatchSize;
+	}
+
+	public long getAuditOutboxPollInterval() {
+		return auditOutboxPollInterval;
+	}
+
+	public int getAuditOutboxMaxAttempts() {
+		return auditOutboxMaxAttempts;
+	}
+
+	public boolean isUseDirectAuditInserts() {
+		return useDirectAuditInserts;
+	}
+
+	public boolean isUseNonCorrelatedRevisionSubquery() {
+		return useNonCorrelatedRevisionSubquery;
+	}
+
+	public boolean isHistoricalEntityCacheEnabled() {
+		return historicalEntityCacheEnabled;
+	}
+
+	public String getHistoricalEntityCacheRegionName() {
+		return historicalEntityCacheRegionName;
+	}
+
+	public int getBatchFetchSize() {
+		return batchFetchSize;
+	}
 }
@@ -249,8 +249,9 @@ public class RevisionInfoConfiguration {
 					throw new MappingException( "Only one property may be annotated with @ModifiedEntityNames!" );
 				}
 				final XClass modifiedEntityNamesClass = property.getType();
-				if ( reflectionManager.equals( modifiedEntityNamesClass, Set.class ) &&
-						reflectionManager.equals( property.getElementClass(), String.class ) ) {
+				if ( ( reflectionManager.equals( modifiedEntityNamesClass, Set.class ) &&
+						reflectionManager.equals( property.getElementClass(), String.class ) )
+						|| reflectionManager.equals( modifiedEntityNamesClass, String.class ) ) {
 					modifiedEntityNamesData = new PropertyData(
 							property.getName(),
 							property.getName(),
@@ -261,7 +262,7 @@ public class RevisionInfoConfiguration {
 				}
 				else {
 					throw new MappingException(
-							"The field annotated with @ModifiedEntityNames must be of Set<String> type."
+							"The field annotated with @ModifiedEntityNames must be of Set<String> or String type."
 					);
 				}
 			}
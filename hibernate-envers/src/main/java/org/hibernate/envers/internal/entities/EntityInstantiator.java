@@ -16,6 +16,7 @@ import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.internal.entities.mapper.id.IdMapper;
 import org.hibernate.envers.internal.entities.mapper.relation.lazy.ToOneDelegateSessionImplementor;
 import org.hibernate.envers.internal.reader.AuditReaderImplementor;
+import org.hibernate.envers.internal.reader.HistoricalEntityCache;
 import org.hibernate.envers.internal.tools.ReflectionTools;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
@@ -44,6 +45,26 @@ public class EntityInstantiator {
 	 *         created for collections.
 	 */
 	public Object createInstanceFromVersionsEntity(String entityName, Map versionsEntity, Number revision) {
+		return createInstanceFromVersionsEntity( entityName, versionsEntity, revision, true );
+	}
+
+	/**
+	 * Creates an entity instance based on an entry from the versions table.
+	 *
+	 * @param entityName Name of the entity, which instances should be read
+	 * @param versionsEntity An entry in the versions table, from which data should be mapped.
+	 * @param revision Revision at which this entity was read.
+	 * @param shareVersionsEntity Whether the entry should be put into the historical entity cache, if enabled;
+	 *        {@code false} if the entry was taken from that cache.
+	 *
+	 * @return An entity instance, with versioned properties set as in the versionsEntity map, and proxies
+	 *         created for collections.
+	 */
+	public Object createInstanceFromVersionsEntity(
+			String entityName,
+			Map versionsEntity,
+			Number revision,
+			boolean shareVersionsEntity) {
 		if ( versionsEntity == null ) {
 			return null;
 		}
@@ -75,6 +96,18 @@ public class EntityInstantiator {
 			return versionsReader.getFirstLevelCache().get( entityName, revision, primaryKey );
 		}
 
+		// Sharing the entry with the other readers
+		final HistoricalEntityCache historicalEntityCache = enversService.getHistoricalEntityCache();
+		if ( shareVersionsEntity && historicalEntityCache != null ) {
+			historicalEntityCache.put(
+					entityName,
+					revision,
+					primaryKey,
+					versionsEntity,
+					versionsReader.getSessionImplementor()
+			);
+		}
+
 		// If it is not in the cache, creating a new entity instance
 		Object ret = versionsReader.getSessionImplementor()
 					.getFactory()
@@ -7,10 +7,12 @@
 package org.hibernate.envers.internal.entities.mapper.relation;
 
 import java.io.Serializable;
+import java.util.List;
 
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.internal.entities.mapper.relation.lazy.ToOneDelegateSessionImplementor;
 import org.hibernate.envers.internal.reader.AuditReaderImplementor;
+import org.hibernate.envers.query.AuditEntity;
 import org.hibernate.persister.entity.EntityPersister;
 
 /**
@@ -36,6 +38,10 @@ public final class ToOneEntityLoader {
 			// Audited relation, look up entity with Envers.
 			// When user traverses removed entities graph, do not restrict revision type of referencing objects
 			// to ADD or MOD (DEL possible). See HHH-5845.
+			if ( isBatchLoadable( versionsReader, entityName, enversService )
+					&& !versionsReader.getFirstLevelCache().contains( entityName, revision, entityId ) ) {
+				loadBatch( versionsReader, entityClass, entityName, entityId, revision, removed, enversService );
+			}
 			return versionsReader.find( entityClass, entityName, entityId, revision, removed );
 		}
 		else {
@@ -59,6 +65,10 @@ public final class ToOneEntityLoader {
 				.getFactory()
 				.getMetamodel()
 				.entityPersister( entityName );
+		if ( enversService.getEntitiesConfigurations().getNotVersionEntityConfiguration( entityName ) == null
+				&& isBatchLoadable( versionsReader, entityName, enversService ) ) {
+			versionsReader.getBatchFetchQueue().addEntity( entityName, revision, removed, entityId );
+		}
 		return persister.createProxy(
 				(Serializable) entityId,
 				new ToOneDelegateSessionImplementor( versionsReader, entityClass, entityId, revision, removed, enversService )
@@ -86,4 +96,48 @@ public final class ToOneEntityLoader {
 		}
 		return loadImmediate( versionsReader, entityClass, entityName, entityId, revision, removed, enversService );
 	}
+
+	/**
+	 * Loads the entity, together with the other entities of the same type referenced by uninitialized proxies
+	 * at the same revision, into the first level cache of the audit reader.
+	 */
+	private static void loadBatch(
+			AuditReaderImplementor versionsReader,
+			Class<?> entityClass,
+			String entityName,
+			Object entityId,
+			Number revision,
+			boolean removed,
+			EnversService enversService) {
+		final List<Object> ids = versionsReader.getBatchFetchQueue().removeEntityBatch(
+				entityName,
+				revision,
+				removed,
+				entityId,
+				enversService.getGlobalConfiguration().getBatchFetchSize()
+		);
+		// proxies of entities read in the meantime (e.g. by a query) are still pending
+		ids.removeIf( id -> versionsReader.getFirstLevelCache().contains( entityName, revision, id ) );
+		if ( ids.size() > 1 ) {
+			// The results are put into the cache by the entity instantiator called from the query
+			versionsReader.createQuery()
+					.forEntitiesAtRevision( entityClass, entityName, revision, removed )
+					.add( AuditEntity.id().in( ids ) )
+					.getResultList();
+		}
+	}
+
+	private static boolean isBatchLoadable(
+			AuditReaderImplementor versionsReader,
+			String entityName,
+			EnversService enversService) {
+		// identifier restrictions other than equality are only supported for single-column identifiers
+		return enversService.getGlobalConfiguration().getBatchFetchSize() > 1
+				&& !versionsReader.getSessionImplementor()
+						.getFactory()
+						.getMetamodel()
+						.entityPersister( entityName )
+						.getIdentifierType()
+						.isComponentType();
+	}
 }
@@ -6,13 +6,20 @@
  */
 package org.hibernate.envers.internal.entities.mapper.relation.lazy.initializor;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.internal.entities.EntityInstantiator;
+import org.hibernate.envers.internal.entities.mapper.relation.query.BatchRelationQueryGenerator;
 import org.hibernate.envers.internal.entities.mapper.relation.query.RelationQueryGenerator;
 import org.hibernate.envers.internal.reader.AuditReaderImplementor;
+import org.hibernate.query.Query;
+
+import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REVISION_END_TIMESTAMP_PARAMETER;
 
 /**
  * Initializes a persistent collection.
@@ -26,6 +33,10 @@ public abstract class AbstractCollectionInitializor<T> implements Initializor<T>
 	protected final Number revision;
 	protected final boolean removed;
 	protected final EntityInstantiator entityInstantiator;
+	private final int batchFetchSize;
+
+	// The rows of the collection, if read by the batch query of another collection of the same role
+	private List<?> batchContent;
 
 	public AbstractCollectionInitializor(
 			EnversService enversService,
@@ -39,6 +50,11 @@ public abstract class AbstractCollectionInitializor<T> implements Initializor<T>
 		this.removed = removed;
 
 		entityInstantiator = new EntityInstantiator( enversService, versionsReader );
+
+		batchFetchSize = enversService.getGlobalConfiguration().getBatchFetchSize();
+		if ( isBatchLoadable() ) {
+			versionsReader.getBatchFetchQueue().addCollection( queryGenerator, revision, removed, primaryKey, this );
+		}
 	}
 
 	protected abstract T initializeCollection(int size);
@@ -48,7 +64,17 @@ public abstract class AbstractCollectionInitializor<T> implements Initializor<T>
 	@Override
 	public T initialize() {
 		final SharedSessionContractImplementor session = versionsReader.getSessionImplementor();
-		final List<?> collectionContent = queryGenerator.getQuery( session, primaryKey, revision, removed ).list();
+		final List<?> collectionContent;
+		if ( batchContent != null ) {
+			collectionContent = batchContent;
+			batchContent = null;
+		}
+		else if ( isBatchLoadable() ) {
+			collectionContent = loadBatch( session );
+		}
+		else {
+			collectionContent = list( queryGenerator.getQuery( session, primaryKey, revision, removed ) );
+		}
 
 		final T collection = initializeCollection( collectionContent.size() );
 
@@ -58,4 +84,52 @@ public abstract class AbstractCollectionInitializor<T> implements Initializor<T>
 
 		return collection;
 	}
+
+	private List<?> list(Query query) {
+		if ( query.getParameterMetadata().getNamedParameterNames().contains( REVISION_END_TIMESTAMP_PARAMETER ) ) {
+			query.setParameter(
+					REVISION_END_TIMESTAMP_PARAMETER,
+					versionsReader.getRevisionEndTimestampLowerBound( revision )
+			);
+		}
+		return query.list();
+	}
+
+	private boolean isBatchLoadable() {
+		return batchFetchSize > 1 && queryGenerator instanceof BatchRelationQueryGenerator;
+	}
+
+	/**
+	 * Reads the rows of this collection together with the rows of the other uninitialized collections of the
+	 * same role, read at the same revision, and hands the rows of the latter to their initializors.
+	 */
+	private List<?> loadBatch(SharedSessionContractImplementor session) {
+		final Map<Object, AbstractCollectionInitializor<?>> batch = versionsReader.getBatchFetchQueue()
+				.removeCollectionBatch( queryGenerator, revision, removed, primaryKey, this, batchFetchSize );
+		if ( batch.size() == 1 ) {
+			return list( queryGenerator.getQuery( session, primaryKey, revision, removed ) );
+		}
+
+		final BatchRelationQueryGenerator batchQueryGenerator = (BatchRelationQueryGenerator) queryGenerator;
+		final Map<Object, List<Object>> contentByOwner = new HashMap<>();
+		for ( Object ownerId : batch.keySet() ) {
+			contentByOwner.put( ownerId, new ArrayList<>() );
+		}
+		final List<?> rows = list(
+				batchQueryGenerator.getBatchQuery( session, new ArrayList<>( batch.keySet() ), revision, removed )
+		);
+		for ( Object row : rows ) {
+			final List<Object> content = contentByOwner.get( batchQueryGenerator.getReferencingId( row ) );
+			if ( content != null ) {
+				content.add( row );
+			}
+		}
+
+		for ( Map.Entry<Object, AbstractCollectionInitializor<?>> entry : batch.entrySet() ) {
+			if ( entry.getValue() != this ) {
+				entry.getValue().batchContent = contentByOwner.get( entry.getKey() );
+			}
+		}
+		return contentByOwner.get( primaryKey );
+	}
 }
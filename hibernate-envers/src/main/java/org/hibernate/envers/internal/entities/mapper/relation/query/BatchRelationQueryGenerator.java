@@ -0,0 +1,35 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.entities.mapper.relation.query;
+
+import java.util.List;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.Query;
+
+/**
+ * A {@link RelationQueryGenerator} which can also generate a query fetching the relation of several owning
+ * objects at once.
+ */
+public interface BatchRelationQueryGenerator extends RelationQueryGenerator {
+	/**
+	 * Return the query to fetch the relation of several owning objects at once.
+	 *
+	 * @param session The session.
+	 * @param primaryKeys The primary keys of the owning objects.
+	 * @param revision The revision to be fetched.
+	 * @param removed Whether to return a query that includes the removed audit rows.
+	 */
+	Query getBatchQuery(SharedSessionContractImplementor session, List<Object> primaryKeys, Number revision, boolean removed);
+
+	/**
+	 * Return the primary key of the owning object of a row returned by the batch query.
+	 *
+	 * @param row A row returned by the batch query.
+	 */
+	Object getReferencingId(Object row);
+}
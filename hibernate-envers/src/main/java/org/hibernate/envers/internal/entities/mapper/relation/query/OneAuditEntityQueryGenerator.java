@@ -6,7 +6,13 @@
  */
 package org.hibernate.envers.internal.entities.mapper.relation.query;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.envers.RevisionType;
 import org.hibernate.envers.configuration.internal.AuditEntitiesConfiguration;
 import org.hibernate.envers.configuration.internal.GlobalConfiguration;
 import org.hibernate.envers.internal.entities.mapper.id.AbstractCompositeIdMapper;
@@ -16,6 +22,7 @@ import org.hibernate.envers.internal.tools.query.Parameters;
 import org.hibernate.envers.internal.tools.query.QueryBuilder;
 import org.hibernate.envers.strategy.AuditStrategy;
 import org.hibernate.internal.util.StringHelper;
+import org.hibernate.query.Query;
 
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.DEL_REVISION_TYPE_PARAMETER;
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REFERENCED_ENTITY_ALIAS;
@@ -29,7 +36,8 @@ import static org.hibernate.envers.internal.entities.mapper.relation.query.Query
  * @author Lukasz Antoniak (lukasz dot antoniak at gmail dot com)
  * @author Chris Cranford
  */
-public final class OneAuditEntityQueryGenerator extends AbstractRelationQueryGenerator {
+public final class OneAuditEntityQueryGenerator extends AbstractRelationQueryGenerator
+		implements BatchRelationQueryGenerator {
 	private final String mappedBy;
 	private final boolean multipleIdMapperKey;
 	private final MiddleIdData referencedIdData;
@@ -105,12 +113,71 @@ public final class OneAuditEntityQueryGenerator extends AbstractRelationQueryGen
 			referencingIdData.getPrefixedMapper().addNamedIdEqualsToQuery( qb.getRootParameters(), null, true );
 		}
 
+		addOrderBy( qb );
+
+		return qb;
+	}
+
+	@Override
+	public Query getBatchQuery(
+			SharedSessionContractImplementor session,
+			List<Object> primaryKeys,
+			Number revision,
+			boolean removed) {
+		// SELECT e FROM versionsEntity e
+		final QueryBuilder qb = new QueryBuilder( entityName, REFERENCED_ENTITY_ALIAS, session.getFactory() );
+		qb.addProjection( null, REFERENCED_ENTITY_ALIAS, null, false );
+		// WHERE
+		// (e.id_ref_ed = :id_ref_ed_1 OR e.id_ref_ed = :id_ref_ed_2 ...)
+		final IdMapper mapper = multipleIdMapperKey
+				? getMultipleIdPrefixedMapper()
+				: referencingIdData.getPrefixedMapper();
+		final Parameters owners = qb.getRootParameters().addSubParameters( "or" );
+		for ( Object primaryKey : primaryKeys ) {
+			mapper.addIdEqualsToQuery( owners, primaryKey, null, null, true );
+		}
+
+		if ( removed ) {
+			applyValidAndRemovePredicates( qb );
+		}
+		else {
+			applyValidPredicates( qb, qb.getRootParameters(), true );
+		}
+
+		addOrderBy( qb );
+
+		final StringBuilder sb = new StringBuilder();
+		final Map<String, Object> queryParamValues = new HashMap<>();
+		qb.build( sb, queryParamValues );
+
+		final Query query = session.createQuery( sb.toString() );
+		query.setParameter( DEL_REVISION_TYPE_PARAMETER, RevisionType.DEL );
+		query.setParameter( REVISION_PARAMETER, revision );
+		for ( Map.Entry<String, Object> paramValue : queryParamValues.entrySet() ) {
+			query.setParameter( paramValue.getKey(), paramValue.getValue() );
+		}
+
+		return query;
+	}
+
+	@Override
+	public Object getReferencingId(Object row) {
+		if ( multipleIdMapperKey ) {
+			// e.originalId.id_ref_ed holds the referencing entity, or its identifier properties
+			final Map originalId = (Map) ( (Map) row ).get( verEntCfg.getOriginalIdPropName() );
+			final Object referencing = originalId.get( mappedBy );
+			return referencing instanceof Map
+					? referencingIdData.getOriginalMapper().mapToIdFromMap( (Map) referencing )
+					: referencingIdData.getOriginalMapper().mapToIdFromEntity( referencing );
+		}
+		return referencingIdData.getPrefixedMapper().mapToIdFromMap( (Map) row );
+	}
+
+	private void addOrderBy(QueryBuilder qb) {
 		// ORDER BY
 		if ( !StringHelper.isEmpty( orderBy ) ) {
 			qb.addOrderFragment( REFERENCED_ENTITY_ALIAS, orderBy );
 		}
-
-		return qb;
 	}
 
 	@Override
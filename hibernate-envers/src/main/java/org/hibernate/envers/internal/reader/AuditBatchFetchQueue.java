@@ -0,0 +1,164 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.reader;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.hibernate.envers.internal.entities.mapper.relation.lazy.initializor.AbstractCollectionInitializor;
+
+/**
+ * Tracks the lazy relations of the historical entities read by an audit reader which have not been initialized
+ * yet, so that they can be loaded in batches; the counterpart of {@link org.hibernate.engine.spi.BatchFetchQueue}
+ * for audit readers.
+ * <p>
+ * Relations are grouped by the revision at which they are read, as only relations read at the same revision
+ * can be loaded by the same query: *-to-one relations by the referenced entity name, collections by the
+ * object generating the query of the collection role.
+ */
+public class AuditBatchFetchQueue {
+	private final Map<BatchKey, Set<Object>> entityIds = new HashMap<>();
+	private final Map<BatchKey, Map<Object, AbstractCollectionInitializor<?>>> collectionOwners = new HashMap<>();
+
+	/**
+	 * Register the identifier of an entity referenced by an uninitialized *-to-one relation.
+	 *
+	 * @param entityName Name of the referenced entity.
+	 * @param revision Revision at which the entity is read.
+	 * @param removed Whether deleted entities are read as well.
+	 * @param id Identifier of the referenced entity.
+	 */
+	public void addEntity(String entityName, Number revision, boolean removed, Object id) {
+		entityIds.computeIfAbsent( new BatchKey( entityName, revision, removed ), k -> new LinkedHashSet<>() ).add( id );
+	}
+
+	/**
+	 * Remove a batch of identifiers of entities to be read at the same revision, starting with the given one.
+	 *
+	 * @param entityName Name of the entity.
+	 * @param revision Revision at which the entity is read.
+	 * @param removed Whether deleted entities are read as well.
+	 * @param id Identifier of the entity being loaded.
+	 * @param batchSize The maximum number of identifiers.
+	 *
+	 * @return The identifiers to load.
+	 */
+	public List<Object> removeEntityBatch(String entityName, Number revision, boolean removed, Object id, int batchSize) {
+		final List<Object> batch = new ArrayList<>( batchSize );
+		batch.add( id );
+
+		final BatchKey key = new BatchKey( entityName, revision, removed );
+		final Set<Object> pending = entityIds.get( key );
+		if ( pending != null ) {
+			pending.remove( id );
+			final Iterator<Object> iterator = pending.iterator();
+			while ( batch.size() < batchSize && iterator.hasNext() ) {
+				batch.add( iterator.next() );
+				iterator.remove();
+			}
+			if ( pending.isEmpty() ) {
+				entityIds.remove( key );
+			}
+		}
+		return batch;
+	}
+
+	/**
+	 * Register an uninitialized collection.
+	 *
+	 * @param role The object generating the query of the collection role.
+	 * @param revision Revision at which the collection is read.
+	 * @param removed Whether deleted elements are read as well.
+	 * @param ownerId Identifier of the entity owning the collection.
+	 * @param initializor The initializor of the collection.
+	 */
+	public void addCollection(
+			Object role,
+			Number revision,
+			boolean removed,
+			Object ownerId,
+			AbstractCollectionInitializor<?> initializor) {
+		collectionOwners.computeIfAbsent( new BatchKey( role, revision, removed ), k -> new LinkedHashMap<>() )
+				.put( ownerId, initializor );
+	}
+
+	/**
+	 * Remove a batch of uninitialized collections of the same role, read at the same revision, starting with the
+	 * given one.
+	 *
+	 * @param role The object generating the query of the collection role.
+	 * @param revision Revision at which the collection is read.
+	 * @param removed Whether deleted elements are read as well.
+	 * @param ownerId Identifier of the entity owning the collection being initialized.
+	 * @param initializor The initializor of the collection being initialized.
+	 * @param batchSize The maximum number of collections.
+	 *
+	 * @return The initializors of the collections to initialize, by owner identifier.
+	 */
+	public Map<Object, AbstractCollectionInitializor<?>> removeCollectionBatch(
+			Object role,
+			Number revision,
+			boolean removed,
+			Object ownerId,
+			AbstractCollectionInitializor<?> initializor,
+			int batchSize) {
+		final Map<Object, AbstractCollectionInitializor<?>> batch = new LinkedHashMap<>();
+		batch.put( ownerId, initializor );
+
+		final BatchKey key = new BatchKey( role, revision, removed );
+		final Map<Object, AbstractCollectionInitializor<?>> pending = collectionOwners.get( key );
+		if ( pending != null ) {
+			pending.remove( ownerId );
+			final Iterator<Map.Entry<Object, AbstractCollectionInitializor<?>>> iterator = pending.entrySet().iterator();
+			while ( batch.size() < batchSize && iterator.hasNext() ) {
+				final Map.Entry<Object, AbstractCollectionInitializor<?>> entry = iterator.next();
+				batch.put( entry.getKey(), entry.getValue() );
+				iterator.remove();
+			}
+			if ( pending.isEmpty() ) {
+				collectionOwners.remove( key );
+			}
+		}
+		return batch;
+	}
+
+	private static class BatchKey {
+		private final Object name;
+		private final Number revision;
+		private final boolean removed;
+
+		private BatchKey(Object name, Number revision, boolean removed) {
+			this.name = name;
+			this.revision = revision;
+			this.removed = removed;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			final BatchKey that = (BatchKey) o;
+			return removed == that.removed && name.equals( that.name ) && revision.equals( that.revision );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( name, revision, removed );
+		}
+	}
+}
@@ -12,6 +12,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import javax.persistence.NoResultException;
 
@@ -20,10 +21,13 @@ import org.hibernate.NonUniqueResultException;
 import org.hibernate.Session;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.envers.CrossTypeRevisionChangesReader;
+import org.hibernate.envers.RevisionType;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.exception.AuditException;
 import org.hibernate.envers.exception.NotAuditedException;
 import org.hibernate.envers.exception.RevisionDoesNotExistException;
+import org.hibernate.envers.internal.entities.EntityInstantiator;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
 import org.hibernate.envers.internal.synchronization.AuditProcess;
 import org.hibernate.envers.query.AuditEntity;
 import org.hibernate.envers.query.AuditQueryCreator;
@@ -46,6 +50,8 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 	private final SessionImplementor sessionImplementor;
 	private final Session session;
 	private final FirstLevelCache firstLevelCache;
+	private final AuditBatchFetchQueue batchFetchQueue;
+	private final Map<Number, Date> revisionEndTimestampLowerBounds = new HashMap<>();
 	private final CrossTypeRevisionChangesReader crossTypeRevisionChangesReader;
 
 	public AuditReaderImpl(
@@ -57,6 +63,7 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		this.session = session;
 
 		firstLevelCache = new FirstLevelCache();
+		batchFetchQueue = new AuditBatchFetchQueue();
 		crossTypeRevisionChangesReader = new CrossTypeRevisionChangesReaderImpl( this, enversService );
 	}
 
@@ -81,6 +88,31 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		return firstLevelCache;
 	}
 
+	@Override
+	public AuditBatchFetchQueue getBatchFetchQueue() {
+		return batchFetchQueue;
+	}
+
+	@Override
+	public Date getRevisionEndTimestampLowerBound(Number revision) {
+		return revisionEndTimestampLowerBounds.computeIfAbsent( revision, this::readRevisionEndTimestampLowerBound );
+	}
+
+	private Date readRevisionEndTimestampLowerBound(Number revision) {
+		// The revisions following the given one have timestamps not lower than the latest revision up to it; the
+		// margin absorbs the precision lost by databases storing the end revision timestamps in whole seconds.
+		final Object timestampObject = enversService.getRevisionInfoQueryCreator()
+				.getRevisionTimestampUpToQuery( session, revision )
+				.uniqueResult();
+		if ( timestampObject == null ) {
+			return new Date( 0 );
+		}
+		final long timestamp = timestampObject instanceof Date
+				? ( (Date) timestampObject ).getTime()
+				: (Long) timestampObject;
+		return new Date( timestamp - TimeUnit.SECONDS.toMillis( 1 ) );
+	}
+
 	@Override
 	public <T> T find(Class<T> cls, Object primaryKey, Number revision) throws
 			IllegalArgumentException, NotAuditedException, IllegalStateException {
@@ -114,6 +146,22 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 			return (T) firstLevelCache.get( entityName, revision, primaryKey );
 		}
 
+		final HistoricalEntityCache historicalEntityCache = enversService.getHistoricalEntityCache();
+		if ( historicalEntityCache != null
+				&& !enversService.getGlobalConfiguration().isAuditReaderFindAtRevisionExactMatch() ) {
+			final Map versionsEntity = historicalEntityCache.get( entityName, revision, primaryKey, sessionImplementor );
+			if ( versionsEntity != null ) {
+				final Object revisionType = versionsEntity.get(
+						enversService.getAuditEntitiesConfiguration().getRevisionTypePropName()
+				);
+				if ( !includeDeletions && RevisionType.DEL.equals( revisionType ) ) {
+					return null;
+				}
+				return (T) new EntityInstantiator( enversService, this )
+						.createInstanceFromVersionsEntity( entityName, versionsEntity, revision, false );
+			}
+		}
+
 		Object result;
 		try {
 			// The result is put into the cache by the entity instantiator called from the query
@@ -261,6 +309,15 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		}
 	}
 
+	@Override
+	public boolean awaitAuditOutbox(long timeout, TimeUnit unit) {
+		checkNotNull( unit, "Time unit" );
+		checkSession();
+
+		final AuditOutbox auditOutbox = enversService.getAuditOutbox();
+		return auditOutbox == null || auditOutbox.drain( sessionImplementor.getFactory(), timeout, unit );
+	}
+
 	@Override
 	public CrossTypeRevisionChangesReader getCrossTypeRevisionChangesReader() throws AuditException {
 		if ( !enversService.getGlobalConfiguration().isTrackEntitiesChangedInRevision() ) {
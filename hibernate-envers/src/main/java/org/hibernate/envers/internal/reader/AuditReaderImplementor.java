@@ -6,6 +6,8 @@
  */
 package org.hibernate.envers.internal.reader;
 
+import java.util.Date;
+
 import org.hibernate.Session;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.envers.AuditReader;
@@ -21,4 +23,16 @@ public interface AuditReaderImplementor extends AuditReader {
 	Session getSession();
 
 	FirstLevelCache getFirstLevelCache();
+
+	AuditBatchFetchQueue getBatchFetchQueue();
+
+	/**
+	 * @param revision Revision at which entities are read.
+	 *
+	 * @return A lower bound of the timestamps of the revisions following the given one, used to restrict the end
+	 * revision timestamps of the audit rows valid at that revision.
+	 *
+	 * @see org.hibernate.envers.configuration.EnversSettings#AUDIT_STRATEGY_VALIDITY_REVEND_TIMESTAMP_PRUNING
+	 */
+	Date getRevisionEndTimestampLowerBound(Number revision);
 }
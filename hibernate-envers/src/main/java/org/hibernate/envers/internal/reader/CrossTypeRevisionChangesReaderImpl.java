@@ -20,6 +20,7 @@ import org.hibernate.envers.CrossTypeRevisionChangesReader;
 import org.hibernate.envers.RevisionType;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.internal.tools.EntityTools;
+import org.hibernate.envers.query.AuditEntity;
 import org.hibernate.envers.query.criteria.internal.RevisionTypeAuditExpression;
 import org.hibernate.envers.tools.Pair;
 import org.hibernate.query.Query;
@@ -86,12 +87,16 @@ public class CrossTypeRevisionChangesReaderImpl implements CrossTypeRevisionChan
 		final Map<RevisionType, List<Object>> result = new HashMap<>();
 		for ( RevisionType revisionType : RevisionType.values() ) {
 			result.put( revisionType, new ArrayList<>() );
-			for ( Pair<String, Class> type : entityTypes ) {
-				final List<Object> list = auditReaderImplementor.createQuery()
-						.forEntitiesModifiedAtRevision( type.getSecond(), type.getFirst(), revision )
-						.add( new RevisionTypeAuditExpression( null, revisionType, "=" ) )
-						.getResultList();
-				result.get( revisionType ).addAll( list );
+		}
+		for ( Pair<String, Class> type : entityTypes ) {
+			// Selecting the revision type along with the entity reads all changes of a type in a single query.
+			final List<Object[]> list = auditReaderImplementor.createQuery()
+					.forEntitiesModifiedAtRevision( type.getSecond(), type.getFirst(), revision )
+					.addProjection( AuditEntity.selectEntity( false ) )
+					.addProjection( AuditEntity.revisionType() )
+					.getResultList();
+			for ( Object[] row : list ) {
+				result.get( (RevisionType) row[1] ).add( row[0] );
 			}
 		}
 		return result;
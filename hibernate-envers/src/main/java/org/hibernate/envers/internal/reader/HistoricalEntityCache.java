@@ -0,0 +1,262 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.reader;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.cache.internal.NoCachingRegionFactory;
+import org.hibernate.cache.spi.DirectAccessRegion;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.internal.AuditEntitiesConfiguration;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.tuple.DynamicMapInstantiator;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+import org.jboss.logging.Logger;
+
+/**
+ * A cache of audit rows shared by all audit readers of a SessionFactory, backed by a region of the configured
+ * second-level cache {@link RegionFactory}.
+ * <p>
+ * An entry holds the audit row from which the entity valid at a revision is instantiated, keyed by (entity
+ * name, revision, identifier) like the {@link FirstLevelCache}.  Rows are only cached under their own revision:
+ * the row found for a later revision may be superseded by a revision with a lower number committed afterwards.
+ * As the row of a revision is immutable, entries are never invalidated.
+ * <p>
+ * The rows are cached in disassembled form: every value is deep copied by its type, and the revision entity
+ * references (which belong to the session which read the row) are left out.  Audit entities holding other
+ * associations (e.g. an {@link javax.persistence.IdClass} with a relation) are not cached.
+ */
+public class HistoricalEntityCache {
+	private static final Logger log = Logger.getLogger( HistoricalEntityCache.class );
+
+	private final EnversService enversService;
+	private final String regionName;
+
+	private final ConcurrentMap<String, Boolean> cacheableAuditEntities = new ConcurrentHashMap<>();
+
+	private volatile DirectAccessRegion region;
+
+	public HistoricalEntityCache(EnversService enversService, String regionName) {
+		this.enversService = enversService;
+		this.regionName = regionName;
+	}
+
+	/**
+	 * Build the cache region.
+	 *
+	 * @param sessionFactory The SessionFactory.
+	 */
+	public synchronized void start(SessionFactoryImplementor sessionFactory) {
+		if ( region != null ) {
+			return;
+		}
+
+		final RegionFactory regionFactory = sessionFactory.getCache().getRegionFactory();
+		if ( regionFactory instanceof NoCachingRegionFactory ) {
+			log.warnf(
+					"The Envers historical entity cache is enabled, but no second-level cache region factory is " +
+							"configured; historical entities will not be cached"
+			);
+			return;
+		}
+		region = regionFactory.buildQueryResultsRegion( regionName, sessionFactory );
+	}
+
+	/**
+	 * Release the cache region.
+	 */
+	public synchronized void stop() {
+		if ( region != null ) {
+			region.destroy();
+			region = null;
+		}
+	}
+
+	/**
+	 * @param entityName Name of the entity.
+	 * @param revision Revision at which the entity was read.
+	 * @param id Identifier of the entity.
+	 * @param session The session of the reader.
+	 *
+	 * @return A copy of the cached audit row, or {@code null} if none is cached.
+	 */
+	public Map get(String entityName, Number revision, Object id, SharedSessionContractImplementor session) {
+		final DirectAccessRegion region = this.region;
+		if ( region == null || revision == null ) {
+			return null;
+		}
+
+		final Map cached = (Map) region.getFromCache( new CacheKey( entityName, revision, id ), session );
+		if ( cached == null ) {
+			return null;
+		}
+		return copy( cached, persister( cached, session ), session.getFactory() );
+	}
+
+	/**
+	 * Cache the audit row from which the entity valid at a revision is instantiated, if it is the row of that
+	 * revision.
+	 *
+	 * @param entityName Name of the entity.
+	 * @param revision Revision at which the entity was read.
+	 * @param id Identifier of the entity.
+	 * @param versionsEntity The audit row.
+	 * @param session The session of the reader.
+	 */
+	public void put(
+			String entityName,
+			Number revision,
+			Object id,
+			Map versionsEntity,
+			SharedSessionContractImplementor session) {
+		final DirectAccessRegion region = this.region;
+		if ( region == null || revision == null ) {
+			return;
+		}
+
+		final Number rowRevision = revisionNumber( versionsEntity );
+		if ( rowRevision == null || rowRevision.longValue() != revision.longValue() ) {
+			return;
+		}
+
+		final EntityPersister persister = persister( versionsEntity, session );
+		if ( isCacheable( persister ) ) {
+			region.putIntoCache(
+					new CacheKey( entityName, revision, id ),
+					copy( versionsEntity, persister, session.getFactory() ),
+					session
+			);
+		}
+	}
+
+	private Number revisionNumber(Map versionsEntity) {
+		final AuditEntitiesConfiguration auditEntitiesConfiguration = enversService.getAuditEntitiesConfiguration();
+		final Object revisionInfoObject = ( (Map) versionsEntity.get( auditEntitiesConfiguration.getOriginalIdPropName() ) )
+				.get( auditEntitiesConfiguration.getRevisionFieldName() );
+
+		if ( revisionInfoObject instanceof HibernateProxy ) {
+			return (Number) ( (HibernateProxy) revisionInfoObject ).getHibernateLazyInitializer().getIdentifier();
+		}
+		return enversService.getRevisionInfoNumberReader().getRevisionNumber( revisionInfoObject );
+	}
+
+	private EntityPersister persister(Map versionsEntity, SharedSessionContractImplementor session) {
+		// the audit entity name is held by the dynamic-map entity itself
+		return session.getFactory()
+				.getMetamodel()
+				.entityPersister( (String) versionsEntity.get( DynamicMapInstantiator.KEY ) );
+	}
+
+	private boolean isCacheable(EntityPersister persister) {
+		return cacheableAuditEntities.computeIfAbsent(
+				persister.getEntityName(),
+				entityName -> {
+					final CompositeType idType = (CompositeType) persister.getIdentifierType();
+					final String[] idPropertyNames = idType.getPropertyNames();
+					final Type[] idPropertyTypes = idType.getSubtypes();
+					for ( int i = 0; i < idPropertyNames.length; i++ ) {
+						if ( !isRevisionProperty( idPropertyNames[i] ) && idPropertyTypes[i].isAssociationType() ) {
+							return false;
+						}
+					}
+
+					final String[] propertyNames = persister.getPropertyNames();
+					final Type[] propertyTypes = persister.getPropertyTypes();
+					for ( int i = 0; i < propertyNames.length; i++ ) {
+						if ( !isRevisionProperty( propertyNames[i] ) && propertyTypes[i].isAssociationType() ) {
+							return false;
+						}
+					}
+					return true;
+				}
+		);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map copy(Map versionsEntity, EntityPersister persister, SessionFactoryImplementor factory) {
+		final Map<String, Object> copy = new HashMap<>();
+		copy.put( DynamicMapInstantiator.KEY, versionsEntity.get( DynamicMapInstantiator.KEY ) );
+
+		final String idPropertyName = persister.getIdentifierPropertyName();
+		final Map originalId = (Map) versionsEntity.get( idPropertyName );
+		final Map<String, Object> originalIdCopy = new HashMap<>();
+		final CompositeType idType = (CompositeType) persister.getIdentifierType();
+		final String[] idPropertyNames = idType.getPropertyNames();
+		final Type[] idPropertyTypes = idType.getSubtypes();
+		for ( int i = 0; i < idPropertyNames.length; i++ ) {
+			if ( !isRevisionProperty( idPropertyNames[i] ) ) {
+				originalIdCopy.put(
+						idPropertyNames[i],
+						idPropertyTypes[i].deepCopy( originalId.get( idPropertyNames[i] ), factory )
+				);
+			}
+		}
+		copy.put( idPropertyName, originalIdCopy );
+
+		final String[] propertyNames = persister.getPropertyNames();
+		final Type[] propertyTypes = persister.getPropertyTypes();
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			if ( !isRevisionProperty( propertyNames[i] ) ) {
+				copy.put( propertyNames[i], propertyTypes[i].deepCopy( versionsEntity.get( propertyNames[i] ), factory ) );
+			}
+		}
+
+		return copy;
+	}
+
+	private boolean isRevisionProperty(String propertyName) {
+		// references to the revision entity, and the end revision data which is updated by later revisions
+		final AuditEntitiesConfiguration auditEntitiesConfiguration = enversService.getAuditEntitiesConfiguration();
+		return propertyName.equals( auditEntitiesConfiguration.getRevisionFieldName() )
+				|| propertyName.equals( auditEntitiesConfiguration.getRevisionEndFieldName() )
+				|| propertyName.equals( auditEntitiesConfiguration.getRevisionEndTimestampFieldName() );
+	}
+
+	private static class CacheKey implements Serializable {
+		private final String entityName;
+		private final long revision;
+		private final Object id;
+
+		private CacheKey(String entityName, Number revision, Object id) {
+			this.entityName = entityName;
+			this.revision = revision.longValue();
+			this.id = id;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			final CacheKey that = (CacheKey) o;
+			return revision == that.revision && entityName.equals( that.entityName ) && id.equals( that.id );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( entityName, revision, id );
+		}
+
+		@Override
+		public String toString() {
+			return "HistoricalEntityCache.CacheKey(" + entityName + ", " + revision + ", " + id + ")";
+		}
+	}
+}
@@ -29,6 +29,7 @@ import org.hibernate.service.ServiceRegistry;
 public class DefaultTrackingModifiedEntitiesRevisionInfoGenerator extends DefaultRevisionInfoGenerator {
 	private final Setter modifiedEntityNamesSetter;
 	private final Getter modifiedEntityNamesGetter;
+	private final boolean compactModifiedEntityNames;
 
 	public DefaultTrackingModifiedEntitiesRevisionInfoGenerator(
 			String revisionInfoEntityName,
@@ -41,6 +42,7 @@ public class DefaultTrackingModifiedEntitiesRevisionInfoGenerator extends Defaul
 		super( revisionInfoEntityName, revisionInfoClass, listenerClass, revisionInfoTimestampData, timestampAsDate, serviceRegistry );
 		modifiedEntityNamesSetter = ReflectionTools.getSetter( revisionInfoClass, modifiedEntityNamesData, serviceRegistry );
 		modifiedEntityNamesGetter = ReflectionTools.getGetter( revisionInfoClass, modifiedEntityNamesData, serviceRegistry );
+		compactModifiedEntityNames = String.class.equals( modifiedEntityNamesGetter.getReturnType() );
 	}
 
 	@Override
@@ -52,6 +54,19 @@ public class DefaultTrackingModifiedEntitiesRevisionInfoGenerator extends Defaul
 			RevisionType revisionType,
 			Object revisionEntity) {
 		super.entityChanged( entityClass, entityName, entityId, revisionType, revisionEntity );
+		if ( compactModifiedEntityNames ) {
+			final String modifiedEntityNames = (String) modifiedEntityNamesGetter.get( revisionEntity );
+			if ( !ModifiedEntityNamesReader.splitEntityNames( modifiedEntityNames ).contains( entityName ) ) {
+				modifiedEntityNamesSetter.set(
+						revisionEntity,
+						modifiedEntityNames == null || modifiedEntityNames.isEmpty()
+								? entityName
+								: modifiedEntityNames + ModifiedEntityNamesReader.ENTITY_NAMES_SEPARATOR + entityName,
+						null
+				);
+			}
+			return;
+		}
 		Set<String> modifiedEntityNames = (Set<String>) modifiedEntityNamesGetter.get( revisionEntity );
 		if ( modifiedEntityNames == null ) {
 			modifiedEntityNames = new HashSet<>();
@@ -6,6 +6,8 @@
  */
 package org.hibernate.envers.internal.revisioninfo;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Set;
 
 import org.hibernate.envers.internal.entities.PropertyData;
@@ -14,11 +16,15 @@ import org.hibernate.property.access.spi.Getter;
 import org.hibernate.service.ServiceRegistry;
 
 /**
- * Returns modified entity names from a persisted revision info entity.
+ * Returns modified entity names from a persisted revision info entity. The names are either held by a
+ * <code>{@literal Set<String>}</code> property, or by a compact {@code String} property listing the names
+ * separated by {@value #ENTITY_NAMES_SEPARATOR}.
  *
  * @author Lukasz Antoniak (lukasz dot antoniak at gmail dot com)
  */
 public class ModifiedEntityNamesReader {
+	public static final String ENTITY_NAMES_SEPARATOR = ",";
+
 	private final Getter modifiedEntityNamesGetter;
 
 	public ModifiedEntityNamesReader(
@@ -30,6 +36,22 @@ public class ModifiedEntityNamesReader {
 
 	@SuppressWarnings({"unchecked"})
 	public Set<String> getModifiedEntityNames(Object revisionEntity) {
-		return (Set<String>) modifiedEntityNamesGetter.get( revisionEntity );
+		final Object modifiedEntityNames = modifiedEntityNamesGetter.get( revisionEntity );
+		if ( modifiedEntityNames instanceof String ) {
+			return splitEntityNames( (String) modifiedEntityNames );
+		}
+		return (Set<String>) modifiedEntityNames;
+	}
+
+	/**
+	 * @param entityNames Entity names separated by {@value #ENTITY_NAMES_SEPARATOR}, may be null.
+	 *
+	 * @return The set of entity names.
+	 */
+	public static Set<String> splitEntityNames(String entityNames) {
+		if ( entityNames == null || entityNames.isEmpty() ) {
+			return new HashSet<>();
+		}
+		return new HashSet<>( Arrays.asList( entityNames.split( ENTITY_NAMES_SEPARATOR ) ) );
 	}
 }
@@ -22,6 +22,7 @@ public class RevisionInfoQueryCreator {
 	private static final String REVISION_DATE_QUERY_PARAMETER = "revision";
 	private static final String REVISION_NUMBER_FOR_DATE_QUERY = "SELECT MAX(%s) FROM %s WHERE %s <= :date";
 	private static final String REVISION_NUMBER_FOR_DATE_QUERY_PARAMETER = "date";
+	private static final String REVISION_TIMESTAMP_UP_TO_QUERY = "SELECT MAX(%s) FROM %s WHERE %s <= :revision";
 	private static final String REVISIONS_QUERY = "FROM %s WHERE %s IN (:revisions)";
 	private static final String REVISIONS_QUERY_PARAMETER = "revisions";
 
@@ -61,6 +62,17 @@ public class RevisionInfoQueryCreator {
 		).setParameter( REVISION_NUMBER_FOR_DATE_QUERY_PARAMETER, timestampAsDate ? date : date.getTime() );
 	}
 
+	public Query<?> getRevisionTimestampUpToQuery(Session session, Number revision) {
+		return session.createQuery(
+				String.format(
+						REVISION_TIMESTAMP_UP_TO_QUERY,
+						revisionInfoTimestampName,
+						revisionInfoEntityName,
+						revisionInfoIdName
+				)
+		).setParameter( REVISION_DATE_QUERY_PARAMETER, revision );
+	}
+
 	public Query<?> getRevisionsQuery(Session session, Set<Number> revisions) {
 		return session.createQuery(
 				String.format( REVISIONS_QUERY, revisionInfoEntityName, revisionInfoIdName )
@@ -0,0 +1,89 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.io.Serializable;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.envers.configuration.internal.AuditEntitiesConfiguration;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Writes new rows of the audit tables.
+ * <p>
+ * By default the audit data is saved into the persistence context of the audited session and evicted after
+ * the transaction completes.  When direct inserts are enabled, the row is instead inserted right away through
+ * the insert statement of the audit entity persister, much like a {@link org.hibernate.StatelessSession} does:
+ * no entity entry is created, the row takes no part in dirty checking, and the statements are batched with
+ * the other inserts into the same audit table.  Queries do not execute the pending statements.  They are
+ * executed when the session prepares another insert, update or delete statement, at the end of a flush, by
+ * {@link AuditProcess} once all work units are performed, and by {@link #executePendingInserts} before the
+ * audit strategy queries the audit tables.
+ */
+public class AuditDataInserter {
+	private final SessionCacheCleaner sessionCacheCleaner;
+
+	public AuditDataInserter() {
+		sessionCacheCleaner = new SessionCacheCleaner();
+	}
+
+	/**
+	 * Insert a new row into an audit table.
+	 *
+	 * @param session Active Hibernate session.
+	 * @param auditEntityName Name of the audit entity.
+	 * @param data The audit data.
+	 * @param auditEntitiesConfiguration The audit entities configuration.
+	 */
+	public void insert(
+			Session session,
+			String auditEntityName,
+			Object data,
+			AuditEntitiesConfiguration auditEntitiesConfiguration) {
+		final SharedSessionContractImplementor sessionImplementor = (SharedSessionContractImplementor) session;
+		if ( auditEntitiesConfiguration.getEnversService().getGlobalConfiguration().isUseDirectAuditInserts() ) {
+			final EntityPersister persister = sessionImplementor.getFactory()
+					.getMetamodel()
+					.entityPersister( auditEntityName );
+			if ( isDirectInsertSupported( persister ) ) {
+				// the revision entity (referenced by the audit row) may still be queued for insertion
+				( (EventSource) session ).getActionQueue().executeInserts();
+
+				final Serializable id = persister.getIdentifier( data, sessionImplementor );
+				persister.insert( id, persister.getPropertyValues( data ), data, sessionImplementor );
+				return;
+			}
+		}
+
+		session.save( auditEntityName, data );
+		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
+	}
+
+	/**
+	 * Execute the directly inserted rows still pending in a JDBC batch, so that queries of the audit tables
+	 * see them.  Does nothing unless direct inserts are enabled.
+	 *
+	 * @param session Active Hibernate session.
+	 * @param auditEntitiesConfiguration The audit entities configuration.
+	 */
+	public void executePendingInserts(Session session, AuditEntitiesConfiguration auditEntitiesConfiguration) {
+		if ( auditEntitiesConfiguration.getEnversService().getGlobalConfiguration().isUseDirectAuditInserts() ) {
+			( (SharedSessionContractImplementor) session ).getJdbcCoordinator().executeBatch();
+		}
+	}
+
+	private static boolean isDirectInsertSupported(EntityPersister persister) {
+		// audit entities have an assigned, composite identifier; anything needing the full save cascade
+		// (collections, versions, database generated values) goes through the session
+		return !persister.hasCollections()
+				&& !persister.isVersioned()
+				&& !persister.hasInsertGeneratedProperties()
+				&& !persister.isIdentifierAssignedByInsert();
+	}
+}
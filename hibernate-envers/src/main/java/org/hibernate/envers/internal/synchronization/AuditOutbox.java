@@ -0,0 +1,376 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.dom4j.Document;
+import org.dom4j.Element;
+import org.hibernate.LockOptions;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.internal.GlobalConfiguration;
+import org.hibernate.envers.configuration.internal.metadata.AuditTableData;
+import org.hibernate.envers.configuration.internal.metadata.MetadataTools;
+import org.hibernate.envers.internal.synchronization.work.AuditWorkUnit;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.type.SerializationException;
+import org.jboss.logging.Logger;
+
+/**
+ * Decouples writing the audit tables from the audited transactions.
+ * <p>
+ * The audit data of a transaction is captured as a list of {@link AuditOutboxOperation}s, serialized into a
+ * single row of the outbox table and written by the audited transaction itself, so no audit data is lost
+ * once that transaction commits.  A background worker (and {@link #drain}) then performs the operations,
+ * one outbox row per transaction and in revision order, and removes the row.
+ * <p>
+ * The outbox row is keyed by the revision number; as each audited transaction creates exactly one revision,
+ * this also orders the rows.
+ * <p>
+ * A row whose audit data cannot be written is retried, while the later rows wait for it, until the configured
+ * number of attempts is reached; the row is then marked as failed and kept in the outbox, and the later rows are
+ * processed.  Failed rows are retried once their failed flag is reset.
+ */
+public class AuditOutbox {
+	private static final Logger log = Logger.getLogger( AuditOutbox.class );
+
+	public static final String ENTITY_NAME = "org.hibernate.envers.AuditOutboxEntry";
+
+	private static final String REVISION_PROPERTY = "revision";
+	private static final String PAYLOAD_PROPERTY = "payload";
+	private static final String ATTEMPTS_PROPERTY = "attempts";
+	private static final String FAILED_PROPERTY = "failed";
+
+	private final EnversService enversService;
+	private final GlobalConfiguration globalConfiguration;
+	private final SessionCacheCleaner sessionCacheCleaner;
+
+	private ScheduledExecutorService executorService;
+
+	public AuditOutbox(EnversService enversService, GlobalConfiguration globalConfiguration) {
+		this.enversService = enversService;
+		this.globalConfiguration = globalConfiguration;
+		this.sessionCacheCleaner = new SessionCacheCleaner();
+	}
+
+	/**
+	 * @return The mapping of the (dynamic-map) outbox entity.
+	 */
+	public Document generateXmlMapping() {
+		final Document document = enversService.getXmlHelper().getDocumentFactory().createDocument();
+
+		final Element classMapping = MetadataTools.createEntity(
+				document,
+				new AuditTableData(
+						ENTITY_NAME,
+						globalConfiguration.getAuditOutboxTableName(),
+						globalConfiguration.getDefaultSchemaName(),
+						globalConfiguration.getDefaultCatalogName()
+				),
+				null,
+				null
+		);
+
+		final Element idMapping = classMapping.addElement( "id" );
+		idMapping.addAttribute( "name", REVISION_PROPERTY ).addAttribute( "type", "long" );
+		idMapping.addElement( "generator" ).addAttribute( "class", "assigned" );
+		MetadataTools.addColumn( idMapping, "REV", null, null, null, null, null, null, false );
+
+		final Element payloadProperty = MetadataTools.addProperty(
+				classMapping,
+				PAYLOAD_PROPERTY,
+				"materialized_blob",
+				true,
+				false
+		);
+		MetadataTools.addColumn( payloadProperty, "PAYLOAD", null, null, null, null, null, null, false );
+
+		final Element attemptsProperty = MetadataTools.addProperty(
+				classMapping,
+				ATTEMPTS_PROPERTY,
+				"integer",
+				true,
+				true,
+				false
+		);
+		MetadataTools.addColumn( attemptsProperty, "ATTEMPTS", null, null, null, null, null, null, false );
+
+		final Element failedProperty = MetadataTools.addProperty(
+				classMapping,
+				FAILED_PROPERTY,
+				"boolean",
+				true,
+				true,
+				false
+		);
+		MetadataTools.addColumn( failedProperty, "FAILED", null, null, null, null, null, null, false );
+
+		return document;
+	}
+
+	/**
+	 * Write the audit data of the given work units into the outbox, as part of the current transaction.
+	 *
+	 * @param session The session of the audited transaction.
+	 * @param revisionData The (persisted) revision entity of the transaction.
+	 * @param workUnits The work units of the transaction.
+	 *
+	 * @return {@code true} if the audit data was written into the outbox; {@code false} if the audit data
+	 * cannot be serialized, in which case the caller must perform the work units directly.
+	 */
+	public boolean write(Session session, Object revisionData, Collection<AuditWorkUnit> workUnits) {
+		final ArrayList<AuditOutboxOperation> operations = new ArrayList<>();
+		for ( AuditWorkUnit workUnit : workUnits ) {
+			operations.addAll( workUnit.toOutboxOperations( revisionData ) );
+		}
+
+		final byte[] payload;
+		try {
+			payload = SerializationHelper.serialize( new Payload( session.getIdentifier( revisionData ), operations ) );
+		}
+		catch (SerializationException e) {
+			log.debugf(
+					"Unable to serialize audit data into the audit outbox, writing audit tables directly : %s",
+					e.getMessage()
+			);
+			return false;
+		}
+
+		final Number revisionNumber = enversService.getRevisionInfoNumberReader().getRevisionNumber( revisionData );
+
+		final Map<String, Object> outboxEntry = new HashMap<>();
+		outboxEntry.put( REVISION_PROPERTY, revisionNumber.longValue() );
+		outboxEntry.put( PAYLOAD_PROPERTY, payload );
+		outboxEntry.put( ATTEMPTS_PROPERTY, 0 );
+		outboxEntry.put( FAILED_PROPERTY, false );
+		session.save( ENTITY_NAME, outboxEntry );
+		sessionCacheCleaner.scheduleAuditDataRemoval( session, outboxEntry );
+
+		return true;
+	}
+
+	/**
+	 * Start the background worker, if one is configured.
+	 *
+	 * @param sessionFactory The SessionFactory used to write the audit tables.
+	 */
+	public synchronized void start(final SessionFactoryImplementor sessionFactory) {
+		final long pollInterval = globalConfiguration.getAuditOutboxPollInterval();
+		if ( executorService != null || pollInterval <= 0 ) {
+			return;
+		}
+
+		executorService = Executors.newSingleThreadScheduledExecutor( new AuditOutboxThreadFactory() );
+		executorService.scheduleWithFixedDelay(
+				() -> processPending( sessionFactory ),
+				pollInterval,
+				pollInterval,
+				TimeUnit.MILLISECONDS
+		);
+	}
+
+	/**
+	 * Stop the background worker.  Rows remaining in the outbox are processed after the next start.
+	 */
+	public synchronized void stop() {
+		if ( executorService != null ) {
+			executorService.shutdown();
+			executorService = null;
+		}
+	}
+
+	/**
+	 * Write the audit data of all pending outbox rows to the audit tables.  Rows whose audit data cannot be
+	 * written are retried until they are marked as failed, and are then no longer pending.
+	 *
+	 * @param sessionFactory The SessionFactory used to write the audit tables.
+	 * @param timeout The maximum time to spend.
+	 * @param unit The unit of the timeout.
+	 *
+	 * @return {@code true} if the outbox is empty; {@code false} if the timeout elapsed first.
+	 */
+	public boolean drain(SessionFactoryImplementor sessionFactory, long timeout, TimeUnit unit) {
+		final long deadline = System.nanoTime() + unit.toNanos( timeout );
+		synchronized ( this ) {
+			while ( System.nanoTime() - deadline < 0 ) {
+				if ( !processNext( sessionFactory ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private synchronized void processPending(SessionFactoryImplementor sessionFactory) {
+		try {
+			int processed = 0;
+			while ( processed < globalConfiguration.getAuditOutboxBatchSize() && processNext( sessionFactory ) ) {
+				processed++;
+			}
+		}
+		catch (RuntimeException e) {
+			// the outbox could not be read, or the failure could not be recorded; retried by the next run
+			log.warn( "Unable to write audit data from the audit outbox", e );
+		}
+	}
+
+	/**
+	 * Perform the operations of the oldest outbox row and remove it, in a transaction of its own.  The rows
+	 * are not combined into larger transactions: the validity strategy relies on the revisions of an entity
+	 * being written by distinct transactions.  Rows marked as failed are skipped; if the operations fail, the
+	 * failure is recorded on the row.
+	 *
+	 * @return {@code false} if no outbox row is pending.
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean processNext(SessionFactoryImplementor sessionFactory) {
+		final Session session = sessionFactory.openSession();
+		final Transaction transaction = session.getTransaction();
+		Long revision = null;
+		try {
+			transaction.begin();
+
+			revision = (Long) session.createQuery(
+					"select min(e." + REVISION_PROPERTY + ") from " + ENTITY_NAME + " e"
+							+ " where e." + FAILED_PROPERTY + " = false"
+			).uniqueResult();
+			if ( revision == null ) {
+				transaction.commit();
+				return false;
+			}
+
+			// the row may have been processed concurrently (e.g. by another node) in the meantime
+			final Map<String, Object> outboxEntry = (Map<String, Object>) session.get(
+					ENTITY_NAME,
+					revision,
+					LockOptions.UPGRADE
+			);
+			if ( outboxEntry != null ) {
+				final Payload payload = (Payload) SerializationHelper.deserialize(
+						(byte[]) outboxEntry.get( PAYLOAD_PROPERTY )
+				);
+				final Object revisionData = session.get(
+						enversService.getAuditEntitiesConfiguration().getRevisionInfoEntityName(),
+						payload.revisionId
+				);
+				for ( AuditOutboxOperation operation : payload.operations ) {
+					operation.perform( session, enversService, revisionData );
+				}
+				session.delete( ENTITY_NAME, outboxEntry );
+			}
+
+			transaction.commit();
+			return true;
+		}
+		catch (RuntimeException e) {
+			if ( transaction.isActive() ) {
+				transaction.rollback();
+			}
+			if ( revision == null ) {
+				throw e;
+			}
+			recordFailure( sessionFactory, revision, e );
+			return true;
+		}
+		finally {
+			session.close();
+		}
+	}
+
+	/**
+	 * Count a failed attempt to write the audit data of the given outbox row, marking the row as failed once
+	 * the maximum number of attempts is reached.
+	 *
+	 * @throws RuntimeException The original failure, if the attempt cannot be recorded.
+	 */
+	@SuppressWarnings("unchecked")
+	private void recordFailure(SessionFactoryImplementor sessionFactory, Long revision, RuntimeException failure) {
+		final Session session = sessionFactory.openSession();
+		final Transaction transaction = session.getTransaction();
+		try {
+			transaction.begin();
+
+			final Map<String, Object> outboxEntry = (Map<String, Object>) session.get(
+					ENTITY_NAME,
+					revision,
+					LockOptions.UPGRADE
+			);
+			if ( outboxEntry != null ) {
+				final int attempts = (Integer) outboxEntry.get( ATTEMPTS_PROPERTY ) + 1;
+				final int maxAttempts = globalConfiguration.getAuditOutboxMaxAttempts();
+				outboxEntry.put( ATTEMPTS_PROPERTY, attempts );
+				if ( attempts >= maxAttempts ) {
+					outboxEntry.put( FAILED_PROPERTY, true );
+					log.errorf(
+							failure,
+							"Unable to write the audit data of revision %s from the audit outbox after %s attempts;"
+									+ " the outbox row is marked as failed, and later revisions are written without it",
+							revision,
+							attempts
+					);
+				}
+				else {
+					log.warnf(
+							failure,
+							"Unable to write the audit data of revision %s from the audit outbox (attempt %s of %s);"
+									+ " later revisions are blocked until it is written",
+							revision,
+							attempts,
+							maxAttempts
+					);
+				}
+			}
+
+			transaction.commit();
+		}
+		catch (RuntimeException e) {
+			if ( transaction.isActive() ) {
+				transaction.rollback();
+			}
+			failure.addSuppressed( e );
+			throw failure;
+		}
+		finally {
+			session.close();
+		}
+	}
+
+	/**
+	 * The serialized content of an outbox row.
+	 */
+	private static class Payload implements Serializable {
+		private final Serializable revisionId;
+		private final List<AuditOutboxOperation> operations;
+
+		private Payload(Serializable revisionId, List<AuditOutboxOperation> operations) {
+			this.revisionId = revisionId;
+			this.operations = operations;
+		}
+	}
+
+	private static class AuditOutboxThreadFactory implements ThreadFactory {
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate Envers Audit Outbox Thread" );
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.internal.AuditEntitiesConfiguration;
+import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
+
+/**
+ * A single call to the {@link org.hibernate.envers.strategy.AuditStrategy}, captured so that it can be
+ * serialized into the {@link AuditOutbox} and performed later in another session.
+ * <p>
+ * The revision entity is not part of the captured data; it is set again when the operation is performed.
+ */
+public class AuditOutboxOperation implements Serializable {
+	private final String entityName;
+	private final Serializable id;
+	private final String propertyName;
+	private final String collectionEntityName;
+	private final HashMap<String, Object> data;
+
+	private AuditOutboxOperation(
+			String entityName,
+			Serializable id,
+			String propertyName,
+			String collectionEntityName,
+			HashMap<String, Object> data) {
+		this.entityName = entityName;
+		this.id = id;
+		this.propertyName = propertyName;
+		this.collectionEntityName = collectionEntityName;
+		this.data = data;
+	}
+
+	/**
+	 * Captures the audit data of an entity change.
+	 *
+	 * @param entityName Name of the audited entity.
+	 * @param id Id of the audited entity.
+	 * @param data The audit data, as generated by the work unit.
+	 * @param auditEntitiesConfiguration The audit entities configuration.
+	 *
+	 * @return The operation.
+	 */
+	public static AuditOutboxOperation entityChange(
+			String entityName,
+			Serializable id,
+			Map<String, Object> data,
+			AuditEntitiesConfiguration auditEntitiesConfiguration) {
+		return new AuditOutboxOperation(
+				entityName,
+				id,
+				null,
+				null,
+				copyWithoutRevision( data, auditEntitiesConfiguration )
+		);
+	}
+
+	/**
+	 * Captures the audit data of a change to a single element of a persistent collection.
+	 *
+	 * @param entityName Name of the entity owning the collection.
+	 * @param propertyName Name of the collection property.
+	 * @param changeData The collection change data.
+	 * @param auditEntitiesConfiguration The audit entities configuration.
+	 *
+	 * @return The operation.
+	 */
+	public static AuditOutboxOperation collectionChange(
+			String entityName,
+			String propertyName,
+			PersistentCollectionChangeData changeData,
+			AuditEntitiesConfiguration auditEntitiesConfiguration) {
+		return new AuditOutboxOperation(
+				entityName,
+				null,
+				propertyName,
+				changeData.getEntityName(),
+				copyWithoutRevision( changeData.getData(), auditEntitiesConfiguration )
+		);
+	}
+
+	/**
+	 * Perform the captured audit strategy call.
+	 *
+	 * @param session The session in which the audit data is written.
+	 * @param enversService The EnversService.
+	 * @param revisionData The revision entity of the transaction which made the change.
+	 */
+	@SuppressWarnings("unchecked")
+	public void perform(Session session, EnversService enversService, Object revisionData) {
+		final AuditEntitiesConfiguration entitiesCfg = enversService.getAuditEntitiesConfiguration();
+		( (Map<String, Object>) data.get( entitiesCfg.getOriginalIdPropName() ) )
+				.put( entitiesCfg.getRevisionFieldName(), revisionData );
+
+		if ( propertyName == null ) {
+			enversService.getAuditStrategy().perform( session, entityName, enversService, id, data, revisionData );
+		}
+		else {
+			enversService.getAuditStrategy().performCollectionChange(
+					session,
+					entityName,
+					propertyName,
+					enversService,
+					new PersistentCollectionChangeData( collectionEntityName, data, null ),
+					revisionData
+			);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static HashMap<String, Object> copyWithoutRevision(
+			Map<String, Object> data,
+			AuditEntitiesConfiguration auditEntitiesConfiguration) {
+		final HashMap<String, Object> copy = new HashMap<>( data );
+		final String originalIdPropName = auditEntitiesConfiguration.getOriginalIdPropName();
+		final HashMap<String, Object> originalId = new HashMap<>( (Map<String, Object>) data.get( originalIdPropName ) );
+		originalId.remove( auditEntitiesConfiguration.getRevisionFieldName() );
+		copy.put( originalIdPropName, originalId );
+		return copy;
+	}
+}
@@ -30,6 +30,7 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private static final Logger log = Logger.getLogger( AuditProcess.class );
 
 	private final RevisionInfoGenerator revisionInfoGenerator;
+	private final AuditOutbox auditOutbox;
 	private final SessionImplementor session;
 
 	private final LinkedList<AuditWorkUnit> workUnits;
@@ -40,7 +41,15 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private Object revisionData;
 
 	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, SessionImplementor session) {
+		this( revisionInfoGenerator, null, session );
+	}
+
+	public AuditProcess(
+			RevisionInfoGenerator revisionInfoGenerator,
+			AuditOutbox auditOutbox,
+			SessionImplementor session) {
 		this.revisionInfoGenerator = revisionInfoGenerator;
+		this.auditOutbox = auditOutbox;
 		this.session = session;
 
 		workUnits = new LinkedList<>();
@@ -121,10 +130,22 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 			vwu.undo( session );
 		}
 
+		if ( auditOutbox != null && auditOutbox.write( session, currentRevisionData, workUnits ) ) {
+			// the audit tables are written later, from the outbox
+			while ( (vwu = workUnits.poll()) != null ) {
+				entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
+			}
+			return;
+		}
+
 		while ( (vwu = workUnits.poll()) != null ) {
 			vwu.perform( session, revisionData );
 			entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
 		}
+
+		// Audit rows inserted directly (bypassing the action queue) may still be pending in a JDBC batch,
+		// which a flush without queued actions would not execute.
+		( (SessionImplementor) session ).getJdbcCoordinator().executeBatch();
 	}
 
 	public Object getCurrentRevisionData(Session session, boolean persist) {
@@ -7,7 +7,9 @@
 package org.hibernate.envers.internal.synchronization.work;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.hibernate.Session;
@@ -16,6 +18,7 @@ import org.hibernate.envers.RevisionType;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.configuration.internal.AuditEntitiesConfiguration;
 import org.hibernate.envers.internal.entities.mapper.id.IdMapper;
+import org.hibernate.envers.internal.synchronization.AuditOutboxOperation;
 import org.hibernate.envers.strategy.AuditStrategy;
 
 /**
@@ -70,6 +73,18 @@ public abstract class AbstractAuditWorkUnit implements AuditWorkUnit {
 		setPerformed( data );
 	}
 
+	@Override
+	public List<AuditOutboxOperation> toOutboxOperations(Object revisionData) {
+		return Collections.singletonList(
+				AuditOutboxOperation.entityChange(
+						getEntityName(),
+						id,
+						generateData( revisionData ),
+						enversService.getAuditEntitiesConfiguration()
+				)
+		);
+	}
+
 	@Override
 	public Serializable getEntityId() {
 		return id;
@@ -7,10 +7,12 @@
 package org.hibernate.envers.internal.synchronization.work;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.Map;
 
 import org.hibernate.Session;
 import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.internal.synchronization.AuditOutboxOperation;
 
 /**
  * TODO: refactor constructors into factory methods
@@ -45,6 +47,15 @@ public interface AuditWorkUnit extends WorkUnitMergeVisitor, WorkUnitMergeDispat
 	 */
 	Map<String, Object> generateData(Object revisionData);
 
+	/**
+	 * @param revisionData The current revision data, which will be used to populate the work unit with the correct
+	 * revision relation.
+	 *
+	 * @return The audit strategy operations equivalent to {@link #perform performing} this work unit, which are
+	 * written to the {@link org.hibernate.envers.internal.synchronization.AuditOutbox} and performed later.
+	 */
+	List<AuditOutboxOperation> toOutboxOperations(Object revisionData);
+
 	/**
 	 * @return Performed modification type.
 	 */
@@ -20,6 +20,7 @@ import org.hibernate.envers.RevisionType;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.configuration.internal.AuditEntitiesConfiguration;
 import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
+import org.hibernate.envers.internal.synchronization.AuditOutboxOperation;
 
 /**
  * @author Adam Warski (adam at warski dot org)
@@ -95,6 +96,22 @@ public class PersistentCollectionChangeWorkUnit extends AbstractAuditWorkUnit im
 		}
 	}
 
+	@Override
+	public List<AuditOutboxOperation> toOutboxOperations(Object revisionData) {
+		final List<AuditOutboxOperation> operations = new ArrayList<>( collectionChanges.size() );
+		for ( PersistentCollectionChangeData persistentCollectionChangeData : collectionChanges ) {
+			operations.add(
+					AuditOutboxOperation.collectionChange(
+							getEntityName(),
+							referencingPropertyName,
+							persistentCollectionChangeData,
+							enversService.getAuditEntitiesConfiguration()
+					)
+			);
+		}
+		return operations;
+	}
+
 	public String getReferencingPropertyName() {
 		return referencingPropertyName;
 	}
@@ -72,6 +72,10 @@ public class QueryBuilder {
 	 * A list of complete projection definitions: either a sole property name, or a function(property name).
 	 */
 	private final List<String> projections;
+	/**
+	 * A list of complete group by expressions.
+	 */
+	private final List<String> groupBys;
 
 	private final List<Pair<String, String>> orderFragments;
 
@@ -104,6 +108,7 @@ public class QueryBuilder {
 		froms = new ArrayList<>();
 		orders = new ArrayList<>();
 		projections = new ArrayList<>();
+		groupBys = new ArrayList<>();
 		orderFragments = new ArrayList<>();
 
 		addFrom( entityName, alias, true );
@@ -123,6 +128,7 @@ public class QueryBuilder {
 		froms = new ArrayList<>( other.froms );
 		orders = new ArrayList<>( other.orders );
 		projections = new ArrayList<>( other.projections );
+		groupBys = new ArrayList<>( other.groupBys );
 		orderFragments = new ArrayList<>( other.orderFragments );
 	}
 
@@ -208,6 +214,10 @@ public class QueryBuilder {
 		}
 	}
 
+	public void addGroupBy(String alias, String propertyName) {
+		groupBys.add( alias == null ? propertyName : alias + "." + propertyName );
+	}
+
 	/**
 	 * Builds the given query, appending results to the given string buffer, and adding all query parameter values
 	 * that are used to the map provided.
@@ -246,6 +256,11 @@ public class QueryBuilder {
 				params.build( sb, queryParamValues );
 			}
 		}
+		// group by
+		if ( !groupBys.isEmpty() ) {
+			sb.append( " group by " );
+			StringTools.append( sb, groupBys.iterator(), ", " );
+		}
 		// orders
 		if ( !orders.isEmpty() ) {
 			sb.append( " order by " );
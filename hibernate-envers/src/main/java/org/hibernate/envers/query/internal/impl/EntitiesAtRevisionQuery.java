@@ -20,6 +20,7 @@ import org.hibernate.query.Query;
 
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REFERENCED_ENTITY_ALIAS;
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REFERENCED_ENTITY_ALIAS_DEF_AUD_STR;
+import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REVISION_END_TIMESTAMP_PARAMETER;
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REVISION_PARAMETER;
 
 /**
@@ -129,6 +130,9 @@ public class EntitiesAtRevisionQuery extends AbstractAuditQuery {
 		if ( params.contains( REVISION_PARAMETER ) ) {
 			query.setParameter( REVISION_PARAMETER, revision );
 		}
+		if ( params.contains( REVISION_END_TIMESTAMP_PARAMETER ) ) {
+			query.setParameter( REVISION_END_TIMESTAMP_PARAMETER, versionsReader.getRevisionEndTimestampLowerBound( revision ) );
+		}
 		List queryResult = query.list();
 		return applyProjections( queryResult, revision );
 	}
@@ -16,6 +16,7 @@ import org.hibernate.envers.internal.reader.AuditReaderImplementor;
 import org.hibernate.envers.query.criteria.AuditCriterion;
 import org.hibernate.query.Query;
 
+import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REVISION_END_TIMESTAMP_PARAMETER;
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REVISION_PARAMETER;
 
 /**
@@ -82,6 +83,9 @@ public class EntitiesModifiedAtRevisionQuery extends AbstractAuditQuery {
 		if ( params.contains( REVISION_PARAMETER ) ) {
 			query.setParameter( REVISION_PARAMETER, revision );
 		}
+		if ( params.contains( REVISION_END_TIMESTAMP_PARAMETER ) ) {
+			query.setParameter( REVISION_END_TIMESTAMP_PARAMETER, versionsReader.getRevisionEndTimestampLowerBound( revision ) );
+		}
 		List queryResult = query.list();
 		return applyProjections( queryResult, revision );
 	}
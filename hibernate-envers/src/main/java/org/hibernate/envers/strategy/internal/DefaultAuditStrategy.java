@@ -7,14 +7,16 @@
 package org.hibernate.envers.strategy.internal;
 
 import java.io.Serializable;
+import java.util.List;
 
 import org.hibernate.Session;
 import org.hibernate.envers.configuration.internal.AuditEntitiesConfiguration;
 import org.hibernate.envers.configuration.internal.GlobalConfiguration;
 import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
+import org.hibernate.envers.internal.entities.mapper.id.QueryParameterData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleComponentData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
-import org.hibernate.envers.internal.synchronization.SessionCacheCleaner;
+import org.hibernate.envers.internal.synchronization.AuditDataInserter;
 import org.hibernate.envers.internal.tools.query.Parameters;
 import org.hibernate.envers.internal.tools.query.QueryBuilder;
 import org.hibernate.envers.strategy.AuditStrategy;
@@ -32,10 +34,10 @@ import static org.hibernate.envers.internal.entities.mapper.relation.query.Query
  * @author Chris Cranford
  */
 public class DefaultAuditStrategy implements AuditStrategy {
-	private final SessionCacheCleaner sessionCacheCleaner;
+	private final AuditDataInserter auditDataInserter;
 
 	public DefaultAuditStrategy() {
-		sessionCacheCleaner = new SessionCacheCleaner();
+		auditDataInserter = new AuditDataInserter();
 	}
 
 	@Override
@@ -46,8 +48,12 @@ public class DefaultAuditStrategy implements AuditStrategy {
 			Serializable id,
 			Object data,
 			Object revision) {
-		session.save( auditEntitiesConfiguration.getAuditEntityName( entityName ), data );
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
+		auditDataInserter.insert(
+				session,
+				auditEntitiesConfiguration.getAuditEntityName( entityName ),
+				data,
+				auditEntitiesConfiguration
+		);
 	}
 
 	@Override
@@ -58,8 +64,12 @@ public class DefaultAuditStrategy implements AuditStrategy {
 			AuditEntitiesConfiguration auditEntitiesConfiguration,
 			PersistentCollectionChangeData persistentCollectionChangeData,
 			Object revision) {
-		session.save( persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData() );
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, persistentCollectionChangeData.getData() );
+		auditDataInserter.insert(
+				session,
+				persistentCollectionChangeData.getEntityName(),
+				persistentCollectionChangeData.getData(),
+				auditEntitiesConfiguration
+		);
 	}
 
 	/**
@@ -68,6 +78,11 @@ public class DefaultAuditStrategy implements AuditStrategy {
 	 * For this implementation, a subquery is used
 	 * <p>
 	 * {@code e.revision = (SELECT max(...)  ...}
+	 * <p>
+	 * or, if {@link GlobalConfiguration#isUseNonCorrelatedRevisionSubquery()}, a subquery which is not
+	 * correlated with the audit rows of the root query
+	 * <p>
+	 * {@code (e.id, e.revision) in (SELECT e2.id, max(e2.revision) ... GROUP BY e2.id)}
 	 */
 	@Override
 	public void addEntityAtRevisionRestriction(
@@ -83,6 +98,20 @@ public class DefaultAuditStrategy implements AuditStrategy {
 			String alias1,
 			String alias2,
 			boolean inclusive) {
+		if ( globalCfg.isUseNonCorrelatedRevisionSubquery() ) {
+			addNonCorrelatedEntityAtRevisionRestriction(
+					rootQueryBuilder,
+					parameters,
+					idData,
+					revisionPropertyPath,
+					originalIdPropertyName,
+					alias1,
+					alias2,
+					inclusive
+			);
+			return;
+		}
+
 		// create a subquery builder
 		// SELECT max(e.revision) FROM versionsReferencedEntity e2
 		QueryBuilder maxERevQb = rootQueryBuilder.newSubQueryBuilder( idData.getAuditEntityName(), alias2 );
@@ -102,6 +131,45 @@ public class DefaultAuditStrategy implements AuditStrategy {
 		parameters.addWhere( revisionProperty, addAlias, subqueryOperator, maxERevQb );
 	}
 
+	private void addNonCorrelatedEntityAtRevisionRestriction(
+			QueryBuilder rootQueryBuilder,
+			Parameters parameters,
+			MiddleIdData idData,
+			String revisionPropertyPath,
+			String originalIdPropertyName,
+			String alias1,
+			String alias2,
+			boolean inclusive) {
+		final List<QueryParameterData> idParameterDatas = idData.getOriginalMapper().mapToQueryParametersFromId( null );
+
+		// SELECT e2.id, max(e2.revision) FROM versionsReferencedEntity e2
+		final QueryBuilder maxERevQb = rootQueryBuilder.newSubQueryBuilder( idData.getAuditEntityName(), alias2 );
+		final String alias2OriginalIdPath = alias2 + "." + originalIdPropertyName;
+		for ( QueryParameterData idParameterData : idParameterDatas ) {
+			maxERevQb.addProjection( null, idParameterData.getProperty( alias2OriginalIdPath ), null, false );
+		}
+		maxERevQb.addProjection( "max", alias2, revisionPropertyPath, false );
+		// WHERE e2.revision <= :revision
+		maxERevQb.getRootParameters().addWhereWithNamedParam(
+				revisionPropertyPath,
+				inclusive ? "<=" : "<",
+				REVISION_PARAMETER
+		);
+		// GROUP BY e2.id
+		for ( QueryParameterData idParameterData : idParameterDatas ) {
+			maxERevQb.addGroupBy( null, idParameterData.getProperty( alias2OriginalIdPath ) );
+		}
+
+		// (e.id, e.revision) in (...)
+		final StringBuilder tuple = new StringBuilder( "(" );
+		final String alias1OriginalIdPath = alias1 + "." + originalIdPropertyName;
+		for ( QueryParameterData idParameterData : idParameterDatas ) {
+			tuple.append( idParameterData.getProperty( alias1OriginalIdPath ) ).append( ", " );
+		}
+		tuple.append( alias1 ).append( "." ).append( revisionPropertyPath ).append( ")" );
+		parameters.addWhere( tuple.toString(), false, "in", maxERevQb );
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
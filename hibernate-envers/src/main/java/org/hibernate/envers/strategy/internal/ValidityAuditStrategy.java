@@ -7,19 +7,25 @@
 package org.hibernate.envers.strategy.internal;
 
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.MIDDLE_ENTITY_ALIAS;
+import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REVISION_END_TIMESTAMP_PARAMETER;
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REVISION_PARAMETER;
 
 import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.dom4j.Element;
 import org.hibernate.LockOptions;
 import org.hibernate.Session;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -31,6 +37,7 @@ import org.hibernate.envers.internal.entities.PropertyData;
 import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleComponentData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
+import org.hibernate.envers.internal.synchronization.AuditDataInserter;
 import org.hibernate.envers.internal.synchronization.SessionCacheCleaner;
 import org.hibernate.envers.internal.tools.ReflectionTools;
 import org.hibernate.envers.internal.tools.query.Parameters;
@@ -38,10 +45,11 @@ import org.hibernate.envers.internal.tools.query.QueryBuilder;
 import org.hibernate.envers.strategy.AuditStrategy;
 import org.hibernate.envers.strategy.spi.MappingContext;
 import org.hibernate.event.spi.EventSource;
-import org.hibernate.jdbc.ReturningWork;
+import org.hibernate.jdbc.Work;
 import org.hibernate.persister.entity.Queryable;
 import org.hibernate.persister.entity.UnionSubclassEntityPersister;
 import org.hibernate.property.access.spi.Getter;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.sql.Update;
 import org.hibernate.type.CollectionType;
@@ -80,10 +88,20 @@ public class ValidityAuditStrategy implements AuditStrategy {
 	 */
 	private Getter revisionTimestampGetter;
 
+	/**
+	 * names of the end revision field and of its timestamp field, if queries restrict the latter
+	 */
+	private String revisionEndFieldName;
+	private String revisionEndTimestampRestrictionFieldName;
+
 	private final SessionCacheCleaner sessionCacheCleaner;
+	private final AuditDataInserter auditDataInserter;
+
+	private final Map<SharedSessionContractImplementor, RevisionEndUpdates> pendingRevisionEndUpdates = new ConcurrentHashMap<>();
 
 	public ValidityAuditStrategy() {
 		sessionCacheCleaner = new SessionCacheCleaner();
+		auditDataInserter = new AuditDataInserter();
 	}
 
 	@Override
@@ -112,6 +130,12 @@ public class ValidityAuditStrategy implements AuditStrategy {
 
 		mappingContext.getAuditEntityMapping().add( endRevMapping );
 
+		if ( mappingContext.getAuditEntityConfiguration().isRevisionEndTimestampPruningEnabled() ) {
+			revisionEndFieldName = mappingContext.getAuditEntityConfiguration().getRevisionEndFieldName();
+			revisionEndTimestampRestrictionFieldName = mappingContext.getAuditEntityConfiguration()
+					.getRevisionEndTimestampFieldName();
+		}
+
 		if ( mappingContext.getAuditEntityConfiguration().isRevisionEndTimestampEnabled() ) {
 			// add a column for the timestamp of the end revision
 			final String revisionInfoTimestampSqlType = TimestampType.INSTANCE.getName();
@@ -145,10 +169,9 @@ public class ValidityAuditStrategy implements AuditStrategy {
 			final Object data,
 			final Object revision) {
 		final String auditedEntityName = audEntitiesCfg.getAuditEntityName( entityName );
-		final String revisionInfoEntityName = audEntitiesCfg.getRevisionInfoEntityName();
 
 		// Save the audit data
-		session.save( auditedEntityName, data );
+		auditDataInserter.insert( session, auditedEntityName, data, audEntitiesCfg );
 
 		// Update the end date of the previous row.
 		//
@@ -158,131 +181,16 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		// reused, this guarantees correct strategy behavior: exactly one row with
 		// null end date exists for each identifier.
 		final boolean reuseEntityIdentifier = audEntitiesCfg.getEnversService().getGlobalConfiguration().isAllowIdentifierReuse();
-		if ( reuseEntityIdentifier || getRevisionType( audEntitiesCfg, data ) != RevisionType.ADD ) {
-			// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
-			( (EventSource) session ).getActionQueue().registerProcess( new BeforeTransactionCompletionProcess() {
-				@Override
-				public void doBeforeTransactionCompletion(final SessionImplementor sessionImplementor) {
-					final Queryable productionEntityQueryable = getQueryable( entityName, sessionImplementor );
-					final Queryable rootProductionEntityQueryable = getQueryable(
-							productionEntityQueryable.getRootEntityName(), sessionImplementor
-					);
-					final Queryable auditedEntityQueryable = getQueryable( auditedEntityName, sessionImplementor );
-					final Queryable rootAuditedEntityQueryable = getQueryable(
-							auditedEntityQueryable.getRootEntityName(), sessionImplementor
-					);
-
-					final String updateTableName;
-					if ( UnionSubclassEntityPersister.class.isInstance( rootProductionEntityQueryable ) ) {
-						// this is the condition causing all the problems in terms of the generated SQL UPDATE
-						// the problem being that we currently try to update the in-line view made up of the union query
-						//
-						// this is extremely hacky means to get the root table name for the union subclass style entities.
-						// hacky because it relies on internal behavior of UnionSubclassEntityPersister
-						// !!!!!! NOTICE - using subclass persister, not root !!!!!!
-						updateTableName = auditedEntityQueryable.getSubclassTableName( 0 );
-					}
-					else {
-						updateTableName = rootAuditedEntityQueryable.getTableName();
-					}
-
-					final Type revisionInfoIdType = sessionImplementor.getFactory().getMetamodel().entityPersister( revisionInfoEntityName ).getIdentifierType();
-					final String revEndColumnName = rootAuditedEntityQueryable.toColumns( audEntitiesCfg.getRevisionEndFieldName() )[0];
-
-					final boolean isRevisionEndTimestampEnabled = audEntitiesCfg.isRevisionEndTimestampEnabled();
-
-					// update audit_ent set REVEND = ? [, REVEND_TSTMP = ?] where (prod_ent_id) = ? and REV <> ? and REVEND is null
-					final Update update = new Update( sessionImplementor.getFactory().getJdbcServices().getDialect() ).setTableName( updateTableName );
-					// set REVEND = ?
-					update.addColumn( revEndColumnName );
-					// set [, REVEND_TSTMP = ?]
-					if ( isRevisionEndTimestampEnabled ) {
-						update.addColumn(
-								rootAuditedEntityQueryable.toColumns( audEntitiesCfg.getRevisionEndTimestampFieldName() )[0]
-						);
-					}
-
-					// where (prod_ent_id) = ?
-					update.addPrimaryKeyColumns( rootProductionEntityQueryable.getIdentifierColumnNames() );
-					// where REV <> ?
-					update.addWhereColumn(
-							rootAuditedEntityQueryable.toColumns( audEntitiesCfg.getRevisionNumberPath() )[0], "<> ?"
-					);
-					// where REVEND is null
-					update.addWhereColumn( revEndColumnName, " is null" );
-
-					// Now lets execute the sql...
-					final String updateSql = update.toStatementString();
-
-					int rowCount = sessionImplementor.doReturningWork(
-							new ReturningWork<Integer>() {
-								@Override
-								public Integer execute(Connection connection) throws SQLException {
-									PreparedStatement preparedStatement = sessionImplementor
-											.getJdbcCoordinator().getStatementPreparer().prepareStatement( updateSql );
-
-									try {
-										int index = 1;
-
-										// set REVEND = ?
-										final Number revisionNumber = audEntitiesCfg.getEnversService()
-												.getRevisionInfoNumberReader()
-												.getRevisionNumber( revision );
-
-										revisionInfoIdType.nullSafeSet(
-												preparedStatement, revisionNumber, index, sessionImplementor
-										);
-										index += revisionInfoIdType.getColumnSpan( sessionImplementor.getFactory() );
-
-										// set [, REVEND_TSTMP = ?]
-										if ( isRevisionEndTimestampEnabled ) {
-											final Object revEndTimestampObj = revisionTimestampGetter.get( revision );
-											final Date revisionEndTimestamp = convertRevEndTimestampToDate( revEndTimestampObj );
-											final Type revEndTsType = rootAuditedEntityQueryable.getPropertyType(
-													audEntitiesCfg.getRevisionEndTimestampFieldName()
-											);
-											revEndTsType.nullSafeSet(
-													preparedStatement, revisionEndTimestamp, index, sessionImplementor
-											);
-											index += revEndTsType.getColumnSpan( sessionImplementor.getFactory() );
-										}
-
-										// where (prod_ent_id) = ?
-										final Type idType = rootProductionEntityQueryable.getIdentifierType();
-										idType.nullSafeSet( preparedStatement, id, index, sessionImplementor );
-										index += idType.getColumnSpan( sessionImplementor.getFactory() );
-
-										// where REV <> ?
-										final Type revType = rootAuditedEntityQueryable.getPropertyType(
-												audEntitiesCfg.getRevisionNumberPath()
-										);
-										revType.nullSafeSet( preparedStatement, revisionNumber, index, sessionImplementor );
-
-										// where REVEND is null
-										// 		nothing to bind....
-
-										return sessionImplementor
-												.getJdbcCoordinator().getResultSetReturn().executeUpdate( preparedStatement );
-									}
-									finally {
-										sessionImplementor.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release(
-												preparedStatement
-										);
-										sessionImplementor.getJdbcCoordinator().afterStatementExecution();
-									}
-								}
-							}
-					);
-
-					if ( rowCount != 1 && ( !reuseEntityIdentifier || ( getRevisionType( audEntitiesCfg, data ) != RevisionType.ADD ) ) ) {
-						throw new RuntimeException(
-								"Cannot update previous revision for entity " + auditedEntityName + " and id " + id
-						);
-					}
-				}
-			} );
+		final boolean isAdd = getRevisionType( audEntitiesCfg, data ) == RevisionType.ADD;
+		if ( reuseEntityIdentifier || !isAdd ) {
+			// The update is executed by a transaction completion process to guarantee execution of UPDATE
+			// statement after INSERT.  All updates of the transaction are collected by a single process so
+			// that they can be executed as JDBC batches, one per audit table.
+			getRevisionEndUpdates( (EventSource) session ).add(
+					new RevisionEndUpdate( entityName, auditedEntityName, id, revision, !reuseEntityIdentifier || !isAdd ),
+					audEntitiesCfg
+			);
 		}
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
 	}
 
 	@Override
@@ -325,6 +233,8 @@ public class ValidityAuditStrategy implements AuditStrategy {
 
 		addEndRevisionNullRestriction( auditEntitiesConfiguration, qb.getRootParameters() );
 
+		// the previous row of the element may have been inserted directly during this flush
+		auditDataInserter.executePendingInserts( session, auditEntitiesConfiguration );
 		final List<Object> l = qb.toQuery( session ).setLockOptions( LockOptions.UPGRADE ).list();
 
 		// Update the last revision if one exists.
@@ -337,8 +247,12 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		}
 
 		// Save the audit data
-		session.save( persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData() );
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, persistentCollectionChangeData.getData() );
+		auditDataInserter.insert(
+				session,
+				persistentCollectionChangeData.getEntityName(),
+				persistentCollectionChangeData.getData(),
+				auditEntitiesConfiguration
+		);
 	}
 
 	/**
@@ -408,6 +322,20 @@ public class ValidityAuditStrategy implements AuditStrategy {
 				revisionEndProperty + ".id", addAlias, inclusive ? ">" : ">=", REVISION_PARAMETER
 		);
 		subParm.addWhere( revisionEndProperty, addAlias, "is", "null", false );
+
+		if ( revisionEndTimestampRestrictionFieldName != null ) {
+			// (e.endRevisionTimestamp >= _revisionEndTimestamp or e.endRevisionTimestamp is null), which is implied by
+			// the restriction above but lets the database prune partitions by the end revision timestamp
+			final String revisionEndTimestampProperty = revisionEndProperty.substring(
+					0,
+					revisionEndProperty.length() - revisionEndFieldName.length()
+			) + revisionEndTimestampRestrictionFieldName;
+			final Parameters timestampParm = rootParameters.addSubParameters( "or" );
+			timestampParm.addWhereWithNamedParam(
+					revisionEndTimestampProperty, addAlias, ">=", REVISION_END_TIMESTAMP_PARAMETER
+			);
+			timestampParm.addWhere( revisionEndTimestampProperty, addAlias, "is", "null", false );
+		}
 	}
 
 	@SuppressWarnings({"unchecked"})
@@ -495,4 +423,240 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		}
 		return false;
 	}
+
+	private RevisionEndUpdates getRevisionEndUpdates(EventSource session) {
+		RevisionEndUpdates revisionEndUpdates = pendingRevisionEndUpdates.get( session );
+		if ( revisionEndUpdates == null ) {
+			// No worries about registering a session twice - a session is single thread
+			revisionEndUpdates = new RevisionEndUpdates();
+			pendingRevisionEndUpdates.put( session, revisionEndUpdates );
+
+			session.getActionQueue().registerProcess( revisionEndUpdates );
+			session.getActionQueue().registerProcess(
+					new AfterTransactionCompletionProcess() {
+						@Override
+						public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
+							pendingRevisionEndUpdates.remove( session );
+						}
+					}
+			);
+		}
+		return revisionEndUpdates;
+	}
+
+	/**
+	 * An entity whose previous audit row must have its end-revision set.
+	 */
+	private static class RevisionEndUpdate {
+		private final String entityName;
+		private final String auditedEntityName;
+		private final Serializable id;
+		private final Object revision;
+		private final boolean previousRowRequired;
+
+		private RevisionEndUpdate(
+				String entityName,
+				String auditedEntityName,
+				Serializable id,
+				Object revision,
+				boolean previousRowRequired) {
+			this.entityName = entityName;
+			this.auditedEntityName = auditedEntityName;
+			this.id = id;
+			this.revision = revision;
+			this.previousRowRequired = previousRowRequired;
+		}
+	}
+
+	/**
+	 * Collects the end-revision updates of a transaction, grouped per audited entity, and executes each group
+	 * through a single prepared statement; batched when JDBC batching is enabled for the session.
+	 */
+	private class RevisionEndUpdates implements BeforeTransactionCompletionProcess {
+		private final Map<String, List<RevisionEndUpdate>> updatesByAuditedEntity = new LinkedHashMap<>();
+		private AuditEntitiesConfiguration audEntitiesCfg;
+
+		private void add(RevisionEndUpdate update, AuditEntitiesConfiguration audEntitiesCfg) {
+			this.audEntitiesCfg = audEntitiesCfg;
+			updatesByAuditedEntity.computeIfAbsent( update.auditedEntityName, k -> new ArrayList<>() ).add( update );
+		}
+
+		@Override
+		public void doBeforeTransactionCompletion(final SessionImplementor sessionImplementor) {
+			// any further changes are collected by a new process
+			pendingRevisionEndUpdates.remove( sessionImplementor );
+
+			for ( List<RevisionEndUpdate> updates : updatesByAuditedEntity.values() ) {
+				executeRevisionEndUpdates( sessionImplementor, audEntitiesCfg, updates );
+			}
+		}
+	}
+
+	private void executeRevisionEndUpdates(
+			final SessionImplementor sessionImplementor,
+			final AuditEntitiesConfiguration audEntitiesCfg,
+			final List<RevisionEndUpdate> updates) {
+		final String entityName = updates.get( 0 ).entityName;
+		final String auditedEntityName = updates.get( 0 ).auditedEntityName;
+		final String revisionInfoEntityName = audEntitiesCfg.getRevisionInfoEntityName();
+
+		final Queryable productionEntityQueryable = getQueryable( entityName, sessionImplementor );
+		final Queryable rootProductionEntityQueryable = getQueryable(
+				productionEntityQueryable.getRootEntityName(), sessionImplementor
+		);
+		final Queryable auditedEntityQueryable = getQueryable( auditedEntityName, sessionImplementor );
+		final Queryable rootAuditedEntityQueryable = getQueryable(
+				auditedEntityQueryable.getRootEntityName(), sessionImplementor
+		);
+
+		final String updateTableName;
+		if ( UnionSubclassEntityPersister.class.isInstance( rootProductionEntityQueryable ) ) {
+			// this is the condition causing all the problems in terms of the generated SQL UPDATE
+			// the problem being that we currently try to update the in-line view made up of the union query
+			//
+			// this is extremely hacky means to get the root table name for the union subclass style entities.
+			// hacky because it relies on internal behavior of UnionSubclassEntityPersister
+			// !!!!!! NOTICE - using subclass persister, not root !!!!!!
+			updateTableName = auditedEntityQueryable.getSubclassTableName( 0 );
+		}
+		else {
+			updateTableName = rootAuditedEntityQueryable.getTableName();
+		}
+
+		final Type revisionInfoIdType = sessionImplementor.getFactory().getMetamodel().entityPersister( revisionInfoEntityName ).getIdentifierType();
+		final String revEndColumnName = rootAuditedEntityQueryable.toColumns( audEntitiesCfg.getRevisionEndFieldName() )[0];
+
+		final boolean isRevisionEndTimestampEnabled = audEntitiesCfg.isRevisionEndTimestampEnabled();
+
+		// update audit_ent set REVEND = ? [, REVEND_TSTMP = ?] where (prod_ent_id) = ? and REV <> ? and REVEND is null
+		final Update update = new Update( sessionImplementor.getFactory().getJdbcServices().getDialect() ).setTableName( updateTableName );
+		// set REVEND = ?
+		update.addColumn( revEndColumnName );
+		// set [, REVEND_TSTMP = ?]
+		if ( isRevisionEndTimestampEnabled ) {
+			update.addColumn(
+					rootAuditedEntityQueryable.toColumns( audEntitiesCfg.getRevisionEndTimestampFieldName() )[0]
+			);
+		}
+
+		// where (prod_ent_id) = ?
+		update.addPrimaryKeyColumns( rootProductionEntityQueryable.getIdentifierColumnNames() );
+		// where REV <> ?
+		update.addWhereColumn(
+				rootAuditedEntityQueryable.toColumns( audEntitiesCfg.getRevisionNumberPath() )[0], "<> ?"
+		);
+		// where REVEND is null
+		update.addWhereColumn( revEndColumnName, " is null" );
+
+		// Now lets execute the sql...
+		final String updateSql = update.toStatementString();
+
+		final Integer configuredBatchSize = sessionImplementor.getConfiguredJdbcBatchSize();
+		final int batchSize = configuredBatchSize == null ? 1 : configuredBatchSize;
+
+		sessionImplementor.doWork(
+				new Work() {
+					@Override
+					public void execute(Connection connection) throws SQLException {
+						PreparedStatement preparedStatement = sessionImplementor
+								.getJdbcCoordinator().getStatementPreparer().prepareStatement( updateSql );
+
+						try {
+							int batchStart = 0;
+							for ( int position = 0; position < updates.size(); position++ ) {
+								final RevisionEndUpdate revisionEndUpdate = updates.get( position );
+								int index = 1;
+
+								// set REVEND = ?
+								final Number revisionNumber = audEntitiesCfg.getEnversService()
+										.getRevisionInfoNumberReader()
+										.getRevisionNumber( revisionEndUpdate.revision );
+
+								revisionInfoIdType.nullSafeSet(
+										preparedStatement, revisionNumber, index, sessionImplementor
+								);
+								index += revisionInfoIdType.getColumnSpan( sessionImplementor.getFactory() );
+
+								// set [, REVEND_TSTMP = ?]
+								if ( isRevisionEndTimestampEnabled ) {
+									final Object revEndTimestampObj = revisionTimestampGetter.get( revisionEndUpdate.revision );
+									final Date revisionEndTimestamp = convertRevEndTimestampToDate( revEndTimestampObj );
+									final Type revEndTsType = rootAuditedEntityQueryable.getPropertyType(
+											audEntitiesCfg.getRevisionEndTimestampFieldName()
+									);
+									revEndTsType.nullSafeSet(
+											preparedStatement, revisionEndTimestamp, index, sessionImplementor
+									);
+									index += revEndTsType.getColumnSpan( sessionImplementor.getFactory() );
+								}
+
+								// where (prod_ent_id) = ?
+								final Type idType = rootProductionEntityQueryable.getIdentifierType();
+								idType.nullSafeSet( preparedStatement, revisionEndUpdate.id, index, sessionImplementor );
+								index += idType.getColumnSpan( sessionImplementor.getFactory() );
+
+								// where REV <> ?
+								final Type revType = rootAuditedEntityQueryable.getPropertyType(
+										audEntitiesCfg.getRevisionNumberPath()
+								);
+								revType.nullSafeSet( preparedStatement, revisionNumber, index, sessionImplementor );
+
+								// where REVEND is null
+								// 		nothing to bind....
+
+								if ( batchSize > 1 ) {
+									preparedStatement.addBatch();
+									if ( position - batchStart + 1 == batchSize || position == updates.size() - 1 ) {
+										final int[] rowCounts = executeBatch( preparedStatement, sessionImplementor );
+										for ( int i = 0; i < rowCounts.length; i++ ) {
+											checkRowCount( rowCounts[i], updates.get( batchStart + i ) );
+										}
+										batchStart = position + 1;
+									}
+								}
+								else {
+									final int rowCount = sessionImplementor
+											.getJdbcCoordinator().getResultSetReturn().executeUpdate( preparedStatement );
+									checkRowCount( rowCount, revisionEndUpdate );
+								}
+							}
+						}
+						finally {
+							sessionImplementor.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release(
+									preparedStatement
+							);
+							sessionImplementor.getJdbcCoordinator().afterStatementExecution();
+						}
+					}
+				}
+		);
+	}
+
+	private int[] executeBatch(PreparedStatement preparedStatement, SessionImplementor sessionImplementor)
+			throws SQLException {
+		final JdbcObserver observer = sessionImplementor.getJdbcCoordinator()
+				.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getObserver();
+		try {
+			observer.jdbcExecuteBatchStart();
+			return preparedStatement.executeBatch();
+		}
+		finally {
+			observer.jdbcExecuteBatchEnd();
+		}
+	}
+
+	private void checkRowCount(int rowCount, RevisionEndUpdate revisionEndUpdate) {
+		if ( rowCount == Statement.SUCCESS_NO_INFO ) {
+			// the driver does not report the affected rows for batched statements
+			return;
+		}
+		if ( rowCount != 1 && revisionEndUpdate.previousRowRequired ) {
+			throw new RuntimeException(
+					"Cannot update previous revision for entity " + revisionEndUpdate.auditedEntityName
+							+ " and id " + revisionEndUpdate.id
+			);
+		}
+	}
 }
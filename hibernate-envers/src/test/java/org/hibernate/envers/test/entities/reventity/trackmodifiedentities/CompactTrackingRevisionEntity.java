@@ -0,0 +1,78 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.entities.reventity.trackmodifiedentities;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.envers.ModifiedEntityNames;
+import org.hibernate.envers.RevisionEntity;
+import org.hibernate.envers.RevisionNumber;
+import org.hibernate.envers.RevisionTimestamp;
+
+/**
+ * Sample revision entity that stores the modified entity names in a single column.
+ */
+@Entity
+@Table(name = "CompactTrackRevInfo")
+@GenericGenerator(name = "EnversTestingRevisionGenerator",
+				  strategy = "org.hibernate.id.enhanced.TableGenerator",
+				  parameters = {
+						  @Parameter(name = "table_name", value = "REVISION_GENERATOR"),
+						  @Parameter(name = "initial_value", value = "1"),
+						  @Parameter(name = "increment_size", value = "1"),
+						  @Parameter(name = "prefer_entity_table_as_segment_value", value = "true")
+				  }
+)
+@RevisionEntity
+public class CompactTrackingRevisionEntity {
+	@Id
+	@GeneratedValue(generator = "EnversTestingRevisionGenerator")
+	@RevisionNumber
+	private int customId;
+
+	@RevisionTimestamp
+	private long customTimestamp;
+
+	@Column(length = 1000)
+	@ModifiedEntityNames
+	private String entityNames;
+
+	public int getCustomId() {
+		return customId;
+	}
+
+	public void setCustomId(int customId) {
+		this.customId = customId;
+	}
+
+	public long getCustomTimestamp() {
+		return customTimestamp;
+	}
+
+	public void setCustomTimestamp(long customTimestamp) {
+		this.customTimestamp = customTimestamp;
+	}
+
+	public String getEntityNames() {
+		return entityNames;
+	}
+
+	public void setEntityNames(String entityNames) {
+		this.entityNames = entityNames;
+	}
+
+	@Override
+	public String toString() {
+		return "CompactTrackingRevisionEntity(customId = " + customId + ", customTimestamp = " + customTimestamp + ", entityNames=" + entityNames + ")";
+	}
+}
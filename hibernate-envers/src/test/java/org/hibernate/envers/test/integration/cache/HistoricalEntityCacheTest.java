@@ -0,0 +1,131 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.integration.cache;
+
+import java.util.Map;
+import javax.persistence.EntityManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.test.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.envers.test.Priority;
+import org.hibernate.envers.test.entities.StrIntTestEntity;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that historical entities read by one audit reader are instantiated from the shared cache by other
+ * readers, without accessing the database.
+ */
+public class HistoricalEntityCacheTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id;
+	private Integer otherId;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrIntTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.HISTORICAL_ENTITY_CACHE_ENABLED, "true" );
+		options.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		StrIntTestEntity entity = new StrIntTestEntity( "a", 1 );
+		em.persist( entity );
+		StrIntTestEntity other = new StrIntTestEntity( "x", 10 );
+		em.persist( other );
+		em.getTransaction().commit();
+
+		id = entity.getId();
+		otherId = other.getId();
+
+		// Revision 2
+		em.getTransaction().begin();
+		entity = em.find( StrIntTestEntity.class, id );
+		entity.setStr1( "b" );
+		entity.setNumber( 2 );
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.remove( em.find( StrIntTestEntity.class, id ) );
+		em.getTransaction().commit();
+
+		em.close();
+	}
+
+	@Test
+	public void testSharedBetweenReaders() {
+		assertEquals( new StrIntTestEntity( "a", 1, id ), newAuditReader().find( StrIntTestEntity.class, id, 1 ) );
+		assertEquals( new StrIntTestEntity( "b", 2, id ), newAuditReader().find( StrIntTestEntity.class, id, 2 ) );
+
+		final Statistics statistics = statistics();
+		statistics.clear();
+
+		final StrIntTestEntity rev1 = newAuditReader().find( StrIntTestEntity.class, id, 1 );
+		assertEquals( new StrIntTestEntity( "a", 1, id ), rev1 );
+		assertEquals( new StrIntTestEntity( "b", 2, id ), newAuditReader().find( StrIntTestEntity.class, id, 2 ) );
+		assertEquals( 0, statistics.getPrepareStatementCount() );
+
+		// the instances are not shared
+		rev1.setStr1( "changed" );
+		assertEquals( new StrIntTestEntity( "a", 1, id ), newAuditReader().find( StrIntTestEntity.class, id, 1 ) );
+	}
+
+	@Test
+	public void testDeletion() {
+		assertNull( newAuditReader().find( StrIntTestEntity.class, id, 3 ) );
+		assertNotNull( newAuditReader().find( StrIntTestEntity.class, StrIntTestEntity.class.getName(), id, 3, true ) );
+
+		final Statistics statistics = statistics();
+		statistics.clear();
+
+		// the deletion is known from the cached audit row
+		assertNull( newAuditReader().find( StrIntTestEntity.class, id, 3 ) );
+		assertNotNull( newAuditReader().find( StrIntTestEntity.class, StrIntTestEntity.class.getName(), id, 3, true ) );
+		assertEquals( 0, statistics.getPrepareStatementCount() );
+	}
+
+	@Test
+	public void testOnlyCachedAtOwnRevision() {
+		// the row of revision 1 is the one valid at revision 2
+		assertEquals( new StrIntTestEntity( "x", 10, otherId ), newAuditReader().find( StrIntTestEntity.class, otherId, 2 ) );
+
+		final Statistics statistics = statistics();
+		statistics.clear();
+
+		assertEquals( new StrIntTestEntity( "x", 10, otherId ), newAuditReader().find( StrIntTestEntity.class, otherId, 2 ) );
+		assertTrue( statistics.getPrepareStatementCount() > 0 );
+	}
+
+	private AuditReader newAuditReader() {
+		return AuditReaderFactory.get( createIsolatedEntityManager() );
+	}
+
+	private Statistics statistics() {
+		return entityManagerFactory().unwrap( SessionFactoryImplementor.class ).getStatistics();
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.integration.onetomany;
+
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.envers.test.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.envers.test.Priority;
+import org.hibernate.envers.test.entities.onetomany.SetRefEdEntity;
+import org.hibernate.envers.test.entities.onetomany.SetRefIngEntity;
+import org.hibernate.envers.test.tools.TestTools;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that the lazy relations of historical entities read at the same revision are loaded in batches.
+ */
+public class BasicSetBatchFetchTest extends BaseEnversJPAFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { SetRefEdEntity.class, SetRefIngEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.BATCH_FETCH_SIZE, "10" );
+		options.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		SetRefEdEntity ed1 = new SetRefEdEntity( 1, "data_ed_1" );
+		SetRefEdEntity ed2 = new SetRefEdEntity( 2, "data_ed_2" );
+		SetRefEdEntity ed3 = new SetRefEdEntity( 3, "data_ed_3" );
+		em.persist( ed1 );
+		em.persist( ed2 );
+		em.persist( ed3 );
+		em.persist( new SetRefIngEntity( 4, "data_ing_4", ed1 ) );
+		em.persist( new SetRefIngEntity( 5, "data_ing_5", ed1 ) );
+		em.persist( new SetRefIngEntity( 6, "data_ing_6", ed2 ) );
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.find( SetRefIngEntity.class, 6 ).setReference( em.find( SetRefEdEntity.class, 3 ) );
+		em.getTransaction().commit();
+
+		em.close();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testToOneRelationsLoadedInBatch() {
+		final List<SetRefIngEntity> ings = newAuditReader().createQuery()
+				.forEntitiesAtRevision( SetRefIngEntity.class, 2 )
+				.addOrder( AuditEntity.id().asc() )
+				.getResultList();
+		assertEquals( 3, ings.size() );
+
+		final Statistics statistics = statistics();
+		statistics.clear();
+
+		assertEquals( "data_ed_1", ings.get( 0 ).getReference().getData() );
+		assertEquals( "data_ed_1", ings.get( 1 ).getReference().getData() );
+		assertEquals( "data_ed_3", ings.get( 2 ).getReference().getData() );
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testCollectionsInitializedInBatch() {
+		final List<SetRefEdEntity> eds = newAuditReader().createQuery()
+				.forEntitiesAtRevision( SetRefEdEntity.class, 2 )
+				.addOrder( AuditEntity.id().asc() )
+				.getResultList();
+		assertEquals( 3, eds.size() );
+
+		final Statistics statistics = statistics();
+		statistics.clear();
+
+		assertEquals(
+				TestTools.makeSet( new SetRefIngEntity( 4, "data_ing_4" ), new SetRefIngEntity( 5, "data_ing_5" ) ),
+				eds.get( 0 ).getReffering()
+		);
+		assertEquals( 0, eds.get( 1 ).getReffering().size() );
+		assertEquals( TestTools.makeSet( new SetRefIngEntity( 6, "data_ing_6" ) ), eds.get( 2 ).getReffering() );
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+	}
+
+	@Test
+	public void testCollectionsAtEarlierRevision() {
+		final AuditReader auditReader = newAuditReader();
+		final SetRefEdEntity ed2 = auditReader.find( SetRefEdEntity.class, 2, 1 );
+		final SetRefEdEntity ed3 = auditReader.find( SetRefEdEntity.class, 3, 1 );
+
+		assertEquals( TestTools.makeSet( new SetRefIngEntity( 6, "data_ing_6" ) ), ed2.getReffering() );
+		assertEquals( 0, ed3.getReffering().size() );
+	}
+
+	private AuditReader newAuditReader() {
+		return AuditReaderFactory.get( createIsolatedEntityManager() );
+	}
+
+	private Statistics statistics() {
+		return entityManagerFactory().unwrap( SessionFactoryImplementor.class ).getStatistics();
+	}
+}
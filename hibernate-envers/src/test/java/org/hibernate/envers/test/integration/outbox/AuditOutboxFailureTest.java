@@ -0,0 +1,92 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.integration.outbox;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.EntityManager;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
+import org.hibernate.envers.test.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.envers.test.Priority;
+import org.hibernate.envers.test.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that an outbox row whose audit data cannot be written is marked as failed after the configured number
+ * of attempts, and no longer blocks the later revisions.
+ */
+public class AuditOutboxFailureTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.AUDIT_OUTBOX_ENABLED, "true" );
+		options.put( EnversSettings.AUDIT_OUTBOX_POLL_INTERVAL, "0" );
+		options.put( EnversSettings.AUDIT_OUTBOX_MAX_ATTEMPTS, "2" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		StrTestEntity entity = new StrTestEntity( "x" );
+		em.persist( entity );
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		entity = em.find( StrTestEntity.class, entity.getId() );
+		entity.setStr( "y" );
+		em.getTransaction().commit();
+
+		// Make the audit data of revision 1 unreadable
+		em.getTransaction().begin();
+		em.createQuery( "update " + AuditOutbox.ENTITY_NAME + " e set e.payload = :payload where e.revision = 1" )
+				.setParameter( "payload", new byte[] { 1, 2, 3 } )
+				.executeUpdate();
+		em.getTransaction().commit();
+
+		id = entity.getId();
+
+		em.close();
+	}
+
+	@Test
+	public void testFailedRowDoesNotBlockLaterRevisions() {
+		assertTrue( getAuditReader().awaitAuditOutbox( 10, TimeUnit.SECONDS ) );
+
+		assertEquals( Arrays.asList( 2 ), getAuditReader().getRevisions( StrTestEntity.class, id ) );
+
+		EntityManager em = getEntityManager();
+		try {
+			final Object[] failedRow = (Object[]) em.createQuery(
+					"select e.revision, e.attempts from " + AuditOutbox.ENTITY_NAME + " e where e.failed = true"
+			).getSingleResult();
+			assertEquals( 1L, failedRow[0] );
+			assertEquals( 2, failedRow[1] );
+		}
+		finally {
+			em.close();
+		}
+	}
+}
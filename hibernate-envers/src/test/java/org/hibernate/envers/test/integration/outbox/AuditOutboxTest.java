@@ -0,0 +1,82 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.integration.outbox;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.EntityManager;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.test.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.envers.test.Priority;
+import org.hibernate.envers.test.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that the audit data is kept in the outbox until it is drained, and then written to the audit tables.
+ * The background worker is disabled so that the outbox is only drained explicitly.
+ */
+public class AuditOutboxTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.AUDIT_OUTBOX_ENABLED, "true" );
+		options.put( EnversSettings.AUDIT_OUTBOX_POLL_INTERVAL, "0" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		StrTestEntity entity = new StrTestEntity( "x" );
+		em.persist( entity );
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		entity = em.find( StrTestEntity.class, entity.getId() );
+		entity.setStr( "y" );
+		em.getTransaction().commit();
+
+		id = entity.getId();
+
+		em.close();
+	}
+
+	@Test
+	@Priority(5)
+	public void testAuditDataIsPendingUntilDrained() {
+		assertTrue( getAuditReader().getRevisions( StrTestEntity.class, id ).isEmpty() );
+
+		assertTrue( getAuditReader().awaitAuditOutbox( 10, TimeUnit.SECONDS ) );
+
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( StrTestEntity.class, id ) );
+	}
+
+	@Test
+	public void testHistoryOfEntity() {
+		assertTrue( getAuditReader().awaitAuditOutbox( 10, TimeUnit.SECONDS ) );
+
+		assertEquals( "x", getAuditReader().find( StrTestEntity.class, id, 1 ).getStr() );
+		assertEquals( "y", getAuditReader().find( StrTestEntity.class, id, 2 ).getStr() );
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.integration.query;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManager;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.test.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.envers.test.Priority;
+import org.hibernate.envers.test.entities.StrIntTestEntity;
+import org.hibernate.envers.test.entities.ids.MulId;
+import org.hibernate.envers.test.entities.ids.MulIdTestEntity;
+import org.hibernate.envers.test.entities.onetomany.SetRefEdEntity;
+import org.hibernate.envers.test.entities.onetomany.SetRefIngEntity;
+import org.hibernate.envers.test.tools.TestTools;
+
+import org.hibernate.testing.DialectChecks;
+import org.hibernate.testing.RequiresDialectFeature;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the entities valid at a revision selected through the non-correlated revision subquery,
+ * for simple and composite identifiers and for relations.
+ */
+@RequiresDialectFeature(DialectChecks.SupportsRowValueConstructorSyntaxInInListCheck.class)
+public class NonCorrelatedRevisionSubqueryTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id1;
+	private Integer id2;
+	private MulId mulId;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] {
+				StrIntTestEntity.class,
+				MulIdTestEntity.class,
+				SetRefEdEntity.class,
+				SetRefIngEntity.class
+		};
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.USE_NON_CORRELATED_REVISION_SUBQUERY, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		StrIntTestEntity site1 = new StrIntTestEntity( "a", 10 );
+		StrIntTestEntity site2 = new StrIntTestEntity( "b", 5 );
+		em.persist( site1 );
+		em.persist( site2 );
+		mulId = new MulId( 1, 2 );
+		em.persist( new MulIdTestEntity( mulId.getId1(), mulId.getId2(), "x" ) );
+		SetRefEdEntity ed = new SetRefEdEntity( 1, "ed" );
+		em.persist( ed );
+		em.persist( new SetRefIngEntity( 2, "ing1", ed ) );
+		em.getTransaction().commit();
+
+		id1 = site1.getId();
+		id2 = site2.getId();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.find( StrIntTestEntity.class, id1 ).setStr1( "c" );
+		em.find( MulIdTestEntity.class, mulId ).setStr1( "y" );
+		em.persist( new SetRefIngEntity( 3, "ing2", em.find( SetRefEdEntity.class, 1 ) ) );
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.remove( em.find( StrIntTestEntity.class, id2 ) );
+		em.getTransaction().commit();
+
+		em.close();
+	}
+
+	@Test
+	public void testEntitiesAtRevision() {
+		assertEquals(
+				TestTools.makeSet( new StrIntTestEntity( "a", 10, id1 ), new StrIntTestEntity( "b", 5, id2 ) ),
+				new HashSet<>( entitiesAtRevision( 1 ) )
+		);
+		assertEquals(
+				TestTools.makeSet( new StrIntTestEntity( "c", 10, id1 ), new StrIntTestEntity( "b", 5, id2 ) ),
+				new HashSet<>( entitiesAtRevision( 2 ) )
+		);
+		assertEquals(
+				TestTools.makeSet( new StrIntTestEntity( "c", 10, id1 ) ),
+				new HashSet<>( entitiesAtRevision( 3 ) )
+		);
+	}
+
+	@Test
+	public void testCompositeIdentifier() {
+		assertEquals( "x", getAuditReader().find( MulIdTestEntity.class, mulId, 1 ).getStr1() );
+		assertEquals( "y", getAuditReader().find( MulIdTestEntity.class, mulId, 2 ).getStr1() );
+		assertEquals( "y", getAuditReader().find( MulIdTestEntity.class, mulId, 3 ).getStr1() );
+	}
+
+	@Test
+	public void testRelation() {
+		final SetRefEdEntity rev1 = getAuditReader().find( SetRefEdEntity.class, 1, 1 );
+		final SetRefEdEntity rev2 = getAuditReader().find( SetRefEdEntity.class, 1, 2 );
+
+		assertEquals( TestTools.makeSet( new SetRefIngEntity( 2, "ing1" ) ), rev1.getReffering() );
+		assertEquals(
+				TestTools.makeSet( new SetRefIngEntity( 2, "ing1" ), new SetRefIngEntity( 3, "ing2" ) ),
+				rev2.getReffering()
+		);
+		assertEquals( 2, getAuditReader().find( SetRefEdEntity.class, 1, 3 ).getReffering().size() );
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<StrIntTestEntity> entitiesAtRevision(int revision) {
+		return getAuditReader().createQuery().forEntitiesAtRevision( StrIntTestEntity.class, revision ).getResultList();
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.integration.reventity.trackmodifiedentities;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.test.entities.reventity.trackmodifiedentities.CompactTrackingRevisionEntity;
+import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.mapping.Table;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * Tests proper behavior of a revision entity that stores the modified entity names in a single
+ * {@code String} column instead of a separate table.
+ */
+public class CompactTrackingEntitiesTest extends DefaultTrackingEntitiesTest {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return ArrayHelper.join( super.getAnnotatedClasses(), CompactTrackingRevisionEntity.class );
+	}
+
+	@Override
+	public void addConfigOptions(Map configuration) {
+		super.addConfigOptions( configuration );
+		configuration.put( EnversSettings.TRACK_ENTITIES_CHANGED_IN_REVISION, "false" );
+		configuration.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	@Override
+	public void testRevEntityTableCreation() {
+		for ( Table table : metadata().collectTableMappings() ) {
+			assertNotEquals( "REVCHANGES", table.getName() );
+		}
+	}
+
+	@Test
+	public void testFindEntitiesGroupByRevisionTypeQueryCount() {
+		final Statistics statistics = entityManagerFactory().unwrap( SessionFactoryImplementor.class ).getStatistics();
+		statistics.clear();
+
+		final Map<RevisionType, List<Object>> result = AuditReaderFactory.get( createIsolatedEntityManager() )
+				.getCrossTypeRevisionChangesReader()
+				.findEntitiesGroupByRevisionType( 3 );
+		assertEquals( 2, result.get( RevisionType.DEL ).size() );
+
+		// One query for the revision entity, one for each of the two modified entity types.
+		assertEquals( 3, statistics.getPrepareStatementCount() );
+	}
+}
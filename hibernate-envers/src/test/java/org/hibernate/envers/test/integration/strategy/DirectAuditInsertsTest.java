@@ -0,0 +1,103 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.integration.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManager;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.test.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.envers.test.Priority;
+import org.hibernate.envers.test.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the audit rows inserted directly through the audit entity persisters, in JDBC batches,
+ * together with the end-revision updates of the validity strategy.
+ */
+public class DirectAuditInsertsTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int ENTITY_COUNT = 7;
+
+	private final List<Integer> ids = new ArrayList<>();
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.USE_DIRECT_AUDIT_INSERTS, "true" );
+		options.put( EnversSettings.AUDIT_STRATEGY, "org.hibernate.envers.strategy.internal.ValidityAuditStrategy" );
+		options.put( AvailableSettings.STATEMENT_BATCH_SIZE, "3" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			StrTestEntity entity = new StrTestEntity( "a" + i );
+			em.persist( entity );
+			ids.add( entity.getId() );
+		}
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		for ( Integer id : ids ) {
+			em.find( StrTestEntity.class, id ).setStr( "b" + id );
+		}
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.remove( em.find( StrTestEntity.class, ids.get( 0 ) ) );
+		em.getTransaction().commit();
+
+		em.close();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StrTestEntity.class, ids.get( 0 ) ) );
+		for ( Integer id : ids.subList( 1, ENTITY_COUNT ) ) {
+			assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( StrTestEntity.class, id ) );
+		}
+	}
+
+	@Test
+	public void testHistoryOfEntities() {
+		for ( int i = 0; i < ids.size(); i++ ) {
+			final Integer id = ids.get( i );
+			assertEquals( "a" + i, getAuditReader().find( StrTestEntity.class, id, 1 ).getStr() );
+			assertEquals( "b" + id, getAuditReader().find( StrTestEntity.class, id, 2 ).getStr() );
+		}
+	}
+
+	@Test
+	public void testEndRevisionsAreSet() {
+		final Session session = getEntityManager().unwrap( Session.class );
+		final Long openRows = (Long) session.createQuery(
+				"select count(e) from " + StrTestEntity.class.getName() + "_AUD e where e.REVEND is null"
+		).uniqueResult();
+		// the latest row of each entity, including the deletion
+		assertEquals( ENTITY_COUNT, openRows.intValue() );
+	}
+}
@@ -0,0 +1,18 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.integration.strategy;
+
+/**
+ * Checks that the end revision timestamps of {@link org.hibernate.envers.strategy.ValidityAuditStrategy} queries
+ * are not restricted when the pruning is disabled.
+ */
+public class ValidityAuditStrategyRevEndTsNoPruningTest extends ValidityAuditStrategyRevEndTsPruningTest {
+	@Override
+	protected boolean isRevisionEndTimestampPruningEnabled() {
+		return false;
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.integration.strategy;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.envers.test.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.envers.test.Priority;
+import org.hibernate.envers.test.entities.onetomany.SetRefEdEntity;
+import org.hibernate.envers.test.entities.onetomany.SetRefIngEntity;
+import org.hibernate.envers.test.tools.TestTools;
+
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Checks that the end revision timestamps of {@link ValidityAuditStrategy} queries are restricted, and that the
+ * restriction does not change their results, including for revisions committed within the same second.
+ */
+public class ValidityAuditStrategyRevEndTsPruningTest extends BaseEnversJPAFunctionalTestCase {
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { SetRefEdEntity.class, SetRefIngEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.AUDIT_STRATEGY, ValidityAuditStrategy.class.getName() );
+		options.put( EnversSettings.AUDIT_STRATEGY_VALIDITY_STORE_REVEND_TIMESTAMP, "true" );
+		options.put(
+				EnversSettings.AUDIT_STRATEGY_VALIDITY_REVEND_TIMESTAMP_PRUNING,
+				Boolean.toString( isRevisionEndTimestampPruningEnabled() )
+		);
+		sqlStatementInterceptor = new SQLStatementInterceptor( options );
+	}
+
+	protected boolean isRevisionEndTimestampPruningEnabled() {
+		return true;
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		SetRefEdEntity ed = new SetRefEdEntity( 1, "data_1" );
+		em.persist( ed );
+		em.persist( new SetRefIngEntity( 2, "data_ing", ed ) );
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.find( SetRefEdEntity.class, 1 ).setData( "data_2" );
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.find( SetRefIngEntity.class, 2 ).setReference( null );
+		em.getTransaction().commit();
+
+		em.close();
+	}
+
+	@Test
+	public void testHistoryOfEntity() {
+		final AuditReader auditReader = AuditReaderFactory.get( createIsolatedEntityManager() );
+		sqlStatementInterceptor.clear();
+
+		assertEquals( "data_1", auditReader.find( SetRefEdEntity.class, 1, 1 ).getData() );
+		assertEquals( "data_2", auditReader.find( SetRefEdEntity.class, 1, 2 ).getData() );
+		assertEquals( "data_2", auditReader.find( SetRefEdEntity.class, 1, 3 ).getData() );
+		assertRevisionEndTimestampRestriction( "SetRefEdEntity_AUD" );
+	}
+
+	@Test
+	public void testHistoryOfCollection() {
+		final AuditReader auditReader = AuditReaderFactory.get( createIsolatedEntityManager() );
+		final SetRefEdEntity ed2 = auditReader.find( SetRefEdEntity.class, 1, 2 );
+		final SetRefEdEntity ed3 = auditReader.find( SetRefEdEntity.class, 1, 3 );
+		sqlStatementInterceptor.clear();
+
+		assertEquals( TestTools.makeSet( new SetRefIngEntity( 2, "data_ing" ) ), ed2.getReffering() );
+		assertEquals( Collections.emptySet(), ed3.getReffering() );
+		assertRevisionEndTimestampRestriction( "SetRefIngEntity_AUD" );
+	}
+
+	@Test
+	public void testEntitiesAtRevision() {
+		final AuditReader auditReader = AuditReaderFactory.get( createIsolatedEntityManager() );
+		sqlStatementInterceptor.clear();
+
+		assertEquals( 1, auditReader.createQuery().forEntitiesAtRevision( SetRefEdEntity.class, 1 ).getResultList().size() );
+		assertRevisionEndTimestampRestriction( "SetRefEdEntity_AUD" );
+
+		sqlStatementInterceptor.clear();
+		assertEquals( 1, auditReader.createQuery().forEntitiesAtRevision( SetRefIngEntity.class, 3 ).getResultList().size() );
+		assertRevisionEndTimestampRestriction( "SetRefIngEntity_AUD" );
+	}
+
+	/**
+	 * Asserts that the queries of the given audit table executed since the interceptor was last cleared restrict
+	 * the end revision timestamp if, and only if, the pruning is enabled.
+	 */
+	private void assertRevisionEndTimestampRestriction(String auditTableName) {
+		final List<String> auditQueries = sqlStatementInterceptor.getSqlQueries().stream()
+				.map( sql -> sql.toLowerCase( Locale.ROOT ).replaceAll( "\\s", "" ) )
+				.filter( sql -> sql.contains( auditTableName.toLowerCase( Locale.ROOT ) ) )
+				.collect( Collectors.toList() );
+		assertFalse( "No query of " + auditTableName + " executed", auditQueries.isEmpty() );
+		for ( String sql : auditQueries ) {
+			assertEquals( sql, isRevisionEndTimestampPruningEnabled(), sql.contains( "revend_tstmp>=?" ) );
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.performance;
+
+import java.io.IOException;
+import java.util.Properties;
+import javax.persistence.EntityManager;
+
+import org.hibernate.cfg.Environment;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.test.entities.StrTestEntity;
+
+import org.junit.Ignore;
+
+/**
+ * Compares the commit time of transactions auditing many changes, with the audit rows saved into the
+ * persistence context and with the audit rows inserted directly.
+ */
+@Ignore
+public class DirectAuditInsertsPerformance extends AbstractEntityManagerTest {
+	private static final int[] NUMBER_OF_CHANGES = { 1000, 10000 };
+	private static final int NUMBER_OF_RUNS = 5;
+
+	private boolean directAuditInserts;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] {StrTestEntity.class};
+	}
+
+	@Override
+	public void addConfigurationProperties(Properties configuration) {
+		configuration.setProperty( Environment.STATEMENT_BATCH_SIZE, "50" );
+		configuration.setProperty( EnversSettings.USE_DIRECT_AUDIT_INSERTS, Boolean.toString( directAuditInserts ) );
+	}
+
+	private long commitTime(int numberOfChanges) {
+		EntityManager entityManager = getEntityManager();
+		entityManager.getTransaction().begin();
+		for ( int i = 0; i < numberOfChanges; i++ ) {
+			entityManager.persist( new StrTestEntity( "x" + i ) );
+		}
+		entityManager.flush();
+
+		// the audit rows are written when the transaction completes
+		long start = System.currentTimeMillis();
+		entityManager.getTransaction().commit();
+		long time = System.currentTimeMillis() - start;
+
+		newEntityManager();
+		return time;
+	}
+
+	private long run(boolean directAuditInserts, int numberOfChanges) throws IOException {
+		this.directAuditInserts = directAuditInserts;
+		init( true, null );
+
+		// the first run warms up
+		commitTime( numberOfChanges );
+		long total = 0;
+		for ( int i = 0; i < NUMBER_OF_RUNS; i++ ) {
+			total += commitTime( numberOfChanges );
+		}
+
+		close();
+		return total / NUMBER_OF_RUNS;
+	}
+
+	public void test() throws IOException {
+		for ( int numberOfChanges : NUMBER_OF_CHANGES ) {
+			long persistenceContext = run( false, numberOfChanges );
+			long direct = run( true, numberOfChanges );
+
+			System.out.println( "Audited changes: " + numberOfChanges );
+			System.out.println( "  Persistence context: " + persistenceContext + " ms" );
+			System.out.println( "               Direct: " + direct + " ms" );
+			System.out.println( "               Factor: " + (double) persistenceContext / direct );
+			System.out.println();
+		}
+	}
+
+	public static void main(String[] args) throws IOException {
+		new DirectAuditInsertsPerformance().test();
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.test.performance;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import javax.persistence.EntityManager;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.test.entities.StrTestEntity;
+
+import org.junit.Ignore;
+
+/**
+ * Compares the time of "entities at revision" queries over a synthetic audit history, with the correlated
+ * and with the non-correlated revision subquery of the default audit strategy.
+ */
+@Ignore
+public class EntitiesAtRevisionQueryPerformance extends AbstractEntityManagerTest {
+	private static final int NUMBER_OF_ENTITIES = 2000;
+	private static final int NUMBER_OF_REVISIONS = 100;
+	private static final int NUMBER_OF_QUERIES = 20;
+
+	private boolean nonCorrelatedRevisionSubquery;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] {StrTestEntity.class};
+	}
+
+	@Override
+	public void addConfigurationProperties(Properties configuration) {
+		configuration.setProperty(
+				EnversSettings.USE_NON_CORRELATED_REVISION_SUBQUERY,
+				Boolean.toString( nonCorrelatedRevisionSubquery )
+		);
+	}
+
+	private void createHistory() {
+		EntityManager entityManager = getEntityManager();
+
+		// Revision 1
+		entityManager.getTransaction().begin();
+		List<StrTestEntity> entities = new ArrayList<>();
+		for ( int i = 0; i < NUMBER_OF_ENTITIES; i++ ) {
+			StrTestEntity entity = new StrTestEntity( "x" );
+			entityManager.persist( entity );
+			entities.add( entity );
+		}
+		entityManager.getTransaction().commit();
+
+		// Revisions 2 ... n, each changing every tenth entity
+		for ( int revision = 2; revision <= NUMBER_OF_REVISIONS; revision++ ) {
+			entityManager.getTransaction().begin();
+			for ( int i = revision % 10; i < entities.size(); i += 10 ) {
+				entities.get( i ).setStr( "x" + revision );
+			}
+			entityManager.getTransaction().commit();
+		}
+
+		newEntityManager();
+	}
+
+	private long run(boolean nonCorrelatedRevisionSubquery) throws IOException {
+		this.nonCorrelatedRevisionSubquery = nonCorrelatedRevisionSubquery;
+		init( true, null );
+		createHistory();
+
+		long start = System.currentTimeMillis();
+		for ( int i = 0; i < NUMBER_OF_QUERIES; i++ ) {
+			int revision = 1 + ( i * NUMBER_OF_REVISIONS / NUMBER_OF_QUERIES );
+			getAuditReader().createQuery().forEntitiesAtRevision( StrTestEntity.class, revision ).getResultList();
+		}
+		long time = System.currentTimeMillis() - start;
+
+		close();
+		return time;
+	}
+
+	public void test() throws IOException {
+		long correlated = run( false );
+		long nonCorrelated = run( true );
+
+		System.out.println( "Audit rows: " + ( NUMBER_OF_ENTITIES + ( NUMBER_OF_REVISIONS - 1 ) * NUMBER_OF_ENTITIES / 10 ) );
+		System.out.println( "     Correlated: " + correlated + " ms" );
+		System.out.println( " Non-correlated: " + nonCorrelated + " ms" );
+		System.out.println( "         Factor: " + (double) correlated / nonCorrelated );
+	}
+
+	public static void main(String[] args) throws IOException {
+		new EntitiesAtRevisionQueryPerformance().test();
+	}
+}
@@ -27,6 +27,12 @@ public class HibernateSpatialConfigurationSettings implements Serializable {
 	 */
 	public static final String DB2_DEFAULT_SRID = "hibernate.spatial.db2.srid";
 
+	/**
+	 * Whether the Postgis dialects bind and extract geometries as (EWKB) byte arrays instead of hex-encoded
+	 * strings. Defaults to false.
+	 */
+	public static final String POSTGIS_BINARY_WKB = "hibernate.spatial.postgis.binary_wkb";
+
 	private HibernateSpatialConfigurationSettings() {
 		//prevent this object from being instantiated
 	}
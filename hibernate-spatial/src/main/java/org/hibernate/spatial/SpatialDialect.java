@@ -99,4 +99,40 @@ public interface SpatialDialect extends Serializable {
 	 */
 	boolean supports(SpatialFunction function);
 
+	/**
+	 * Returns true if the database only uses a spatial index for the spatial relation functions if the
+	 * bounding-box filter of {@link #getSpatialFilterExpression(String)} is applied as well.
+	 *
+	 * @return True if spatial relations are to be prefiltered on the bounding boxes of the geometries
+	 */
+	default boolean requiresSpatialRelatePrefilter() {
+		return false;
+	}
+
+	/**
+	 * Returns the SQL fragment for the SQL WHERE-clause when parsing
+	 * <code>org.hibernatespatial.criterion.SpatialRelateExpression</code>s into prepared statements, with
+	 * the bounding-box filter applied ahead of the exact relation if this dialect
+	 * {@link #requiresSpatialRelatePrefilter() requires it}.
+	 * <p/>
+	 * The filter is only applied to relations which imply that the bounding boxes intersect, i.e. all
+	 * relations except <code>SpatialRelation.DISJOINT</code>.
+	 *
+	 * @param columnName The name of the geometry-typed column to which the relation is
+	 * applied
+	 * @param spatialRelation The type of spatial relation (as defined in
+	 * <code>SpatialRelation</code>).
+	 *
+	 * @return SQL fragment for the {@code SpatialRelateExpression}, or null if no filter is applied, in which
+	 * case {@link #getSpatialRelateSQL(String, int)} is used. The fragment has two parameters, both to be bound
+	 * to the search geometry.
+	 */
+	default String getPrefilteredSpatialRelateSQL(String columnName, int spatialRelation) {
+		if ( !requiresSpatialRelatePrefilter() || spatialRelation == SpatialRelation.DISJOINT ) {
+			return null;
+		}
+		return "(" + getSpatialFilterExpression( columnName ) + " and "
+				+ getSpatialRelateSQL( columnName, spatialRelation ) + ")";
+	}
+
 }
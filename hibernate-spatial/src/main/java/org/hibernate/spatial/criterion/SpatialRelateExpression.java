@@ -54,7 +54,12 @@ public class SpatialRelateExpression implements Criterion {
 
 	@Override
 	public TypedValue[] getTypedValues(Criteria criteria, CriteriaQuery criteriaQuery) throws HibernateException {
-		return new TypedValue[] { criteriaQuery.getTypedValue( criteria, propertyName, value ) };
+		final TypedValue typedValue = criteriaQuery.getTypedValue( criteria, propertyName, value );
+		if ( getPrefilteredSql( criteria, criteriaQuery ) != null ) {
+			// the search geometry is bound to both the bounding-box filter and the relation
+			return new TypedValue[] { typedValue, typedValue };
+		}
+		return new TypedValue[] { typedValue };
 	}
 
 	@Override
@@ -64,11 +69,21 @@ public class SpatialRelateExpression implements Criterion {
 		final Dialect dialect = factory.getDialect();
 		if ( dialect instanceof SpatialDialect ) {
 			final SpatialDialect seDialect = (SpatialDialect) dialect;
-			return seDialect.getSpatialRelateSQL( columns[0], spatialRelation );
+			final String prefilteredSql = seDialect.getPrefilteredSpatialRelateSQL( columns[0], spatialRelation );
+			return prefilteredSql != null ? prefilteredSql : seDialect.getSpatialRelateSQL( columns[0], spatialRelation );
 		}
 		else {
 			throw new IllegalStateException( "Dialect must be spatially enabled dialect" );
 		}
 	}
 
+	private String getPrefilteredSql(Criteria criteria, CriteriaQuery criteriaQuery) {
+		final Dialect dialect = criteriaQuery.getFactory().getDialect();
+		if ( !( dialect instanceof SpatialDialect ) ) {
+			return null;
+		}
+		final String[] columns = criteriaQuery.getColumnsUsingProjection( criteria, this.propertyName );
+		return ( (SpatialDialect) dialect ).getPrefilteredSpatialRelateSQL( columns[0], spatialRelation );
+	}
+
 }
@@ -145,6 +145,11 @@ public class MySQL56SpatialDialect extends MySQL55Dialect implements SpatialDial
 		return dialectDelegate.supportsFiltering();
 	}
 
+	@Override
+	public boolean requiresSpatialRelatePrefilter() {
+		return dialectDelegate.requiresSpatialRelatePrefilter();
+	}
+
 	@Override
 	public boolean supports(SpatialFunction function) {
 		return dialectDelegate.supports( function );
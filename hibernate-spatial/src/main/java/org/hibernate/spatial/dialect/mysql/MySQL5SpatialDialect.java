@@ -92,6 +92,11 @@ public class MySQL5SpatialDialect extends MySQL5Dialect implements SpatialDialec
 		return dialectDelegate.supportsFiltering();
 	}
 
+	@Override
+	public boolean requiresSpatialRelatePrefilter() {
+		return dialectDelegate.requiresSpatialRelatePrefilter();
+	}
+
 	@Override
 	public boolean supports(SpatialFunction function) {
 		return dialectDelegate.supports( function );
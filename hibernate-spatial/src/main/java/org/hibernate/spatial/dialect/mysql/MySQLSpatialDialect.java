@@ -112,6 +112,12 @@ public class MySQLSpatialDialect extends MySQLDialect implements SpatialDialect
 		return false;
 	}
 
+	@Override
+	public boolean requiresSpatialRelatePrefilter() {
+		// the relation functions don't use the spatial index by themselves
+		return true;
+	}
+
 	@Override
 	public boolean supports(SpatialFunction function) {
 		switch ( function ) {
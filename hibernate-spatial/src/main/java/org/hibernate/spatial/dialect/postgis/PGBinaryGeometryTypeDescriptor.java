@@ -0,0 +1,150 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.spatial.dialect.postgis;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.ValueExtractor;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+import org.hibernate.type.descriptor.sql.BasicBinder;
+import org.hibernate.type.descriptor.sql.BasicExtractor;
+import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
+
+import org.geolatte.geom.ByteBuffer;
+import org.geolatte.geom.ByteOrder;
+import org.geolatte.geom.Geometry;
+import org.geolatte.geom.codec.Wkb;
+import org.geolatte.geom.codec.WkbDecoder;
+import org.geolatte.geom.codec.WkbEncoder;
+import org.geolatte.geom.codec.Wkt;
+
+/**
+ * Type Descriptor for the Postgis Geometry type, binding and extracting the geometries as byte arrays rather
+ * than as hex-encoded {@code PGobject} strings.
+ * <p>
+ * Geometries are bound as EWKB {@code bytea} values, which Postgis casts implicitly to {@code geometry}. Values
+ * are extracted through {@code ResultSet#getBytes}, which returns the raw EWKB bytes when the geometry is
+ * transferred in binary form, or the hex-encoded EWKB (or EWKT) characters otherwise; the latter are decoded
+ * directly, without first building a {@code String}.
+ */
+public class PGBinaryGeometryTypeDescriptor implements SqlTypeDescriptor {
+
+	/**
+	 * An instance of this class
+	 */
+	public static final PGBinaryGeometryTypeDescriptor INSTANCE = new PGBinaryGeometryTypeDescriptor();
+
+	/**
+	 * Decodes the bytes of a Postgis geometry value
+	 *
+	 * @param bytes Raw EWKB, hex-encoded EWKB or EWKT bytes
+	 *
+	 * @return The {@code Geometry}, or null if bytes is null
+	 */
+	public static Geometry<?> toGeometry(byte[] bytes) {
+		if ( bytes == null ) {
+			return null;
+		}
+		if ( bytes.length > 0 && ( bytes[0] == 0 || bytes[0] == 1 ) ) {
+			//we have a raw WKB because the value starts with the bit-order byte
+			return decode( bytes );
+		}
+		if ( bytes.length > 1 && bytes[0] == '0' && ( bytes[1] == '0' || bytes[1] == '1' ) ) {
+			//we have a hex-encoded WKB because the value starts with the bit-order byte
+			return decode( fromHex( bytes ) );
+		}
+		return Wkt.newDecoder( Wkt.Dialect.POSTGIS_EWKT_1 ).decode( new String( bytes, StandardCharsets.US_ASCII ) );
+	}
+
+	private static Geometry<?> decode(byte[] wkb) {
+		final WkbDecoder decoder = Wkb.newDecoder( Wkb.Dialect.POSTGIS_EWKB_1 );
+		return decoder.decode( ByteBuffer.from( wkb ) );
+	}
+
+	private static byte[] fromHex(byte[] hex) {
+		final byte[] bytes = new byte[hex.length / 2];
+		for ( int i = 0; i < bytes.length; i++ ) {
+			bytes[i] = (byte) ( ( hexValue( hex[2 * i] ) << 4 ) | hexValue( hex[2 * i + 1] ) );
+		}
+		return bytes;
+	}
+
+	private static int hexValue(byte c) {
+		if ( c >= '0' && c <= '9' ) {
+			return c - '0';
+		}
+		if ( c >= 'A' && c <= 'F' ) {
+			return c - 'A' + 10;
+		}
+		if ( c >= 'a' && c <= 'f' ) {
+			return c - 'a' + 10;
+		}
+		throw new IllegalArgumentException( "Invalid hex character in geometry value: " + (char) c );
+	}
+
+	@Override
+	public int getSqlType() {
+		return Types.OTHER;
+	}
+
+	@Override
+	public boolean canBeRemapped() {
+		return false;
+	}
+
+	@Override
+	public <X> ValueBinder<X> getBinder(final JavaTypeDescriptor<X> javaTypeDescriptor) {
+		return new BasicBinder<X>( javaTypeDescriptor, this ) {
+			@Override
+			protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options)
+					throws SQLException {
+				st.setBytes( index, toBytes( value, options ) );
+			}
+
+			@Override
+			protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
+					throws SQLException {
+				st.setBytes( name, toBytes( value, options ) );
+			}
+
+			private byte[] toBytes(X value, WrapperOptions options) {
+				final WkbEncoder encoder = Wkb.newEncoder( Wkb.Dialect.POSTGIS_EWKB_1 );
+				final Geometry geometry = getJavaDescriptor().unwrap( value, Geometry.class, options );
+				return encoder.encode( geometry, ByteOrder.NDR ).toByteArray();
+			}
+		};
+	}
+
+	@Override
+	public <X> ValueExtractor<X> getExtractor(final JavaTypeDescriptor<X> javaTypeDescriptor) {
+		return new BasicExtractor<X>( javaTypeDescriptor, this ) {
+
+			@Override
+			protected X doExtract(ResultSet rs, String name, WrapperOptions options) throws SQLException {
+				return getJavaDescriptor().wrap( toGeometry( rs.getBytes( name ) ), options );
+			}
+
+			@Override
+			protected X doExtract(CallableStatement statement, int index, WrapperOptions options) throws SQLException {
+				return getJavaDescriptor().wrap( toGeometry( statement.getBytes( index ) ), options );
+			}
+
+			@Override
+			protected X doExtract(CallableStatement statement, String name, WrapperOptions options)
+					throws SQLException {
+				return getJavaDescriptor().wrap( toGeometry( statement.getBytes( name ) ), options );
+			}
+		};
+	}
+}
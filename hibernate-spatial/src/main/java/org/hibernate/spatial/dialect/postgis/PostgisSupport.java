@@ -9,15 +9,19 @@ package org.hibernate.spatial.dialect.postgis;
 import java.io.Serializable;
 
 import org.hibernate.boot.model.TypeContributions;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.spatial.GeolatteGeometryJavaTypeDescriptor;
 import org.hibernate.spatial.GeolatteGeometryType;
+import org.hibernate.spatial.HibernateSpatialConfigurationSettings;
 import org.hibernate.spatial.JTSGeometryJavaTypeDescriptor;
 import org.hibernate.spatial.JTSGeometryType;
 import org.hibernate.spatial.SpatialAggregate;
 import org.hibernate.spatial.SpatialDialect;
 import org.hibernate.spatial.SpatialFunction;
 import org.hibernate.spatial.SpatialRelation;
+import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
 
 /**
  * Created by Karel Maesen, Geovise BVBA on 29/10/16.
@@ -28,13 +32,24 @@ public class PostgisSupport implements SpatialDialect, Serializable {
 	private PostgisFunctions postgisFunctions = new PostgisFunctions();
 
 	void contributeTypes(TypeContributions typeContributions, ServiceRegistry serviceRegistry) {
-		typeContributions.contributeType( new GeolatteGeometryType( PGGeometryTypeDescriptor.INSTANCE ) );
-		typeContributions.contributeType( new JTSGeometryType( PGGeometryTypeDescriptor.INSTANCE ) );
+		final SqlTypeDescriptor typeDescriptor = mkGeometryTypeDescriptor( serviceRegistry );
+		typeContributions.contributeType( new GeolatteGeometryType( typeDescriptor ) );
+		typeContributions.contributeType( new JTSGeometryType( typeDescriptor ) );
 
 		typeContributions.contributeJavaTypeDescriptor( GeolatteGeometryJavaTypeDescriptor.INSTANCE );
 		typeContributions.contributeJavaTypeDescriptor( JTSGeometryJavaTypeDescriptor.INSTANCE );
 	}
 
+	private SqlTypeDescriptor mkGeometryTypeDescriptor(ServiceRegistry serviceRegistry) {
+		final ConfigurationService cfgService = serviceRegistry.getService( ConfigurationService.class );
+		final boolean binaryWkb = cfgService.getSetting(
+				HibernateSpatialConfigurationSettings.POSTGIS_BINARY_WKB,
+				StandardConverters.BOOLEAN,
+				false
+		);
+		return binaryWkb ? PGBinaryGeometryTypeDescriptor.INSTANCE : PGGeometryTypeDescriptor.INSTANCE;
+	}
+
 	public PostgisFunctions functionsToRegister() {
 		return postgisFunctions;
 	}
@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.spatial.dialect.postgis;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import org.geolatte.geom.ByteOrder;
+import org.geolatte.geom.G2D;
+import org.geolatte.geom.Geometry;
+import org.geolatte.geom.codec.Wkb;
+import org.geolatte.geom.codec.Wkt;
+import org.geolatte.geom.crs.CoordinateReferenceSystem;
+import org.geolatte.geom.crs.CoordinateReferenceSystems;
+
+import static org.geolatte.geom.builder.DSL.g;
+import static org.geolatte.geom.builder.DSL.linestring;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the decoding of the Postgis geometry values extracted as byte arrays
+ */
+public class PostgisBinaryUnmarshalTest {
+
+	private CoordinateReferenceSystem<G2D> crs = CoordinateReferenceSystems.WGS84;
+	private Geometry<G2D> geom = linestring( crs, g( 6.123, 53.234 ), g( 6.133, 53.244 ) );
+
+	@Test
+	public void testRawWkbNDR() {
+		testCase( Wkb.toWkb( geom, ByteOrder.NDR ).toByteArray() );
+	}
+
+	@Test
+	public void testRawWkbXDR() {
+		testCase( Wkb.toWkb( geom, ByteOrder.XDR ).toByteArray() );
+	}
+
+	@Test
+	public void testHexWkbNDR() {
+		testCase( ascii( Wkb.toWkb( geom, ByteOrder.NDR ).toString() ) );
+	}
+
+	@Test
+	public void testHexWkbXDR() {
+		testCase( ascii( Wkb.toWkb( geom, ByteOrder.XDR ).toString() ) );
+	}
+
+	@Test
+	public void testLowerCaseHexWkb() {
+		testCase( ascii( Wkb.toWkb( geom, ByteOrder.NDR ).toString().toLowerCase() ) );
+	}
+
+	@Test
+	public void testWktWithSrid() {
+		testCase( ascii( Wkt.toWkt( geom ) ) );
+	}
+
+	@Test
+	public void testNull() {
+		assertNull( PGBinaryGeometryTypeDescriptor.toGeometry( null ) );
+	}
+
+	private void testCase(byte[] value) {
+		assertEquals( geom, PGBinaryGeometryTypeDescriptor.toGeometry( value ) );
+	}
+
+	private static byte[] ascii(String value) {
+		return value.getBytes( StandardCharsets.US_ASCII );
+	}
+
+}